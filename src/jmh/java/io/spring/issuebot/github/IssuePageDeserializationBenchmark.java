@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmark that compares the time taken to deserialize a page of issues using reflective
+ * binding with the time taken when the Blackbird module is registered. Run with
+ * {@code ./gradlew jmh}, optionally using {@code -PjmhIncludes} to select benchmarks.
+ * Allocation rates can be compared by adding the {@code gc} profiler.
+ *
+ * @author Andy Wilkinson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IssuePageDeserializationBenchmark {
+
+	private static final int ISSUES_PER_PAGE = 100;
+
+	@Param({ "reflection", "blackbird" })
+	private String binding;
+
+	private ObjectMapper objectMapper;
+
+	private byte[] page;
+
+	@Setup
+	public void setUp() {
+		this.objectMapper = ("blackbird".equals(this.binding)) ? GitHubTemplate.createObjectMapper()
+				: Jackson2ObjectMapperBuilder.json().build();
+		this.page = createPage().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public Issue[] readPage() throws IOException {
+		return this.objectMapper.readValue(this.page, Issue[].class);
+	}
+
+	private static String createPage() {
+		StringBuilder page = new StringBuilder("[");
+		for (int i = 1; i <= ISSUES_PER_PAGE; i++) {
+			if (i > 1) {
+				page.append(",");
+			}
+			String url = "https://api.github.com/repos/spring-projects/spring-boot/issues/" + i;
+			page.append("{\"url\":\"").append(url).append("\",");
+			page.append("\"comments_url\":\"").append(url).append("/comments\",");
+			page.append("\"events_url\":\"").append(url).append("/events\",");
+			page.append("\"labels_url\":\"").append(url).append("/labels{/name}\",");
+			page.append("\"number\":").append(i).append(",");
+			page.append("\"title\":\"Issue ").append(i).append("\",");
+			page.append("\"state\":\"open\",");
+			page.append("\"user\":{\"login\":\"user-").append(i % 10).append("\",\"id\":").append(i).append("},");
+			page.append("\"labels\":[{\"name\":\"type: bug\",\"color\":\"e3d9fc\"},");
+			page.append("{\"name\":\"status: waiting-for-triage\",\"color\":\"fef2c0\"}],");
+			page.append("\"milestone\":{\"title\":\"3.5.x\",\"number\":42},");
+			page.append("\"created_at\":\"2026-01-01T00:00:00Z\",");
+			page.append("\"updated_at\":\"2026-01-02T00:00:00Z\",");
+			page.append("\"body\":\"").append("Lorem ipsum dolor sit amet. ".repeat(20)).append("\"}");
+		}
+		return page.append("]").toString();
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.Page;
+import io.spring.issuebot.sharding.RepositorySharding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * A one-shot pass over all of the open issues of a set of repositories. Repositories are
+ * processed concurrently and a {@link Checkpoint} is recorded after each page of issues
+ * so that an interrupted backfill resumes where it left off. Work is limited to a
+ * {@link QuotaShare share of the quota} so that regular monitoring can continue
+ * alongside the backfill. Only repositories whose lease is held by this instance are
+ * backfilled and the backfill of a repository is abandoned, leaving its checkpoint in
+ * place, once its lease is lost.
+ *
+ * @author Andy Wilkinson
+ */
+final class Backfill {
+
+	private static final Logger log = LoggerFactory.getLogger(Backfill.class);
+
+	private final GitHubOperations gitHub;
+
+	private final MonitoredRepositories monitoredRepositories;
+
+	private final List<Repository> repositories;
+
+	private final IssueDispatcher issueDispatcher;
+
+	private final CheckpointStore checkpoints;
+
+	private final QuotaShare quotaShare;
+
+	private final RepositorySharding sharding;
+
+	private final String runId;
+
+	private final int concurrency;
+
+	/**
+	 * Creates a new {@code Backfill}.
+	 * @param gitHub the GitHub operations
+	 * @param monitoredRepositories the monitored repositories
+	 * @param repositories the monitored repositories to backfill or an empty list to
+	 * backfill all of them
+	 * @param issueDispatcher the dispatcher for the repositories' open issues, shared with
+	 * regular monitoring so that an issue is never handled twice at once
+	 * @param checkpoints the store for the checkpoints of each repository
+	 * @param quotaShare the share of the quota available to the backfill
+	 * @param sharding the sharding of repositories between instances
+	 * @param runId the ID of the run, used to distinguish its checkpoints from those of
+	 * other runs
+	 * @param concurrency the number of repositories to backfill concurrently
+	 */
+	Backfill(GitHubOperations gitHub, MonitoredRepositories monitoredRepositories, List<Repository> repositories,
+			IssueDispatcher issueDispatcher, CheckpointStore checkpoints, QuotaShare quotaShare,
+			RepositorySharding sharding, String runId, int concurrency) {
+		this.gitHub = gitHub;
+		this.monitoredRepositories = monitoredRepositories;
+		this.repositories = repositories;
+		this.issueDispatcher = issueDispatcher;
+		this.checkpoints = checkpoints;
+		this.quotaShare = quotaShare;
+		this.sharding = sharding;
+		this.runId = runId;
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Runs the backfill, blocking until every repository has been processed.
+	 * Repositories whose lease is held by another instance are left to that instance.
+	 * @return {@code true} if the backfill of every repository whose lease is held by this
+	 * instance is complete, otherwise {@code false}
+	 */
+	boolean run() {
+		List<Repository> monitored = this.monitoredRepositories.getRepositories();
+		List<Repository> held = this.sharding.claim(monitored);
+		ExecutorService executor = Executors.newFixedThreadPool(this.concurrency,
+				new CustomizableThreadFactory("backfill-"));
+		try {
+			List<CompletableFuture<Boolean>> backfills = new ArrayList<>();
+			for (Repository repository : (this.repositories.isEmpty()) ? monitored : this.repositories) {
+				if (!monitored.contains(repository)) {
+					log.warn("Skipping backfill of {}/{} as it is not monitored", repository.getOrganization(),
+							repository.getName());
+					continue;
+				}
+				if (!held.contains(repository)) {
+					log.info("Skipping backfill of {}/{} as its lease is not held", repository.getOrganization(),
+							repository.getName());
+					continue;
+				}
+				backfills.add(CompletableFuture.supplyAsync(() -> backfill(repository), executor));
+			}
+			return backfills.stream().map(CompletableFuture::join).reduce(true, Boolean::logicalAnd);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private boolean backfill(Repository repository) {
+		String key = this.runId + "/" + repository.getOrganization() + "/" + repository.getName();
+		Checkpoint checkpoint = this.checkpoints.load(key);
+		if (checkpoint != null && checkpoint.isComplete()) {
+			log.info("Backfill of {}/{} is already {}", repository.getOrganization(), repository.getName(),
+					checkpoint);
+			return true;
+		}
+		int pages = (checkpoint != null) ? checkpoint.getPages() : 0;
+		int failures = 0;
+		try {
+			awaitQuota(repository);
+			Page<Issue> page = (checkpoint != null && checkpoint.getNextPageUrl() != null)
+					? this.gitHub.getIssuePage(checkpoint.getNextPageUrl())
+					: this.gitHub.getIssues(repository.getOrganization(), repository.getName());
+			log.info("Backfilling {}/{} from {}", repository.getOrganization(), repository.getName(),
+					(checkpoint != null) ? checkpoint : "the first page");
+			while (page != null) {
+				if (!this.sharding.isHeld(repository)) {
+					log.info("Abandoning backfill of {}/{} after {} pages as its lease is no longer held",
+							repository.getOrganization(), repository.getName(), pages);
+					return false;
+				}
+				List<CompletableFuture<Boolean>> dispatched = new ArrayList<>();
+				for (Issue issue : page.getContent()) {
+					awaitQuota(repository);
+					dispatched.add(this.issueDispatcher.dispatch(repository, issue));
+				}
+				for (CompletableFuture<Boolean> result : dispatched) {
+					if (!result.join()) {
+						failures++;
+					}
+				}
+				pages++;
+				awaitQuota(repository);
+				page = page.next();
+				this.checkpoints.save(key, (page != null) ? new Checkpoint(this.runId, page.getUrl(), pages, false)
+						: new Checkpoint(this.runId, null, pages, true));
+			}
+			log.info("Backfill of {}/{} completed after {} pages. {} issues were not handled successfully",
+					repository.getOrganization(), repository.getName(), pages, failures);
+			return true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			log.info("Backfill of {}/{} interrupted after {} pages", repository.getOrganization(),
+					repository.getName(), pages);
+		}
+		catch (Exception ex) {
+			log.warn("A failure occurred during backfill of {}/{} after {} pages", repository.getOrganization(),
+					repository.getName(), pages, ex);
+		}
+		return false;
+	}
+
+	private void awaitQuota(Repository repository) throws InterruptedException {
+		Duration wait = this.quotaShare.requiredWait(repository.getOrganization());
+		if (!wait.isZero()) {
+			log.info("Backfill of {}/{} has used its share of the quota. Waiting {} for the rate limit to reset",
+					repository.getOrganization(), repository.getName(), wait);
+			Thread.sleep(wait.toMillis());
+		}
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Clock;
+
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.sharding.RepositorySharding;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration for a one-shot {@link Backfill}, activated using the {@code backfill}
+ * profile.
+ *
+ * @author Andy Wilkinson
+ */
+@Configuration
+@Profile("backfill")
+@EnableConfigurationProperties(BackfillProperties.class)
+class BackfillConfiguration {
+
+	@Bean
+	ApplicationRunner backfillRunner(GitHubOperations gitHub, MonitoredRepositories monitoredRepositories,
+			BackfillProperties backfillProperties, IssueDispatcher issueDispatcher,
+			RepositorySharding repositorySharding, ApplicationContext applicationContext, Clock clock) {
+		return (args) -> {
+			boolean complete = new Backfill(gitHub, monitoredRepositories, backfillProperties.getRepositories(),
+					issueDispatcher, new FileCheckpointStore(backfillProperties.getCheckpointDirectory().toPath()),
+					new QuotaShare(gitHub, backfillProperties.getQuotaShare(), clock), repositorySharding,
+					backfillProperties.getRunId(), backfillProperties.getRepositoryConcurrency())
+				.run();
+			if (backfillProperties.isExitOnCompletion()) {
+				System.exit(SpringApplication.exit(applicationContext, () -> (complete) ? 0 : 1));
+			}
+		};
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties for configuring a backfill of all of the open issues of a set of
+ * repositories.
+ *
+ * @author Andy Wilkinson
+ */
+@ConfigurationProperties(prefix = "issuebot.backfill")
+public class BackfillProperties {
+
+	/**
+	 * ID of the backfill run. A backfill resumes from the checkpoints of a previous run
+	 * with the same ID.
+	 */
+	private String runId = "backfill";
+
+	/**
+	 * Monitored repositories to backfill. When empty, all monitored repositories are
+	 * backfilled.
+	 */
+	private List<Repository> repositories = new ArrayList<>();
+
+	/**
+	 * Directory in which checkpoints are stored.
+	 */
+	private File checkpointDirectory = new File("checkpoints");
+
+	/**
+	 * Number of repositories that are backfilled concurrently.
+	 */
+	private int repositoryConcurrency = 4;
+
+	/**
+	 * Share of each organization's rate limit, between 0 and 1, that the backfill may
+	 * use. The remainder is left for regular monitoring.
+	 */
+	private double quotaShare = 0.5;
+
+	/**
+	 * Whether the application should exit once the backfill has completed.
+	 */
+	private boolean exitOnCompletion = true;
+
+	public String getRunId() {
+		return this.runId;
+	}
+
+	public void setRunId(String runId) {
+		this.runId = runId;
+	}
+
+	public List<Repository> getRepositories() {
+		return this.repositories;
+	}
+
+	public void setRepositories(List<Repository> repositories) {
+		this.repositories = repositories;
+	}
+
+	public File getCheckpointDirectory() {
+		return this.checkpointDirectory;
+	}
+
+	public void setCheckpointDirectory(File checkpointDirectory) {
+		this.checkpointDirectory = checkpointDirectory;
+	}
+
+	public int getRepositoryConcurrency() {
+		return this.repositoryConcurrency;
+	}
+
+	public void setRepositoryConcurrency(int repositoryConcurrency) {
+		this.repositoryConcurrency = repositoryConcurrency;
+	}
+
+	public double getQuotaShare() {
+		return this.quotaShare;
+	}
+
+	public void setQuotaShare(double quotaShare) {
+		this.quotaShare = quotaShare;
+	}
+
+	public boolean isExitOnCompletion() {
+		return this.exitOnCompletion;
+	}
+
+	public void setExitOnCompletion(boolean exitOnCompletion) {
+		this.exitOnCompletion = exitOnCompletion;
+	}
+
+}
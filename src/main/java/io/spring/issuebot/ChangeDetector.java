@@ -0,0 +1,241 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.Label;
+
+/**
+ * Detects changes to issues between monitoring passes so that issues that have not
+ * changed since they were last successfully dispatched are not dispatched again. A
+ * compact fingerprint of each issue's last update time, state, milestone and labels is
+ * kept per repository. Issues in which a listener has registered a time-based interest
+ * are dispatched again once that time has passed.
+ *
+ * @author Andy Wilkinson
+ */
+class ChangeDetector implements RevisitRegistry {
+
+	private final Map<Repository, RepositoryState> repositoryStates = new ConcurrentHashMap<>();
+
+	private final boolean enabled;
+
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@code ChangeDetector}.
+	 * @param enabled whether change detection is enabled. When disabled, every issue is
+	 * dispatched on every pass
+	 * @param clock the clock used to determine when a revisit is due
+	 */
+	ChangeDetector(boolean enabled, Clock clock) {
+		this.enabled = enabled;
+		this.clock = clock;
+	}
+
+	/**
+	 * Starts a pass over the open issues of the given {@code repository}.
+	 * @param repository the repository
+	 * @return the pass
+	 */
+	Pass startPass(Repository repository) {
+		return new Pass(this.repositoryStates.computeIfAbsent(repository, (key) -> new RepositoryState()));
+	}
+
+	/**
+	 * Returns the number of issues in the given {@code repository} for which a
+	 * fingerprint is held.
+	 * @param repository the repository
+	 * @return the number of fingerprints
+	 */
+	int size(Repository repository) {
+		RepositoryState state = this.repositoryStates.get(repository);
+		return (state != null) ? state.fingerprints.size() : 0;
+	}
+
+	/**
+	 * Discards the state that is held for the given {@code repositories}, typically
+	 * because they are no longer being monitored.
+	 * @param repositories the repositories
+	 */
+	void forget(Collection<Repository> repositories) {
+		repositories.forEach(this.repositoryStates::remove);
+	}
+
+	@Override
+	public void revisitAt(Repository repository, Issue issue, OffsetDateTime time) {
+		if (this.enabled && issue.getUrl() != null) {
+			this.repositoryStates.computeIfAbsent(repository, (key) -> new RepositoryState()).revisits
+				.put(issue.getUrl(), time.toInstant());
+		}
+	}
+
+	static long fingerprint(Issue issue) {
+		long fingerprint = 17;
+		fingerprint = 31 * fingerprint
+				+ ((issue.getUpdatedAt() != null) ? issue.getUpdatedAt().toInstant().toEpochMilli() : 0);
+		fingerprint = 31 * fingerprint + Objects.hashCode(issue.getState());
+		fingerprint = 31 * fingerprint
+				+ ((issue.getMilestone() != null) ? Objects.hashCode(issue.getMilestone().getTitle()) : 0);
+		List<Label> labels = issue.getLabels();
+		if (labels != null) {
+			fingerprint = 31 * fingerprint + labels.stream()
+				.map(Label::getName)
+				.sorted()
+				.mapToLong(Objects::hashCode)
+				.reduce(0, (hash, name) -> 31 * hash + name);
+		}
+		return fingerprint;
+	}
+
+	private static final class RepositoryState {
+
+		private final Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+
+		private final Map<String, Instant> revisits = new ConcurrentHashMap<>();
+
+	}
+
+	/**
+	 * A pass over the open issues of a repository.
+	 */
+	final class Pass {
+
+		private final Set<String> seen = ConcurrentHashMap.newKeySet();
+
+		private final Map<String, Instant> dueRevisits = new ConcurrentHashMap<>();
+
+		private final RepositoryState state;
+
+		private int dispatched;
+
+		private int skipped;
+
+		private int deferred;
+
+		private Pass(RepositoryState state) {
+			this.state = state;
+		}
+
+		/**
+		 * Returns whether the given {@code issue} should be dispatched as it is new, has
+		 * changed, or is due to be revisited.
+		 * @param issue the issue
+		 * @return {@code true} if the issue should be dispatched, otherwise {@code false}
+		 */
+		boolean requiresDispatch(Issue issue) {
+			String url = issue.getUrl();
+			if (!ChangeDetector.this.enabled || url == null) {
+				this.dispatched++;
+				return true;
+			}
+			this.seen.add(url);
+			Long fingerprint = this.state.fingerprints.get(url);
+			if (fingerprint == null || fingerprint != fingerprint(issue) || revisitDue(url)) {
+				this.dispatched++;
+				return true;
+			}
+			this.skipped++;
+			return false;
+		}
+
+		private boolean revisitDue(String url) {
+			Instant revisit = this.state.revisits.get(url);
+			if (revisit != null && !revisit.isAfter(ChangeDetector.this.clock.instant())) {
+				this.dueRevisits.put(url, revisit);
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Returns the time at which the given {@code issue} became due to be revisited,
+		 * or {@code null} if it does not require dispatch because of a revisit.
+		 * @param issue the issue
+		 * @return the revisit time or {@code null}
+		 */
+		Instant getDueRevisit(Issue issue) {
+			return (issue.getUrl() != null) ? this.dueRevisits.get(issue.getUrl()) : null;
+		}
+
+		/**
+		 * Records that the given {@code issue}, which requires dispatch, has been
+		 * deferred to a later pass. Its state is left untouched so that it will require
+		 * dispatch again.
+		 * @param issue the issue
+		 */
+		void deferred(Issue issue) {
+			this.dispatched--;
+			this.deferred++;
+		}
+
+		/**
+		 * Records that the given {@code issue} has been dispatched.
+		 * @param issue the issue
+		 * @param success whether every listener handled the issue successfully
+		 */
+		void dispatched(Issue issue, boolean success) {
+			String url = issue.getUrl();
+			if (!ChangeDetector.this.enabled || url == null) {
+				return;
+			}
+			if (success) {
+				this.state.fingerprints.put(url, fingerprint(issue));
+				Instant dueRevisit = this.dueRevisits.remove(url);
+				if (dueRevisit != null) {
+					this.state.revisits.remove(url, dueRevisit);
+				}
+			}
+			else {
+				this.state.fingerprints.remove(url);
+			}
+		}
+
+		/**
+		 * Completes the pass, discarding the state of any issues that were not seen as
+		 * they are no longer open.
+		 */
+		void complete() {
+			this.state.fingerprints.keySet().retainAll(this.seen);
+			this.state.revisits.keySet().retainAll(this.seen);
+		}
+
+		int getDispatched() {
+			return this.dispatched;
+		}
+
+		int getSkipped() {
+			return this.skipped;
+		}
+
+		int getDeferred() {
+			return this.deferred;
+		}
+
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+/**
+ * A durable record of how far the processing of a repository's issues has progressed.
+ *
+ * @author Andy Wilkinson
+ */
+final class Checkpoint {
+
+	private final String runId;
+
+	private final String nextPageUrl;
+
+	private final int pages;
+
+	private final boolean complete;
+
+	/**
+	 * Creates a new {@code Checkpoint}.
+	 * @param runId the ID of the run that recorded the checkpoint
+	 * @param nextPageUrl the URL of the next page that should be processed or
+	 * {@code null} if processing has completed
+	 * @param pages the number of pages that have been processed
+	 * @param complete whether processing has completed
+	 */
+	Checkpoint(String runId, String nextPageUrl, int pages, boolean complete) {
+		this.runId = runId;
+		this.nextPageUrl = nextPageUrl;
+		this.pages = pages;
+		this.complete = complete;
+	}
+
+	String getRunId() {
+		return this.runId;
+	}
+
+	String getNextPageUrl() {
+		return this.nextPageUrl;
+	}
+
+	int getPages() {
+		return this.pages;
+	}
+
+	boolean isComplete() {
+		return this.complete;
+	}
+
+	@Override
+	public String toString() {
+		return (this.complete) ? "complete after " + this.pages + " pages"
+				: this.pages + " pages processed, next " + this.nextPageUrl;
+	}
+
+}
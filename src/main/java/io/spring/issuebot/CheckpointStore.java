@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+/**
+ * A store of {@link Checkpoint checkpoints}.
+ *
+ * @author Andy Wilkinson
+ */
+interface CheckpointStore {
+
+	/**
+	 * Returns the checkpoint with the given {@code key}.
+	 * @param key the key of the checkpoint
+	 * @return the checkpoint or {@code null} if there is no such checkpoint
+	 */
+	Checkpoint load(String key);
+
+	/**
+	 * Saves the given {@code checkpoint} with the given {@code key}, replacing any
+	 * existing checkpoint with the same key.
+	 * @param key the key of the checkpoint
+	 * @param checkpoint the checkpoint
+	 */
+	void save(String key, Checkpoint checkpoint);
+
+	/**
+	 * Removes the checkpoint with the given {@code key}, if any.
+	 * @param key the key of the checkpoint
+	 */
+	void remove(String key);
+
+}
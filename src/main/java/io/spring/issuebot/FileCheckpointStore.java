@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * A {@link CheckpointStore} that stores each checkpoint in its own properties file in a
+ * directory. A checkpoint is written to a temporary file that is synced to disk and
+ * then atomically moved into place so that a crash never leaves a partially written
+ * checkpoint behind.
+ *
+ * @author Andy Wilkinson
+ */
+final class FileCheckpointStore implements CheckpointStore {
+
+	private final Path directory;
+
+	/**
+	 * Creates a new {@code FileCheckpointStore} that will store checkpoints in the given
+	 * {@code directory}.
+	 * @param directory the directory
+	 */
+	FileCheckpointStore(Path directory) {
+		this.directory = directory;
+	}
+
+	@Override
+	public Checkpoint load(String key) {
+		Path file = file(key);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream input = Files.newInputStream(file)) {
+			properties.load(input);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to load checkpoint '" + key + "' from " + file, ex);
+		}
+		return new Checkpoint(properties.getProperty("run-id"), properties.getProperty("next-page-url"),
+				Integer.parseInt(properties.getProperty("pages", "0")),
+				Boolean.parseBoolean(properties.getProperty("complete")));
+	}
+
+	@Override
+	public void save(String key, Checkpoint checkpoint) {
+		Properties properties = new Properties();
+		properties.setProperty("key", key);
+		setIfNotNull(properties, "run-id", checkpoint.getRunId());
+		setIfNotNull(properties, "next-page-url", checkpoint.getNextPageUrl());
+		properties.setProperty("pages", Integer.toString(checkpoint.getPages()));
+		properties.setProperty("complete", Boolean.toString(checkpoint.isComplete()));
+		Path file = file(key);
+		try {
+			Files.createDirectories(this.directory);
+			Path temp = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+			try (FileOutputStream output = new FileOutputStream(temp.toFile())) {
+				properties.store(output, null);
+				output.getFD().sync();
+			}
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to save checkpoint '" + key + "' to " + file, ex);
+		}
+	}
+
+	@Override
+	public void remove(String key) {
+		Path file = file(key);
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to remove checkpoint '" + key + "' from " + file, ex);
+		}
+	}
+
+	private Path file(String key) {
+		return this.directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".properties");
+	}
+
+	private static void setIfNotNull(Properties properties, String name, String value) {
+		if (value != null) {
+			properties.setProperty(name, value);
+		}
+	}
+
+}
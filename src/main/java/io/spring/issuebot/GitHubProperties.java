@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2019 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,10 @@
 
 package io.spring.issuebot;
 
+import java.time.Duration;
+
+import io.spring.issuebot.github.HttpClientSettings;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -27,9 +31,28 @@ import org.springframework.boot.context.properties.NestedConfigurationProperty;
 @ConfigurationProperties(prefix = "issuebot.github")
 public class GitHubProperties {
 
+	/**
+	 * URL of GitHub's REST API.
+	 */
+	private String apiUrl = "https://api.github.com";
+
 	@NestedConfigurationProperty
 	private Credentials credentials = new Credentials();
 
+	@NestedConfigurationProperty
+	private App app = new App();
+
+	@NestedConfigurationProperty
+	private HttpClientSettings http = new HttpClientSettings();
+
+	public String getApiUrl() {
+		return this.apiUrl;
+	}
+
+	public void setApiUrl(String apiUrl) {
+		this.apiUrl = apiUrl;
+	}
+
 	public Credentials getCredentials() {
 		return this.credentials;
 	}
@@ -38,6 +61,22 @@ public class GitHubProperties {
 		this.credentials = credentials;
 	}
 
+	public App getApp() {
+		return this.app;
+	}
+
+	public void setApp(App app) {
+		this.app = app;
+	}
+
+	public HttpClientSettings getHttp() {
+		return this.http;
+	}
+
+	public void setHttp(HttpClientSettings http) {
+		this.http = http;
+	}
+
 	/**
 	 * Configuration for the credentials used to authenticate with GitHub.
 	 */
@@ -71,4 +110,52 @@ public class GitHubProperties {
 
 	}
 
+	/**
+	 * Configuration for the GitHub App used to authenticate with GitHub. When an app ID
+	 * is configured, requests are authenticated using the app's per-organization
+	 * installation access tokens rather than the credentials.
+	 */
+	public static class App {
+
+		/**
+		 * The ID of the app.
+		 */
+		private String id;
+
+		/**
+		 * The app's PEM-encoded private key.
+		 */
+		private String privateKey;
+
+		/**
+		 * How long before their expiry installation access tokens should be refreshed.
+		 */
+		private Duration refreshAhead = Duration.ofMinutes(5);
+
+		public String getId() {
+			return this.id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public String getPrivateKey() {
+			return this.privateKey;
+		}
+
+		public void setPrivateKey(String privateKey) {
+			this.privateKey = privateKey;
+		}
+
+		public Duration getRefreshAhead() {
+			return this.refreshAhead;
+		}
+
+		public void setRefreshAhead(Duration refreshAhead) {
+			this.refreshAhead = refreshAhead;
+		}
+
+	}
+
 }
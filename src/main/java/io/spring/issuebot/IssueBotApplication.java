@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,17 +16,39 @@
 
 package io.spring.issuebot;
 
+import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.spring.issuebot.MonitoringProperties.Accounting;
+import io.spring.issuebot.MonitoringProperties.Dispatch;
+import io.spring.issuebot.MonitoringProperties.Planning;
+import io.spring.issuebot.MonitoringProperties.Sharding;
+import io.spring.issuebot.github.GitHubApp;
 import io.spring.issuebot.github.GitHubOperations;
 import io.spring.issuebot.github.GitHubTemplate;
+import io.spring.issuebot.github.PageSizingMetrics;
 import io.spring.issuebot.github.RegexLinkParser;
+import io.spring.issuebot.sharding.FileLeaseStore;
+import io.spring.issuebot.sharding.JdbcLeaseStore;
+import io.spring.issuebot.sharding.LeaseStore;
+import io.spring.issuebot.sharding.RepositorySharding;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.util.StringUtils;
 
 /**
  * Main class for launching Issue Bot.
@@ -43,16 +65,130 @@ public class IssueBotApplication {
 	}
 
 	@Bean
-	GitHubTemplate gitHubTemplate(GitHubProperties gitHubProperties) {
-		return new GitHubTemplate(gitHubProperties.getCredentials().getUsername(),
-				gitHubProperties.getCredentials().getPassword(), new RegexLinkParser());
+	Clock clock() {
+		return Clock.systemUTC();
+	}
+
+	@Bean
+	GitHubTemplate gitHubTemplate(GitHubProperties gitHubProperties, Clock clock) {
+		GitHubProperties.App app = gitHubProperties.getApp();
+		if (StringUtils.hasText(app.getId())) {
+			return new GitHubTemplate(gitHubProperties.getApiUrl(),
+					new GitHubApp(app.getId(), app.getPrivateKey(), app.getRefreshAhead()), gitHubProperties.getHttp(),
+					new RegexLinkParser(), clock);
+		}
+		return new GitHubTemplate(gitHubProperties.getApiUrl(), gitHubProperties.getCredentials().getUsername(),
+				gitHubProperties.getCredentials().getPassword(), gitHubProperties.getHttp(), new RegexLinkParser());
+	}
+
+	@Bean
+	MeterBinder gitHubConnectionPoolMetrics(GitHubTemplate gitHubTemplate) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(gitHubTemplate.getConnectionPool(), "github");
+	}
+
+	@Bean
+	MeterBinder gitHubCoalescedRequestsMetrics(GitHubTemplate gitHubTemplate) {
+		return (registry) -> FunctionCounter
+			.builder("github.requests.coalesced", gitHubTemplate, GitHubTemplate::getCoalescedRequests)
+			.description("GET requests that shared the response of an identical request that was in flight")
+			.register(registry);
+	}
+
+	@Bean
+	MeterBinder gitHubPageSizingMetrics(GitHubTemplate gitHubTemplate) {
+		return new PageSizingMetrics(gitHubTemplate);
+	}
+
+	@Bean
+	@Lazy
+	IssueDispatcher issueDispatcher(MonitoringProperties monitoringProperties, List<IssueListener> issueListeners) {
+		Dispatch dispatch = monitoringProperties.getDispatch();
+		if (dispatch.getMode() == Dispatch.Mode.CONCURRENT) {
+			return new StripedIssueDispatcher(issueListeners, dispatch.getStripes(), dispatch.getMaxInFlight(),
+					dispatch.getListenerConcurrency(), dispatch.getBulkheadTimeout());
+		}
+		return new SynchronousIssueDispatcher(issueListeners);
+	}
+
+	@Bean
+	MonitoredRepositories monitoredRepositories(MonitoringProperties monitoringProperties) {
+		return new MonitoredRepositories(monitoringProperties.getRepositories());
+	}
+
+	@Bean
+	RepositoriesFile repositoriesFile(MonitoringProperties monitoringProperties,
+			MonitoredRepositories monitoredRepositories) {
+		return new RepositoriesFile(monitoringProperties.getRepositoriesFile(), monitoredRepositories,
+				Duration.ofSeconds(10));
+	}
+
+	@Bean
+	RepositoriesEndpoint repositoriesEndpoint(MonitoredRepositories monitoredRepositories,
+			RepositoriesFile repositoriesFile) {
+		return new RepositoriesEndpoint(monitoredRepositories, repositoriesFile);
+	}
+
+	@Bean
+	ChangeDetector changeDetector(MonitoringProperties monitoringProperties,
+			MonitoredRepositories monitoredRepositories, Clock clock) {
+		ChangeDetector changeDetector = new ChangeDetector(monitoringProperties.isChangeDetection(), clock);
+		monitoredRepositories.addListener((change) -> changeDetector.forget(change.getRemoved()));
+		return changeDetector;
+	}
+
+	@Bean
+	RequestAccounting requestAccounting(MonitoringProperties monitoringProperties, GitHubTemplate gitHubTemplate,
+			Clock clock) {
+		Accounting accounting = monitoringProperties.getAccounting();
+		RequestAccounting requestAccounting = new RequestAccounting(accounting.getPasses(),
+				accounting.getTopIssues(), clock);
+		gitHubTemplate.addApiRequestListener(requestAccounting);
+		return requestAccounting;
+	}
+
+	@Bean
+	RequestsEndpoint requestsEndpoint(RequestAccounting requestAccounting) {
+		return new RequestsEndpoint(requestAccounting);
 	}
 
 	@Bean
 	RepositoryMonitor repositoryMonitor(GitHubOperations gitHub, MonitoringProperties monitoringProperties,
-			List<IssueListener> issueListeners) {
-		return new RepositoryMonitor(gitHub, monitoringProperties.getRepositories(), monitoringProperties.isEnabled(),
-				issueListeners);
+			MonitoredRepositories monitoredRepositories, @Lazy IssueDispatcher issueDispatcher,
+			ChangeDetector changeDetector, RequestAccounting requestAccounting, RepositorySharding repositorySharding) {
+		Planning planning = monitoringProperties.getPlanning();
+		File checkpointDirectory = monitoringProperties.getCheckpointDirectory();
+		return new RepositoryMonitor(gitHub, monitoredRepositories, monitoringProperties.isEnabled(), issueDispatcher,
+				changeDetector, requestAccounting,
+				new WorkPlanner(gitHub, planning.getScarceBelow(), planning.getRequestsPerIssue(),
+						planning.getGuaranteedShare()),
+				(checkpointDirectory != null) ? new FileCheckpointStore(checkpointDirectory.toPath()) : null,
+				repositorySharding);
+	}
+
+	@Bean
+	RepositorySharding repositorySharding(MonitoringProperties monitoringProperties,
+			ObjectProvider<DataSource> dataSource, Clock clock) {
+		Sharding sharding = monitoringProperties.getSharding();
+		if (!sharding.isEnabled()) {
+			return RepositorySharding.unsharded(clock);
+		}
+		String instanceId = (StringUtils.hasText(sharding.getInstanceId())) ? sharding.getInstanceId()
+				: UUID.randomUUID().toString();
+		return new RepositorySharding(leaseStore(sharding, dataSource, clock), instanceId,
+				sharding.getLeaseDuration(), clock);
+	}
+
+	private static LeaseStore leaseStore(Sharding sharding, ObjectProvider<DataSource> dataSource, Clock clock) {
+		if (sharding.getStore() == Sharding.Store.JDBC) {
+			JdbcLeaseStore store = new JdbcLeaseStore(dataSource.getObject(), sharding.getTable(), clock);
+			store.createTableIfNecessary();
+			return store;
+		}
+		if (sharding.getDirectory() == null) {
+			throw new IllegalStateException(
+					"issuebot.monitoring.sharding.directory must be set when using the file lease store");
+		}
+		return new FileLeaseStore(sharding.getDirectory().toPath(), clock);
 	}
 
 }
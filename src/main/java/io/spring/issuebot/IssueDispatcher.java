@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.spring.issuebot.github.Issue;
+
+/**
+ * An {@code IssueDispatcher} notifies {@link IssueListener IssueListeners} of the open
+ * issues found during monitoring of a repository.
+ *
+ * @author Andy Wilkinson
+ */
+public interface IssueDispatcher {
+
+	/**
+	 * Dispatches the given open {@code issue} to the listeners.
+	 * @param repository the repository to which the issue belongs
+	 * @param issue the open issue
+	 * @return a future that completes once every listener has handled the issue, with
+	 * {@code true} if they all did so successfully, otherwise {@code false}
+	 */
+	CompletableFuture<Boolean> dispatch(Repository repository, Issue issue);
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import io.spring.issuebot.github.Issue;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Flight Recorder event for the notification of an {@link IssueListener} of an open
+ * issue.
+ *
+ * @author Andy Wilkinson
+ */
+@Name("io.spring.issuebot.IssueListener")
+@Label("Issue Listener Invocation")
+@Category("Issue Bot")
+@Description("Notification of an issue listener of an open issue")
+@StackTrace(false)
+final class IssueListenerEvent extends Event {
+
+	@Label("Listener")
+	private String listener;
+
+	@Label("Repository")
+	private String repository;
+
+	@Label("Issue")
+	private String issue;
+
+	@Label("Success")
+	private boolean success;
+
+	/**
+	 * Ends the event and, if it should be committed, records the details of the
+	 * invocation and commits it.
+	 * @param listener the listener that was notified
+	 * @param repository the repository to which the issue belongs
+	 * @param issue the issue
+	 * @param success whether the listener handled the issue successfully
+	 */
+	void record(IssueListener listener, Repository repository, Issue issue, boolean success) {
+		end();
+		if (shouldCommit()) {
+			this.listener = ClassUtils.getUserClass(listener).getName();
+			this.repository = repository.getOrganization() + "/" + repository.getName();
+			this.issue = issue.getUrl();
+			this.success = success;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The repositories that are being monitored and their collaborators. The repositories
+ * can be replaced at runtime. Each replacement atomically swaps an immutable snapshot so
+ * that a monitoring pass that is in progress is not paused and continues with the
+ * repositories with which it started while lookups of collaborators see the latest
+ * configuration. Replacement is incremental: the collaborators of repositories that
+ * have not changed are carried over to the new snapshot.
+ *
+ * @author Andy Wilkinson
+ */
+public final class MonitoredRepositories {
+
+	private final List<Consumer<Change>> listeners = new CopyOnWriteArrayList<>();
+
+	private volatile Snapshot snapshot;
+
+	/**
+	 * Creates a new {@code MonitoredRepositories} that initially contains the given
+	 * {@code repositories}.
+	 * @param repositories the repositories
+	 */
+	public MonitoredRepositories(List<Repository> repositories) {
+		this.snapshot = Snapshot.of((repositories != null) ? repositories : Collections.emptyList(),
+				Collections.emptyMap());
+	}
+
+	/**
+	 * Returns an immutable snapshot of the repositories that are currently being
+	 * monitored.
+	 * @return the repositories
+	 */
+	public List<Repository> getRepositories() {
+		return this.snapshot.repositories;
+	}
+
+	/**
+	 * Returns the collaborators of the given {@code repository}. If the repository is not
+	 * currently being monitored, an empty set is returned.
+	 * @param repository the repository
+	 * @return the collaborators
+	 */
+	public Set<String> getCollaborators(Repository repository) {
+		return this.snapshot.collaborators.getOrDefault(repository, Collections.emptySet());
+	}
+
+	/**
+	 * Replaces the monitored repositories with the given {@code repositories}. Listeners
+	 * are notified of the change when it is not empty.
+	 * @param repositories the new repositories
+	 * @return the change
+	 */
+	public Change update(List<Repository> repositories) {
+		Change change;
+		synchronized (this) {
+			Snapshot previous = this.snapshot;
+			Snapshot updated = Snapshot.of(repositories, previous.collaborators);
+			change = Change.between(previous, updated);
+			this.snapshot = updated;
+		}
+		if (!change.isEmpty()) {
+			this.listeners.forEach((listener) -> listener.accept(change));
+		}
+		return change;
+	}
+
+	/**
+	 * Adds a listener that will be notified when the monitored repositories change.
+	 * @param listener the listener
+	 */
+	public void addListener(Consumer<Change> listener) {
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * A change to the monitored repositories.
+	 */
+	public static final class Change {
+
+		private final List<Repository> added;
+
+		private final List<Repository> removed;
+
+		private final List<Repository> updated;
+
+		private Change(List<Repository> added, List<Repository> removed, List<Repository> updated) {
+			this.added = Collections.unmodifiableList(added);
+			this.removed = Collections.unmodifiableList(removed);
+			this.updated = Collections.unmodifiableList(updated);
+		}
+
+		private static Change between(Snapshot previous, Snapshot current) {
+			List<Repository> added = new ArrayList<>();
+			List<Repository> updated = new ArrayList<>();
+			current.collaborators.forEach((repository, collaborators) -> {
+				Set<String> previousCollaborators = previous.collaborators.get(repository);
+				if (previousCollaborators == null) {
+					added.add(repository);
+				}
+				else if (previousCollaborators != collaborators) {
+					updated.add(repository);
+				}
+			});
+			List<Repository> removed = new ArrayList<>();
+			for (Repository repository : previous.repositories) {
+				if (!current.collaborators.containsKey(repository)) {
+					removed.add(repository);
+				}
+			}
+			return new Change(added, removed, updated);
+		}
+
+		/**
+		 * Returns the repositories that have been added.
+		 * @return the added repositories
+		 */
+		public List<Repository> getAdded() {
+			return this.added;
+		}
+
+		/**
+		 * Returns the repositories that have been removed.
+		 * @return the removed repositories
+		 */
+		public List<Repository> getRemoved() {
+			return this.removed;
+		}
+
+		/**
+		 * Returns the repositories whose collaborators have changed.
+		 * @return the updated repositories
+		 */
+		public List<Repository> getUpdated() {
+			return this.updated;
+		}
+
+		/**
+		 * Returns whether the change is empty.
+		 * @return {@code true} if nothing was added, removed, or updated
+		 */
+		public boolean isEmpty() {
+			return this.added.isEmpty() && this.removed.isEmpty() && this.updated.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return "added=" + names(this.added) + ", removed=" + names(this.removed) + ", updated="
+					+ names(this.updated);
+		}
+
+		private static List<String> names(List<Repository> repositories) {
+			return repositories.stream()
+				.map((repository) -> repository.getOrganization() + "/" + repository.getName())
+				.toList();
+		}
+
+	}
+
+	private static final class Snapshot {
+
+		private final List<Repository> repositories;
+
+		private final Map<Repository, Set<String>> collaborators;
+
+		private Snapshot(List<Repository> repositories, Map<Repository, Set<String>> collaborators) {
+			this.repositories = repositories;
+			this.collaborators = collaborators;
+		}
+
+		private static Snapshot of(List<Repository> repositories, Map<Repository, Set<String>> previous) {
+			Map<Repository, Set<String>> collaborators = new LinkedHashMap<>();
+			for (Repository repository : repositories) {
+				Set<String> current = new LinkedHashSet<>(repository.getCollaborators());
+				Set<String> existing = previous.get(repository);
+				collaborators.put(repository,
+						(current.equals(existing)) ? existing : Collections.unmodifiableSet(current));
+			}
+			return new Snapshot(Collections.unmodifiableList(new ArrayList<>(repositories)),
+					Collections.unmodifiableMap(collaborators));
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,12 @@
 
 package io.spring.issuebot;
 
+import java.io.File;
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * Properties for configuring repository monitoring.
@@ -30,8 +33,40 @@ public class MonitoringProperties {
 
 	private List<Repository> repositories;
 
+	/**
+	 * YAML file, watched for changes, from which the monitored repositories are reloaded
+	 * at runtime. The file uses the same structure as the
+	 * 'issuebot.monitoring.repositories' property.
+	 */
+	private File repositoriesFile;
+
+	/**
+	 * Directory in which the progress of each monitoring pass is checkpointed so that an
+	 * interrupted pass can be resumed. When not set, every pass starts from the first page
+	 * of the first repository.
+	 */
+	private File checkpointDirectory;
+
 	private boolean enabled = true;
 
+	/**
+	 * Whether issues that have not changed since they were last successfully handled
+	 * should be skipped.
+	 */
+	private boolean changeDetection = true;
+
+	@NestedConfigurationProperty
+	private Dispatch dispatch = new Dispatch();
+
+	@NestedConfigurationProperty
+	private Accounting accounting = new Accounting();
+
+	@NestedConfigurationProperty
+	private Planning planning = new Planning();
+
+	@NestedConfigurationProperty
+	private Sharding sharding = new Sharding();
+
 	public List<Repository> getRepositories() {
 		return this.repositories;
 	}
@@ -40,6 +75,22 @@ public class MonitoringProperties {
 		this.repositories = repositories;
 	}
 
+	public File getRepositoriesFile() {
+		return this.repositoriesFile;
+	}
+
+	public void setRepositoriesFile(File repositoriesFile) {
+		this.repositoriesFile = repositoriesFile;
+	}
+
+	public File getCheckpointDirectory() {
+		return this.checkpointDirectory;
+	}
+
+	public void setCheckpointDirectory(File checkpointDirectory) {
+		this.checkpointDirectory = checkpointDirectory;
+	}
+
 	public boolean isEnabled() {
 		return this.enabled;
 	}
@@ -48,4 +99,321 @@ public class MonitoringProperties {
 		this.enabled = enabled;
 	}
 
+	public boolean isChangeDetection() {
+		return this.changeDetection;
+	}
+
+	public void setChangeDetection(boolean changeDetection) {
+		this.changeDetection = changeDetection;
+	}
+
+	public Dispatch getDispatch() {
+		return this.dispatch;
+	}
+
+	public void setDispatch(Dispatch dispatch) {
+		this.dispatch = dispatch;
+	}
+
+	public Accounting getAccounting() {
+		return this.accounting;
+	}
+
+	public void setAccounting(Accounting accounting) {
+		this.accounting = accounting;
+	}
+
+	public Planning getPlanning() {
+		return this.planning;
+	}
+
+	public void setPlanning(Planning planning) {
+		this.planning = planning;
+	}
+
+	public Sharding getSharding() {
+		return this.sharding;
+	}
+
+	public void setSharding(Sharding sharding) {
+		this.sharding = sharding;
+	}
+
+	/**
+	 * Configuration for the accounting of the requests made during each monitoring pass.
+	 */
+	public static class Accounting {
+
+		/**
+		 * Number of pass reports to retain.
+		 */
+		private int passes = 20;
+
+		/**
+		 * Number of most expensive issues to include in each pass report.
+		 */
+		private int topIssues = 10;
+
+		public int getPasses() {
+			return this.passes;
+		}
+
+		public void setPasses(int passes) {
+			this.passes = passes;
+		}
+
+		public int getTopIssues() {
+			return this.topIssues;
+		}
+
+		public void setTopIssues(int topIssues) {
+			this.topIssues = topIssues;
+		}
+
+	}
+
+	/**
+	 * Configuration for the planning of work when the remaining rate limit is scarce.
+	 */
+	public static class Planning {
+
+		/**
+		 * Remaining rate limit below which issues are dispatched in order of urgency and
+		 * issues that do not fit in the remaining quota are deferred. Zero to disable.
+		 */
+		private int scarceBelow = 500;
+
+		/**
+		 * Estimated number of requests needed to dispatch an issue.
+		 */
+		private int requestsPerIssue = 3;
+
+		/**
+		 * Share of the remaining rate limit, between 0 and 1, that is split equally
+		 * between the repositories with issues to dispatch when it is scarce. The rest is
+		 * shared in proportion to the repositories' weights.
+		 */
+		private double guaranteedShare = 0.2;
+
+		public int getScarceBelow() {
+			return this.scarceBelow;
+		}
+
+		public void setScarceBelow(int scarceBelow) {
+			this.scarceBelow = scarceBelow;
+		}
+
+		public int getRequestsPerIssue() {
+			return this.requestsPerIssue;
+		}
+
+		public void setRequestsPerIssue(int requestsPerIssue) {
+			this.requestsPerIssue = requestsPerIssue;
+		}
+
+		public double getGuaranteedShare() {
+			return this.guaranteedShare;
+		}
+
+		public void setGuaranteedShare(double guaranteedShare) {
+			this.guaranteedShare = guaranteedShare;
+		}
+
+	}
+
+	/**
+	 * Configuration for sharing the monitored repositories between several instances.
+	 */
+	public static class Sharding {
+
+		/**
+		 * Whether the monitored repositories should be shared between the instances that
+		 * use the same lease store.
+		 */
+		private boolean enabled;
+
+		/**
+		 * ID of this instance, unique among the instances sharing the lease store.
+		 * Generated when not set.
+		 */
+		private String instanceId;
+
+		/**
+		 * How long a lease is held before it expires unless renewed. Should be at least
+		 * twice the time that it takes to monitor the largest repository.
+		 */
+		private Duration leaseDuration = Duration.ofMinutes(10);
+
+		/**
+		 * Type of store that holds the leases.
+		 */
+		private Store store = Store.FILE;
+
+		/**
+		 * Directory in which leases are held when using the file store.
+		 */
+		private File directory;
+
+		/**
+		 * Name of the table in which leases are held when using the JDBC store.
+		 */
+		private String table = "issuebot_lease";
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getInstanceId() {
+			return this.instanceId;
+		}
+
+		public void setInstanceId(String instanceId) {
+			this.instanceId = instanceId;
+		}
+
+		public Duration getLeaseDuration() {
+			return this.leaseDuration;
+		}
+
+		public void setLeaseDuration(Duration leaseDuration) {
+			this.leaseDuration = leaseDuration;
+		}
+
+		public Store getStore() {
+			return this.store;
+		}
+
+		public void setStore(Store store) {
+			this.store = store;
+		}
+
+		public File getDirectory() {
+			return this.directory;
+		}
+
+		public void setDirectory(File directory) {
+			this.directory = directory;
+		}
+
+		public String getTable() {
+			return this.table;
+		}
+
+		public void setTable(String table) {
+			this.table = table;
+		}
+
+		/**
+		 * The type of store that holds the leases.
+		 */
+		public enum Store {
+
+			/**
+			 * Leases are held in a locked file in a local directory.
+			 */
+			FILE,
+
+			/**
+			 * Leases are held in a table of the application's data source.
+			 */
+			JDBC
+
+		}
+
+	}
+
+	/**
+	 * Configuration for the dispatch of open issues to the issue listeners.
+	 */
+	public static class Dispatch {
+
+		/**
+		 * How issues are dispatched to the issue listeners.
+		 */
+		private Mode mode = Mode.SEQUENTIAL;
+
+		/**
+		 * Number of stripes across which issues are dispatched when using concurrent
+		 * dispatch. All listener calls for a particular issue happen on the same stripe.
+		 */
+		private int stripes = 8;
+
+		/**
+		 * Maximum number of issues that may be in flight when using concurrent dispatch.
+		 */
+		private int maxInFlight = 64;
+
+		/**
+		 * Maximum number of stripes that may be calling a particular listener at once.
+		 */
+		private int listenerConcurrency = 4;
+
+		/**
+		 * How long to wait for a saturated listener before skipping it for an issue.
+		 */
+		private Duration bulkheadTimeout = Duration.ofSeconds(30);
+
+		public Mode getMode() {
+			return this.mode;
+		}
+
+		public void setMode(Mode mode) {
+			this.mode = mode;
+		}
+
+		public int getStripes() {
+			return this.stripes;
+		}
+
+		public void setStripes(int stripes) {
+			this.stripes = stripes;
+		}
+
+		public int getMaxInFlight() {
+			return this.maxInFlight;
+		}
+
+		public void setMaxInFlight(int maxInFlight) {
+			this.maxInFlight = maxInFlight;
+		}
+
+		public int getListenerConcurrency() {
+			return this.listenerConcurrency;
+		}
+
+		public void setListenerConcurrency(int listenerConcurrency) {
+			this.listenerConcurrency = listenerConcurrency;
+		}
+
+		public Duration getBulkheadTimeout() {
+			return this.bulkheadTimeout;
+		}
+
+		public void setBulkheadTimeout(Duration bulkheadTimeout) {
+			this.bulkheadTimeout = bulkheadTimeout;
+		}
+
+		/**
+		 * The mode in which issues are dispatched.
+		 */
+		public enum Mode {
+
+			/**
+			 * Issues are dispatched one after another on the monitoring thread.
+			 */
+			SEQUENTIAL,
+
+			/**
+			 * Issues are dispatched concurrently on a pool of striped threads.
+			 */
+			CONCURRENT
+
+		}
+
+	}
+
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A report of the requests that were made to GitHub's REST API during a monitoring pass.
+ *
+ * @author Andy Wilkinson
+ * @see RequestAccounting
+ */
+public final class PassReport {
+
+	private final Instant start;
+
+	private final long durationMillis;
+
+	private final long requests;
+
+	private final long quotaConsumed;
+
+	private final List<RepositoryReport> repositories;
+
+	private final List<IssueReport> topIssues;
+
+	PassReport(Instant start, long durationMillis, List<RepositoryReport> repositories, List<IssueReport> topIssues) {
+		this.start = start;
+		this.durationMillis = durationMillis;
+		this.requests = repositories.stream().mapToLong(RepositoryReport::getTotalRequests).sum();
+		this.quotaConsumed = repositories.stream().mapToLong(RepositoryReport::getQuotaConsumed).sum();
+		this.repositories = repositories;
+		this.topIssues = topIssues;
+	}
+
+	/**
+	 * Returns the time at which the pass started.
+	 * @return the start time
+	 */
+	public Instant getStart() {
+		return this.start;
+	}
+
+	/**
+	 * Returns the duration of the pass in milliseconds.
+	 * @return the duration
+	 */
+	public long getDurationMillis() {
+		return this.durationMillis;
+	}
+
+	/**
+	 * Returns the total number of requests that were made.
+	 * @return the number of requests
+	 */
+	public long getRequests() {
+		return this.requests;
+	}
+
+	/**
+	 * Returns the total number of requests that counted against the rate limit.
+	 * @return the quota consumed
+	 */
+	public long getQuotaConsumed() {
+		return this.quotaConsumed;
+	}
+
+	/**
+	 * Returns the reports for each repository, ordered from the most to the least
+	 * expensive.
+	 * @return the repository reports
+	 */
+	public List<RepositoryReport> getRepositories() {
+		return this.repositories;
+	}
+
+	/**
+	 * Returns the issues that required the most requests, ordered from the most to the
+	 * least expensive.
+	 * @return the issue reports
+	 */
+	public List<IssueReport> getTopIssues() {
+		return this.topIssues;
+	}
+
+	/**
+	 * The requests that were made for a repository during a pass. Requests that cannot be
+	 * attributed to a repository, such as searches, are attributed to their organization
+	 * where possible.
+	 */
+	public static final class RepositoryReport {
+
+		private final String name;
+
+		private final Map<String, Long> requests;
+
+		private final long pages;
+
+		private final long requestMillis;
+
+		private final long elapsedMillis;
+
+		private final long quotaConsumed;
+
+		RepositoryReport(String name, Map<String, Long> requests, long pages, long requestMillis, long elapsedMillis,
+				long quotaConsumed) {
+			this.name = name;
+			this.requests = requests;
+			this.pages = pages;
+			this.requestMillis = requestMillis;
+			this.elapsedMillis = elapsedMillis;
+			this.quotaConsumed = quotaConsumed;
+		}
+
+		/**
+		 * Returns the full name of the repository.
+		 * @return the name
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Returns the number of requests made to each endpoint, keyed by method and
+		 * endpoint.
+		 * @return the requests by endpoint
+		 */
+		public Map<String, Long> getRequests() {
+			return this.requests;
+		}
+
+		/**
+		 * Returns the total number of requests.
+		 * @return the number of requests
+		 */
+		public long getTotalRequests() {
+			return this.requests.values().stream().mapToLong(Long::longValue).sum();
+		}
+
+		/**
+		 * Returns the number of pages of results that were fetched.
+		 * @return the number of pages
+		 */
+		public long getPages() {
+			return this.pages;
+		}
+
+		/**
+		 * Returns the time, in milliseconds, that was spent waiting for responses.
+		 * @return the request time
+		 */
+		public long getRequestMillis() {
+			return this.requestMillis;
+		}
+
+		/**
+		 * Returns the time, in milliseconds, that was spent monitoring the repository,
+		 * including the time spent by issue listeners.
+		 * @return the elapsed time
+		 */
+		public long getElapsedMillis() {
+			return this.elapsedMillis;
+		}
+
+		/**
+		 * Returns the number of requests that counted against the rate limit.
+		 * @return the quota consumed
+		 */
+		public long getQuotaConsumed() {
+			return this.quotaConsumed;
+		}
+
+	}
+
+	/**
+	 * The requests that were made for an issue during a pass.
+	 */
+	public static final class IssueReport {
+
+		private final String issue;
+
+		private final long requests;
+
+		IssueReport(String issue, long requests) {
+			this.issue = issue;
+			this.requests = requests;
+		}
+
+		/**
+		 * Returns the issue, identified by its repository's full name and its number.
+		 * @return the issue
+		 */
+		public String getIssue() {
+			return this.issue;
+		}
+
+		/**
+		 * Returns the number of requests that were made for the issue.
+		 * @return the number of requests
+		 */
+		public long getRequests() {
+			return this.requests;
+		}
+
+	}
+
+}
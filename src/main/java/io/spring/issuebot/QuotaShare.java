@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.RateLimit;
+
+/**
+ * A share of the GitHub API's rate limit. Once the remaining quota of an organization
+ * falls to the portion of its limit that lies outside the share, work that is limited to
+ * the share must wait for the rate limit window to reset.
+ *
+ * @author Andy Wilkinson
+ */
+final class QuotaShare {
+
+	private static final Duration RESET_MARGIN = Duration.ofSeconds(1);
+
+	private final GitHubOperations gitHub;
+
+	private final double share;
+
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@code QuotaShare}.
+	 * @param gitHub the GitHub operations providing the current rate limit
+	 * @param share the share of the rate limit, between 0 and 1
+	 * @param clock the clock used to determine when the rate limit window will reset
+	 */
+	QuotaShare(GitHubOperations gitHub, double share, Clock clock) {
+		if (share <= 0 || share > 1) {
+			throw new IllegalArgumentException("Share must be greater than 0 and no more than 1");
+		}
+		this.gitHub = gitHub;
+		this.share = share;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns how long work on behalf of the given {@code organization} must wait before
+	 * it can use the share of the quota.
+	 * @param organization the organization
+	 * @return the time to wait, {@link Duration#ZERO} if the work can proceed immediately
+	 */
+	Duration requiredWait(String organization) {
+		RateLimit rateLimit = this.gitHub.getRateLimit(organization);
+		if (rateLimit == null || rateLimit.getRemaining() > rateLimit.getLimit() * (1 - this.share)) {
+			return Duration.ZERO;
+		}
+		Duration untilReset = Duration.between(this.clock.instant(), Instant.ofEpochMilli(rateLimit.getReset()));
+		return (untilReset.isNegative()) ? Duration.ZERO : untilReset.plus(RESET_MARGIN);
+	}
+
+}
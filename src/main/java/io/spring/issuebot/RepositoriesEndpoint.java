@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.spring.issuebot.MonitoredRepositories.Change;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * An actuator endpoint that exposes the monitored repositories and their collaborators
+ * and that can be used to reload them from the {@link RepositoriesFile}. As reloading
+ * changes the application's state and the application has no security, the endpoint is
+ * only exposed over JMX.
+ *
+ * @author Andy Wilkinson
+ */
+@Endpoint(id = "repositories")
+public final class RepositoriesEndpoint {
+
+	private final MonitoredRepositories repositories;
+
+	private final RepositoriesFile repositoriesFile;
+
+	RepositoriesEndpoint(MonitoredRepositories repositories, RepositoriesFile repositoriesFile) {
+		this.repositories = repositories;
+		this.repositoriesFile = repositoriesFile;
+	}
+
+	/**
+	 * Returns the collaborators of each monitored repository, keyed by the repository's
+	 * full name.
+	 * @return the repositories
+	 */
+	@ReadOperation
+	public Map<String, Set<String>> repositories() {
+		Map<String, Set<String>> repositories = new LinkedHashMap<>();
+		for (Repository repository : this.repositories.getRepositories()) {
+			repositories.put(fullName(repository), this.repositories.getCollaborators(repository));
+		}
+		return repositories;
+	}
+
+	/**
+	 * Reloads the monitored repositories from the repositories file.
+	 * @return the repositories that were added, removed, and updated
+	 */
+	@WriteOperation
+	public Map<String, List<String>> reload() {
+		Change change = this.repositoriesFile.reload();
+		Map<String, List<String>> result = new LinkedHashMap<>();
+		result.put("added", fullNames(change.getAdded()));
+		result.put("removed", fullNames(change.getRemoved()));
+		result.put("updated", fullNames(change.getUpdated()));
+		return result;
+	}
+
+	private static List<String> fullNames(List<Repository> repositories) {
+		return repositories.stream().map(RepositoriesEndpoint::fullName).toList();
+	}
+
+	private static String fullName(Repository repository) {
+		return repository.getOrganization() + "/" + repository.getName();
+	}
+
+}
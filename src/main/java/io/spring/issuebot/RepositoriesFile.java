@@ -0,0 +1,158 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.issuebot.MonitoredRepositories.Change;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * A YAML file from which the {@link MonitoredRepositories} are reloaded at runtime. The
+ * file is polled on its own thread, so that a long monitoring pass does not delay a
+ * reload, and is reloaded whenever its last modified time or size changes. A file that
+ * cannot be loaded or that contains no repositories is ignored, leaving the current
+ * repositories in place.
+ *
+ * @author Andy Wilkinson
+ */
+final class RepositoriesFile implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(RepositoriesFile.class);
+
+	private static final String PROPERTY_NAME = "issuebot.monitoring.repositories";
+
+	private final File file;
+
+	private final MonitoredRepositories repositories;
+
+	private final Duration pollInterval;
+
+	private ScheduledExecutorService executor;
+
+	private long lastModified = -1;
+
+	private long length = -1;
+
+	/**
+	 * Creates a new {@code RepositoriesFile} that will reload the given
+	 * {@code repositories} from the given {@code file}.
+	 * @param file the file, or {@code null} if reloading is not configured
+	 * @param repositories the repositories to update
+	 * @param pollInterval the interval between the end of one poll and the start of the
+	 * next
+	 */
+	RepositoriesFile(File file, MonitoredRepositories repositories, Duration pollInterval) {
+		this.file = file;
+		this.repositories = repositories;
+		this.pollInterval = pollInterval;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (this.file != null && this.executor == null) {
+			this.executor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+				Thread thread = new Thread(runnable, "repositories-file");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.executor.scheduleWithFixedDelay(this::poll, 0, this.pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+			this.executor = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return this.executor != null;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return this.file != null;
+	}
+
+	void poll() {
+		if (this.file == null || !this.file.isFile()) {
+			return;
+		}
+		long lastModified = this.file.lastModified();
+		long length = this.file.length();
+		if (lastModified == this.lastModified && length == this.length) {
+			return;
+		}
+		this.lastModified = lastModified;
+		this.length = length;
+		try {
+			reload();
+		}
+		catch (Exception ex) {
+			log.warn("Failed to reload monitored repositories from {}", this.file, ex);
+		}
+	}
+
+	/**
+	 * Reloads the monitored repositories from the file.
+	 * @return the resulting change
+	 * @throws IllegalStateException if the file is not configured, cannot be loaded, or
+	 * contains no repositories
+	 */
+	Change reload() {
+		if (this.file == null) {
+			throw new IllegalStateException("No repositories file has been configured");
+		}
+		List<Repository> loaded = load();
+		if (loaded.isEmpty()) {
+			throw new IllegalStateException("No repositories were found in " + this.file);
+		}
+		Change change = this.repositories.update(loaded);
+		log.info("Reloaded {} monitored repositories from {} ({})", loaded.size(), this.file, change);
+		return change;
+	}
+
+	private List<Repository> load() {
+		try {
+			Binder binder = new Binder(ConfigurationPropertySources.from(
+					new YamlPropertySourceLoader().load(this.file.getName(), new FileSystemResource(this.file))));
+			return binder.bind(PROPERTY_NAME, Bindable.listOf(Repository.class)).orElse(List.of());
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to load repositories from " + this.file, ex);
+		}
+	}
+
+}
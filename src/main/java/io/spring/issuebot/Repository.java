@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2019 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,13 @@ public class Repository {
 	 */
 	private List<String> collaborators = new ArrayList<>();
 
+	/**
+	 * Weight of the repository's share of the rate limit when it is scarce, relative to
+	 * the weights of the other repositories. When zero, the number of open issues in the
+	 * repository is used.
+	 */
+	private int weight;
+
 	public String getOrganization() {
 		return this.organization;
 	}
@@ -66,6 +73,14 @@ public class Repository {
 		this.collaborators = collaborators;
 	}
 
+	public int getWeight() {
+		return this.weight;
+	}
+
+	public void setWeight(int weight) {
+		this.weight = weight;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,27 @@
 
 package io.spring.issuebot;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import io.spring.issuebot.WorkPlanner.Candidate;
 import io.spring.issuebot.github.GitHubOperations;
 import io.spring.issuebot.github.Issue;
 import io.spring.issuebot.github.Page;
 import io.spring.issuebot.github.RateLimit;
+import io.spring.issuebot.sharding.RepositorySharding;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,52 +53,225 @@ class RepositoryMonitor {
 
 	private final GitHubOperations gitHub;
 
-	private final List<Repository> repositories;
+	private final MonitoredRepositories repositories;
 
 	private final boolean enabled;
 
-	private final List<IssueListener> issueListeners;
+	private final IssueDispatcher issueDispatcher;
 
-	RepositoryMonitor(GitHubOperations gitHub, List<Repository> repositories, boolean enabled,
-			List<IssueListener> issueListeners) {
+	private final ChangeDetector changeDetector;
+
+	private final RequestAccounting requestAccounting;
+
+	private final WorkPlanner workPlanner;
+
+	private final CheckpointStore checkpoints;
+
+	private final RepositorySharding sharding;
+
+	/**
+	 * Creates a new {@code RepositoryMonitor}.
+	 * @param gitHub the GitHub operations
+	 * @param repositories the repositories to monitor
+	 * @param enabled whether monitoring is enabled
+	 * @param issueDispatcher the dispatcher of issues to the listeners
+	 * @param changeDetector the detector of issues that have changed since the previous
+	 * pass
+	 * @param requestAccounting the accounting of requests per pass or {@code null}
+	 * @param workPlanner the planner used when the rate limit is scarce or {@code null}
+	 * @param checkpoints the store for pass checkpoints or {@code null}
+	 * @param sharding the sharding of repositories between instances
+	 */
+	RepositoryMonitor(GitHubOperations gitHub, MonitoredRepositories repositories, boolean enabled,
+			IssueDispatcher issueDispatcher, ChangeDetector changeDetector, RequestAccounting requestAccounting,
+			WorkPlanner workPlanner, CheckpointStore checkpoints, RepositorySharding sharding) {
 		this.gitHub = gitHub;
 		this.repositories = repositories;
 		this.enabled = enabled;
-		this.issueListeners = issueListeners;
+		this.issueDispatcher = issueDispatcher;
+		this.changeDetector = changeDetector;
+		this.requestAccounting = requestAccounting;
+		this.workPlanner = workPlanner;
+		this.checkpoints = checkpoints;
+		this.sharding = sharding;
 	}
 
 	@Scheduled(fixedRate = 5 * 60 * 1000)
 	void monitor() {
 		if (this.enabled) {
-			for (Repository repository : this.repositories) {
-				monitor(repository);
+			long start = System.nanoTime();
+			List<Repository> repositories = this.sharding.claim(this.repositories.getRepositories());
+			PassCheckpoints checkpoints = PassCheckpoints.start(this.checkpoints);
+			if (this.workPlanner != null && this.workPlanner.isScarce(repositories)) {
+				monitorWithPlan(repositories, checkpoints);
+			}
+			else {
+				for (Repository repository : repositories) {
+					if (!this.sharding.runIfHeld(repository, () -> monitor(repository, checkpoints))) {
+						log.info("Skipping {}/{} as its lease is no longer held", repository.getOrganization(),
+								repository.getName());
+					}
+				}
+			}
+			checkpoints.complete();
+			long duration = System.nanoTime() - start;
+			log.info("Monitoring pass of {} repositories completed in {}ms", repositories.size(),
+					TimeUnit.NANOSECONDS.toMillis(duration));
+			if (this.requestAccounting != null) {
+				this.requestAccounting.completePass(Duration.ofNanos(duration));
 			}
 		}
 	}
 
-	private void monitor(Repository repository) {
+	private void monitor(Repository repository, PassCheckpoints checkpoints) {
+		Checkpoint checkpoint = checkpoints.get(repository);
+		if (checkpoint != null && checkpoint.isComplete()) {
+			log.info("Skipping {}/{} as it was completed before the pass was interrupted",
+					repository.getOrganization(), repository.getName());
+			return;
+		}
 		log.info("Monitoring {}/{}", repository.getOrganization(), repository.getName());
+		RepositoryPassEvent event = new RepositoryPassEvent();
+		event.begin();
+		long start = System.nanoTime();
+		ChangeDetector.Pass pass = this.changeDetector.startPass(repository);
+		List<CompletableFuture<Boolean>> dispatched = new ArrayList<>();
+		boolean complete = false;
+		int pages = (checkpoint != null) ? checkpoint.getPages() : 0;
 		try {
-			Page<Issue> page = this.gitHub.getIssues(repository.getOrganization(), repository.getName());
+			Page<Issue> page;
+			if (checkpoint != null) {
+				log.info("Resuming {}/{} from {}", repository.getOrganization(), repository.getName(), checkpoint);
+				page = this.gitHub.getIssuePage(checkpoint.getNextPageUrl());
+			}
+			else {
+				page = this.gitHub.getIssues(repository.getOrganization(), repository.getName());
+			}
 			while (page != null) {
 				for (Issue issue : page.getContent()) {
-					for (IssueListener issueListener : this.issueListeners) {
-						try {
-							issueListener.onOpenIssue(repository, issue);
-						}
-						catch (Exception ex) {
-							log.warn("Listener '{}' failed when handling issue '{}'", issueListener, issue, ex);
-						}
+					if (pass.requiresDispatch(issue)) {
+						dispatched.add(dispatch(repository, issue, pass));
 					}
 				}
+				pages++;
+				if (!this.sharding.isHeld(repository)) {
+					log.info("Abandoning monitoring of {}/{} as its lease is no longer held",
+							repository.getOrganization(), repository.getName());
+					break;
+				}
 				page = page.next();
+				if (page != null && checkpoints.isEnabled()) {
+					CompletableFuture.allOf(dispatched.toArray(new CompletableFuture<?>[0])).join();
+					checkpoints.pageCompleted(repository, page.getUrl(), pages);
+				}
 			}
+			complete = (page == null);
 		}
 		catch (Exception ex) {
 			log.warn("A failure occurred during monitoring of {}/{}", repository.getOrganization(),
 					repository.getName(), ex);
 		}
-		RateLimit rateLimit = this.gitHub.getRateLimit();
+		CompletableFuture.allOf(dispatched.toArray(new CompletableFuture<?>[0])).join();
+		checkpoints.repositoryMonitored(repository, complete, pages);
+		completed(repository, pass, complete && checkpoint == null, pages,
+				Duration.ofNanos(System.nanoTime() - start));
+		event.record(repository, pass, pages, complete, false);
+	}
+
+	private void monitorWithPlan(List<Repository> repositories, PassCheckpoints checkpoints) {
+		log.info("Rate limit is scarce. Sharing the remaining quota between repositories");
+		Map<Repository, ChangeDetector.Pass> passes = new LinkedHashMap<>();
+		Map<Repository, Duration> listed = new HashMap<>();
+		Map<Repository, RepositoryPassEvent> events = new HashMap<>();
+		Map<Repository, Integer> listedPages = new HashMap<>();
+		Set<Repository> resumed = new HashSet<>();
+		List<Candidate> candidates = new ArrayList<>();
+		for (Repository repository : repositories) {
+			Checkpoint checkpoint = checkpoints.get(repository);
+			if (checkpoint != null && checkpoint.isComplete()) {
+				log.info("Skipping {}/{} as it was completed before the pass was interrupted",
+						repository.getOrganization(), repository.getName());
+				continue;
+			}
+			log.info("Listing {}/{}", repository.getOrganization(), repository.getName());
+			RepositoryPassEvent event = new RepositoryPassEvent();
+			event.begin();
+			events.put(repository, event);
+			long start = System.nanoTime();
+			ChangeDetector.Pass pass = this.changeDetector.startPass(repository);
+			passes.put(repository, pass);
+			int pages = (checkpoint != null) ? checkpoint.getPages() : 0;
+			listedPages.put(repository, pages);
+			try {
+				Page<Issue> page;
+				if (checkpoint != null) {
+					log.info("Resuming {}/{} from {}", repository.getOrganization(), repository.getName(), checkpoint);
+					resumed.add(repository);
+					page = this.gitHub.getIssuePage(checkpoint.getNextPageUrl());
+				}
+				else {
+					page = this.gitHub.getIssues(repository.getOrganization(), repository.getName());
+				}
+				while (page != null) {
+					for (Issue issue : page.getContent()) {
+						if (pass.requiresDispatch(issue)) {
+							candidates.add(new Candidate(repository, issue, pass));
+						}
+					}
+					pages++;
+					listedPages.put(repository, pages);
+					page = page.next();
+				}
+				listed.put(repository, Duration.ofNanos(System.nanoTime() - start));
+			}
+			catch (Exception ex) {
+				log.warn("A failure occurred during monitoring of {}/{}", repository.getOrganization(),
+						repository.getName(), ex);
+			}
+		}
+		List<Candidate> planned = this.workPlanner.plan(candidates);
+		Set<Candidate> deferred = Collections.newSetFromMap(new IdentityHashMap<>());
+		deferred.addAll(candidates);
+		planned.forEach(deferred::remove);
+		deferred.forEach((candidate) -> candidate.getPass().deferred(candidate.getIssue()));
+		log.info("Dispatching {} of {} candidate issues. {} have been deferred", planned.size(), candidates.size(),
+				deferred.size());
+		Map<Repository, List<Candidate>> plannedByRepository = new LinkedHashMap<>();
+		for (Candidate candidate : planned) {
+			plannedByRepository.computeIfAbsent(candidate.getRepository(), (repository) -> new ArrayList<>())
+				.add(candidate);
+		}
+		plannedByRepository.forEach((repository, repositoryCandidates) -> {
+			if (!this.sharding.runIfHeld(repository, () -> dispatch(repository, repositoryCandidates))) {
+				log.info("Deferring {} issues in {}/{} as its lease is no longer held", repositoryCandidates.size(),
+						repository.getOrganization(), repository.getName());
+				repositoryCandidates.forEach((candidate) -> candidate.getPass().deferred(candidate.getIssue()));
+			}
+		});
+		passes.forEach((repository, pass) -> {
+			boolean complete = listed.containsKey(repository);
+			checkpoints.repositoryMonitored(repository, complete, listedPages.get(repository));
+			completed(repository, pass, complete && !resumed.contains(repository), listedPages.get(repository),
+					listed.getOrDefault(repository, Duration.ZERO));
+			events.get(repository).record(repository, pass, listedPages.get(repository), complete, true);
+		});
+	}
+
+	private void completed(Repository repository, ChangeDetector.Pass pass, boolean complete, int pages,
+			Duration elapsed) {
+		if (complete) {
+			pass.complete();
+			if (this.workPlanner != null) {
+				this.workPlanner.completed(repository, pass, pages);
+			}
+		}
+		if (this.requestAccounting != null) {
+			this.requestAccounting.repositoryMonitored(repository, elapsed);
+		}
+		log.info("Dispatched {}, deferred {} and skipped {} unchanged issues in {}/{}. Holding {} issue fingerprints",
+				pass.getDispatched(), pass.getDeferred(), pass.getSkipped(), repository.getOrganization(),
+				repository.getName(), this.changeDetector.size(repository));
+		RateLimit rateLimit = this.gitHub.getRateLimit(repository.getOrganization());
 		if (rateLimit == null) {
 			log.info("Monitoring of {}/{} completed. Remaining rate limit unknown", repository.getOrganization(),
 					repository.getName());
@@ -94,6 +281,112 @@ class RepositoryMonitor {
 					repository.getOrganization(), repository.getName(), rateLimit.getRemaining(), rateLimit.getLimit(),
 					new Date(rateLimit.getReset()));
 		}
+	}
+
+	private void dispatch(Repository repository, List<Candidate> candidates) {
+		List<CompletableFuture<Boolean>> dispatched = new ArrayList<>();
+		for (int i = 0; i < candidates.size(); i++) {
+			if (!this.sharding.isHeld(repository)) {
+				log.info("Deferring {} issues in {}/{} as its lease is no longer held", candidates.size() - i,
+						repository.getOrganization(), repository.getName());
+				candidates.subList(i, candidates.size())
+					.forEach((candidate) -> candidate.getPass().deferred(candidate.getIssue()));
+				break;
+			}
+			Candidate candidate = candidates.get(i);
+			dispatched.add(dispatch(repository, candidate.getIssue(), candidate.getPass()));
+		}
+		CompletableFuture.allOf(dispatched.toArray(new CompletableFuture<?>[0])).join();
+	}
+
+	private CompletableFuture<Boolean> dispatch(Repository repository, Issue issue, ChangeDetector.Pass pass) {
+		return this.issueDispatcher.dispatch(repository, issue)
+			.whenComplete((success, ex) -> pass.dispatched(issue, Boolean.TRUE.equals(success)));
+	}
+
+	/**
+	 * The {@link Checkpoint checkpoints} of a monitoring pass. Each repository's progress
+	 * is recorded as its pages are completed so that a pass that is interrupted, for
+	 * example by a restart or by exhausting the rate limit, can be resumed by the next pass
+	 * rather than starting again from the first page of the first repository. An
+	 * interrupted pass continues to be resumed for as long as each attempt makes progress.
+	 */
+	private static final class PassCheckpoints {
+
+		private static final String PASS_KEY = "monitor";
+
+		private final CheckpointStore store;
+
+		private final String passId;
+
+		private int progress;
+
+		private boolean interrupted;
+
+		private PassCheckpoints(CheckpointStore store, String passId) {
+			this.store = store;
+			this.passId = passId;
+		}
+
+		private static PassCheckpoints start(CheckpointStore store) {
+			if (store == null) {
+				return new PassCheckpoints(null, null);
+			}
+			Checkpoint pass = store.load(PASS_KEY);
+			if (pass != null && !pass.isComplete()) {
+				log.info("Resuming interrupted monitoring pass {}", pass.getRunId());
+				return new PassCheckpoints(store, pass.getRunId());
+			}
+			String passId = UUID.randomUUID().toString();
+			store.save(PASS_KEY, new Checkpoint(passId, null, 0, false));
+			return new PassCheckpoints(store, passId);
+		}
+
+		private boolean isEnabled() {
+			return this.store != null;
+		}
+
+		private Checkpoint get(Repository repository) {
+			if (this.store == null) {
+				return null;
+			}
+			Checkpoint checkpoint = this.store.load(key(repository));
+			return (checkpoint != null && this.passId.equals(checkpoint.getRunId())) ? checkpoint : null;
+		}
+
+		private void pageCompleted(Repository repository, String nextPageUrl, int pages) {
+			this.store.save(key(repository), new Checkpoint(this.passId, nextPageUrl, pages, false));
+			this.progress++;
+		}
+
+		private void repositoryMonitored(Repository repository, boolean complete, int pages) {
+			if (this.store == null) {
+				return;
+			}
+			if (complete) {
+				this.store.save(key(repository), new Checkpoint(this.passId, null, pages, true));
+				this.progress++;
+			}
+			else {
+				this.interrupted = true;
+			}
+		}
+
+		private void complete() {
+			if (this.store == null) {
+				return;
+			}
+			if (this.interrupted && this.progress > 0) {
+				log.info("Monitoring pass {} was interrupted and will be resumed", this.passId);
+			}
+			else {
+				this.store.save(PASS_KEY, new Checkpoint(this.passId, null, 0, true));
+			}
+		}
+
+		private static String key(Repository repository) {
+			return "monitor/" + repository.getOrganization() + "/" + repository.getName();
+		}
 
 	}
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the monitoring of a repository during a pass of the
+ * {@link RepositoryMonitor}.
+ *
+ * @author Andy Wilkinson
+ */
+@Name("io.spring.issuebot.RepositoryPass")
+@Label("Repository Pass")
+@Category("Issue Bot")
+@Description("Monitoring of a repository's open issues during a monitoring pass")
+@StackTrace(false)
+final class RepositoryPassEvent extends Event {
+
+	@Label("Repository")
+	private String repository;
+
+	@Label("Pages")
+	private int pages;
+
+	@Label("Dispatched")
+	private int dispatched;
+
+	@Label("Skipped")
+	@Description("Issues that were not dispatched as they had not changed")
+	private int skipped;
+
+	@Label("Deferred")
+	private int deferred;
+
+	@Label("Complete")
+	@Description("Whether all of the repository's open issues were listed")
+	private boolean complete;
+
+	@Label("Planned")
+	@Description("Whether issues were dispatched in order of urgency as the rate limit was scarce")
+	private boolean planned;
+
+	/**
+	 * Ends the event and, if it should be committed, records the details of the pass
+	 * and commits it.
+	 * @param repository the repository
+	 * @param pass the change detection pass over the repository
+	 * @param pages the number of pages that were listed
+	 * @param complete whether all of the repository's open issues were listed
+	 * @param planned whether issues were dispatched in order of urgency
+	 */
+	void record(Repository repository, ChangeDetector.Pass pass, int pages, boolean complete, boolean planned) {
+		end();
+		if (shouldCommit()) {
+			this.repository = repository.getOrganization() + "/" + repository.getName();
+			this.pages = pages;
+			this.dispatched = pass.getDispatched();
+			this.skipped = pass.getSkipped();
+			this.deferred = pass.getDeferred();
+			this.complete = complete;
+			this.planned = planned;
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.spring.issuebot.PassReport.IssueReport;
+import io.spring.issuebot.PassReport.RepositoryReport;
+import io.spring.issuebot.github.ApiRequest;
+import io.spring.issuebot.github.ApiRequestListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accounts for the requests that are made to GitHub's REST API, producing a
+ * {@link PassReport} at the end of each monitoring pass. Each report covers the requests
+ * that were made since the previous pass completed. The most recent reports are retained
+ * in a bounded ring, with the oldest report being discarded when it is full.
+ *
+ * @author Andy Wilkinson
+ */
+final class RequestAccounting implements ApiRequestListener {
+
+	private static final Logger log = LoggerFactory.getLogger(RequestAccounting.class);
+
+	private static final String UNATTRIBUTED = "(unattributed)";
+
+	private final Deque<PassReport> reports = new ArrayDeque<>();
+
+	private final int retainedPasses;
+
+	private final int topIssues;
+
+	private final Clock clock;
+
+	private Map<String, Tally> tallies = new HashMap<>();
+
+	private Map<String, Long> issueRequests = new HashMap<>();
+
+	/**
+	 * Creates a new {@code RequestAccounting}.
+	 * @param retainedPasses the number of pass reports to retain
+	 * @param topIssues the number of most expensive issues to include in each report
+	 * @param clock the clock used to determine the start time of each pass
+	 */
+	RequestAccounting(int retainedPasses, int topIssues, Clock clock) {
+		this.retainedPasses = retainedPasses;
+		this.topIssues = topIssues;
+		this.clock = clock;
+	}
+
+	@Override
+	public synchronized void onRequest(ApiRequest request) {
+		String name = name(request);
+		this.tallies.computeIfAbsent(name, (key) -> new Tally()).add(request);
+		if (request.getIssueNumber() != null) {
+			this.issueRequests.merge(name + "#" + request.getIssueNumber(), 1L, Long::sum);
+		}
+	}
+
+	/**
+	 * Records that monitoring of the given {@code repository} took the given
+	 * {@code elapsed} time.
+	 * @param repository the repository
+	 * @param elapsed the elapsed time
+	 */
+	synchronized void repositoryMonitored(Repository repository, Duration elapsed) {
+		this.tallies.computeIfAbsent(repository.getOrganization() + "/" + repository.getName(), (key) -> new Tally())
+			.elapsed(elapsed);
+	}
+
+	/**
+	 * Completes the current pass, producing a report of the requests that were made
+	 * during it.
+	 * @param duration the duration of the pass
+	 * @return the report
+	 */
+	synchronized PassReport completePass(Duration duration) {
+		List<RepositoryReport> repositories = new ArrayList<>();
+		this.tallies.forEach((name, tally) -> repositories.add(tally.report(name)));
+		repositories.sort(Comparator.comparingLong(RepositoryReport::getQuotaConsumed)
+			.thenComparingLong(RepositoryReport::getTotalRequests)
+			.reversed());
+		List<IssueReport> issues = this.issueRequests.entrySet()
+			.stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+			.limit(this.topIssues)
+			.map((entry) -> new IssueReport(entry.getKey(), entry.getValue()))
+			.toList();
+		PassReport report = new PassReport(this.clock.instant().minus(duration), duration.toMillis(),
+				List.copyOf(repositories), issues);
+		this.tallies = new HashMap<>();
+		this.issueRequests = new HashMap<>();
+		if (this.retainedPasses > 0) {
+			if (this.reports.size() == this.retainedPasses) {
+				this.reports.removeLast();
+			}
+			this.reports.addFirst(report);
+		}
+		if (log.isInfoEnabled()) {
+			log.info("Pass made {} requests consuming {} of the rate limit. Most expensive: {}",
+					report.getRequests(), report.getQuotaConsumed(), mostExpensive(repositories));
+		}
+		return report;
+	}
+
+	/**
+	 * Returns the retained reports, most recent first.
+	 * @return the reports
+	 */
+	synchronized List<PassReport> getReports() {
+		return new ArrayList<>(this.reports);
+	}
+
+	private String name(ApiRequest request) {
+		if (request.getOrganization() == null) {
+			return UNATTRIBUTED;
+		}
+		return (request.getRepository() != null) ? request.getOrganization() + "/" + request.getRepository()
+				: request.getOrganization();
+	}
+
+	private static Map<String, Long> mostExpensive(List<RepositoryReport> repositories) {
+		Map<String, Long> mostExpensive = new LinkedHashMap<>();
+		repositories.stream()
+			.limit(3)
+			.forEach((repository) -> mostExpensive.put(repository.getName(), repository.getQuotaConsumed()));
+		return mostExpensive;
+	}
+
+	private static final class Tally {
+
+		private final Map<String, Long> requests = new TreeMap<>();
+
+		private long pages;
+
+		private long requestNanos;
+
+		private long elapsedNanos;
+
+		private long quotaConsumed;
+
+		private void add(ApiRequest request) {
+			this.requests.merge(request.getMethod() + " " + request.getEndpoint(), 1L, Long::sum);
+			if (request.isPage()) {
+				this.pages++;
+			}
+			if (request.isQuotaConsumed()) {
+				this.quotaConsumed++;
+			}
+			this.requestNanos += request.getDuration().toNanos();
+		}
+
+		private void elapsed(Duration elapsed) {
+			this.elapsedNanos += elapsed.toNanos();
+		}
+
+		private RepositoryReport report(String name) {
+			return new RepositoryReport(name, Collections.unmodifiableMap(new TreeMap<>(this.requests)), this.pages,
+					Duration.ofNanos(this.requestNanos).toMillis(), Duration.ofNanos(this.elapsedNanos).toMillis(),
+					this.quotaConsumed);
+		}
+
+	}
+
+}
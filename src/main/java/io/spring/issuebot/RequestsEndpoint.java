@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * An actuator endpoint that exposes the {@link PassReport reports} of the requests that
+ * were made to GitHub's REST API during recent monitoring passes.
+ *
+ * @author Andy Wilkinson
+ */
+@Endpoint(id = "requests")
+public final class RequestsEndpoint {
+
+	private final RequestAccounting requestAccounting;
+
+	RequestsEndpoint(RequestAccounting requestAccounting) {
+		this.requestAccounting = requestAccounting;
+	}
+
+	/**
+	 * Returns the reports of recent passes, most recent first.
+	 * @return the reports
+	 */
+	@ReadOperation
+	public List<PassReport> passes() {
+		return this.requestAccounting.getReports();
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.OffsetDateTime;
+
+import io.spring.issuebot.github.Issue;
+
+/**
+ * A {@code RevisitRegistry} allows an {@link IssueListener} to register a time-based
+ * interest in an issue so that it is notified of the issue again once that time has
+ * passed, even if the issue has not changed.
+ *
+ * @author Andy Wilkinson
+ */
+public interface RevisitRegistry {
+
+	/**
+	 * A registry that ignores all registrations.
+	 */
+	RevisitRegistry NONE = (repository, issue, time) -> {
+	};
+
+	/**
+	 * Registers an interest in revisiting the given {@code issue} once the given
+	 * {@code time} has passed.
+	 * @param repository the repository to which the issue belongs
+	 * @param issue the issue
+	 * @param time the time after which the issue should be revisited
+	 */
+	void revisitAt(Repository repository, Issue issue, OffsetDateTime time);
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.issuebot.github.Issue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * An {@link IssueDispatcher} that handles issues concurrently on a bounded pool of
+ * single-threaded stripes. Issues are assigned to a stripe by their URL so that all
+ * listener notifications for a particular issue happen in order. The number of issues
+ * that may be in flight is limited, with dispatch blocking once the limit is reached, and
+ * each listener is protected by a bulkhead that limits the number of stripes that it can
+ * occupy at once. When a listener's bulkhead is full, the issue's remaining
+ * notifications are set aside and retried shortly afterwards, leaving the stripe free to
+ * handle other issues. Later dispatches of the same issue wait behind them. When the
+ * bulkhead remains full for longer than a timeout, the issue is not passed to that
+ * listener so that a slow listener cannot starve the others.
+ *
+ * @author Andy Wilkinson
+ */
+class StripedIssueDispatcher implements IssueDispatcher, AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(StripedIssueDispatcher.class);
+
+	private static final Duration RETRY_INTERVAL = Duration.ofMillis(10);
+
+	private final List<IssueListener> issueListeners;
+
+	private final List<Semaphore> bulkheads = new ArrayList<>();
+
+	private final Stripe[] stripes;
+
+	private final ScheduledExecutorService retries;
+
+	private final Semaphore inFlight;
+
+	private final Duration bulkheadTimeout;
+
+	/**
+	 * Creates a new {@code StripedIssueDispatcher}.
+	 * @param issueListeners the listeners to notify
+	 * @param stripes the number of stripes
+	 * @param maxInFlight the maximum number of issues that may be in flight
+	 * @param listenerConcurrency the maximum number of stripes that may be notifying a
+	 * particular listener at once
+	 * @param bulkheadTimeout how long an issue may wait for a listener's bulkhead before
+	 * the listener is skipped
+	 */
+	StripedIssueDispatcher(List<IssueListener> issueListeners, int stripes, int maxInFlight, int listenerConcurrency,
+			Duration bulkheadTimeout) {
+		this.issueListeners = issueListeners;
+		for (int i = 0; i < issueListeners.size(); i++) {
+			this.bulkheads.add(new Semaphore(listenerConcurrency));
+		}
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("issue-dispatch-");
+		this.stripes = new Stripe[stripes];
+		for (int i = 0; i < stripes; i++) {
+			this.stripes[i] = new Stripe(Executors.newSingleThreadExecutor(threadFactory));
+		}
+		this.retries = Executors
+			.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("issue-dispatch-retry-"));
+		this.inFlight = new Semaphore(maxInFlight);
+		this.bulkheadTimeout = bulkheadTimeout;
+	}
+
+	@Override
+	public CompletableFuture<Boolean> dispatch(Repository repository, Issue issue) {
+		this.inFlight.acquireUninterruptibly();
+		CompletableFuture<Boolean> result = new CompletableFuture<>();
+		try {
+			Stripe stripe = stripeFor(issue);
+			stripe.executor.execute(new Notification(repository, issue, stripe, result));
+		}
+		catch (RejectedExecutionException ex) {
+			this.inFlight.release();
+			throw ex;
+		}
+		return result.whenComplete((success, ex) -> this.inFlight.release());
+	}
+
+	private Stripe stripeFor(Issue issue) {
+		return this.stripes[Math.floorMod(Objects.hashCode(issue.getUrl()), this.stripes.length)];
+	}
+
+	@Override
+	public void close() {
+		this.retries.shutdown();
+		for (Stripe stripe : this.stripes) {
+			stripe.executor.shutdown();
+		}
+	}
+
+	/**
+	 * A single-threaded stripe and the notifications that are waiting behind an issue
+	 * whose notifications have been set aside. The waiting notifications are guarded by
+	 * the stripe's monitor as a rejected retry may abandon them from another thread.
+	 */
+	private static final class Stripe {
+
+		private final ExecutorService executor;
+
+		private final Map<String, Deque<Notification>> waiting = new HashMap<>();
+
+		private Stripe(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+	}
+
+	/**
+	 * The notification of the listeners of an issue, resumable from the listener whose
+	 * bulkhead was full.
+	 */
+	private final class Notification implements Runnable {
+
+		private final Repository repository;
+
+		private final Issue issue;
+
+		private final Stripe stripe;
+
+		private final CompletableFuture<Boolean> result;
+
+		private int listener;
+
+		private boolean success = true;
+
+		private boolean waiting;
+
+		private long waitingSince;
+
+		private boolean setAside;
+
+		private Notification(Repository repository, Issue issue, Stripe stripe, CompletableFuture<Boolean> result) {
+			this.repository = repository;
+			this.issue = issue;
+			this.stripe = stripe;
+			this.result = result;
+		}
+
+		@Override
+		public void run() {
+			if (!this.setAside) {
+				synchronized (this.stripe) {
+					Deque<Notification> queue = this.stripe.waiting.get(this.issue.getUrl());
+					if (queue != null) {
+						queue.add(this);
+						return;
+					}
+				}
+			}
+			while (this.listener < StripedIssueDispatcher.this.issueListeners.size()) {
+				IssueListener issueListener = StripedIssueDispatcher.this.issueListeners.get(this.listener);
+				Semaphore bulkhead = StripedIssueDispatcher.this.bulkheads.get(this.listener);
+				if (!bulkhead.tryAcquire()) {
+					if (!this.waiting) {
+						this.waiting = true;
+						this.waitingSince = System.nanoTime();
+					}
+					if (System.nanoTime() - this.waitingSince < StripedIssueDispatcher.this.bulkheadTimeout.toNanos()) {
+						setAside();
+						return;
+					}
+					log.warn("Listener '{}' is saturated. Skipping issue '{}'", issueListener, this.issue);
+					this.success = false;
+				}
+				else {
+					try {
+						this.success &= SynchronousIssueDispatcher.notifyListener(issueListener, this.repository,
+								this.issue);
+					}
+					finally {
+						bulkhead.release();
+					}
+				}
+				this.listener++;
+				this.waiting = false;
+			}
+			complete();
+		}
+
+		private void setAside() {
+			if (!this.setAside) {
+				synchronized (this.stripe) {
+					this.stripe.waiting.put(this.issue.getUrl(), new ArrayDeque<>());
+				}
+				this.setAside = true;
+			}
+			try {
+				StripedIssueDispatcher.this.retries.schedule(this::retry, RETRY_INTERVAL.toMillis(),
+						TimeUnit.MILLISECONDS);
+			}
+			catch (RejectedExecutionException ex) {
+				abandon(ex);
+			}
+		}
+
+		private void retry() {
+			try {
+				this.stripe.executor.execute(this);
+			}
+			catch (RejectedExecutionException ex) {
+				abandon(ex);
+			}
+		}
+
+		private void complete() {
+			this.result.complete(this.success);
+			if (this.setAside) {
+				removeWaiting().forEach(Notification::run);
+			}
+		}
+
+		private void abandon(RejectedExecutionException ex) {
+			this.result.completeExceptionally(ex);
+			if (this.setAside) {
+				removeWaiting().forEach((notification) -> notification.result.completeExceptionally(ex));
+			}
+		}
+
+		private Deque<Notification> removeWaiting() {
+			synchronized (this.stripe) {
+				return this.stripe.waiting.remove(this.issue.getUrl());
+			}
+		}
+
+	}
+
+}
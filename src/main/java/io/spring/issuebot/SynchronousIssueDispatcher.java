@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.spring.issuebot.github.Issue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link IssueDispatcher} that notifies each listener in turn on the calling thread.
+ * Dispatches from different threads are handled one at a time so that an issue is never
+ * handled by two threads at once.
+ *
+ * @author Andy Wilkinson
+ */
+class SynchronousIssueDispatcher implements IssueDispatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(SynchronousIssueDispatcher.class);
+
+	private final List<IssueListener> issueListeners;
+
+	SynchronousIssueDispatcher(List<IssueListener> issueListeners) {
+		this.issueListeners = issueListeners;
+	}
+
+	@Override
+	public synchronized CompletableFuture<Boolean> dispatch(Repository repository, Issue issue) {
+		boolean success = true;
+		for (IssueListener issueListener : this.issueListeners) {
+			success &= notifyListener(issueListener, repository, issue);
+		}
+		return CompletableFuture.completedFuture(success);
+	}
+
+	static boolean notifyListener(IssueListener issueListener, Repository repository, Issue issue) {
+		IssueListenerEvent event = new IssueListenerEvent();
+		event.begin();
+		try {
+			issueListener.onOpenIssue(repository, issue);
+			event.record(issueListener, repository, issue, true);
+			return true;
+		}
+		catch (Exception ex) {
+			event.record(issueListener, repository, issue, false);
+			log.warn("Listener '{}' failed when handling issue '{}'", issueListener, issue, ex);
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.RateLimit;
+
+/**
+ * Plans the dispatch of issues when the remaining rate limit is scarce. The remaining
+ * quota of a rate limit is shared between the repositories whose candidate issues need
+ * it. A configurable share is split equally between them so that every repository
+ * receives a minimum of service, however small its weight. The rest is handed out by
+ * weighted fair queuing in proportion to each repository's weight which, unless
+ * configured, is the number of open issues that it had in its last complete pass.
+ * Candidates that do not fit are left for a later pass.
+ * <p>
+ * Within a repository, candidates receive quota in order of urgency. Issues that are due
+ * to be revisited, for example because a feedback reminder or close deadline has passed,
+ * are the most urgent, ordered by how long they have been due. They are followed by
+ * untriaged issues, oldest first, and then by all other changed issues, least recently
+ * updated first.
+ * <p>
+ * The rate limit is considered scarce when its remaining quota is below a threshold or
+ * is expected to be insufficient for the repositories that share it, based on the number
+ * of issues that they required to be dispatched and the number of pages that they listed
+ * in their last complete pass.
+ *
+ * @author Andy Wilkinson
+ */
+final class WorkPlanner {
+
+	private final GitHubOperations gitHub;
+
+	private final int scarceBelow;
+
+	private final int requestsPerIssue;
+
+	private final double guaranteedShare;
+
+	private final Map<Repository, Integer> volumes = new ConcurrentHashMap<>();
+
+	private final Map<Repository, Integer> demands = new ConcurrentHashMap<>();
+
+	private final Map<Repository, Integer> pages = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@code WorkPlanner} that does not guarantee repositories a share of
+	 * the remaining quota.
+	 * @param gitHub the GitHub operations providing the current rate limits
+	 * @param scarceBelow the remaining quota below which the rate limit is scarce
+	 * @param requestsPerIssue the estimated number of requests needed to dispatch an
+	 * issue
+	 */
+	WorkPlanner(GitHubOperations gitHub, int scarceBelow, int requestsPerIssue) {
+		this(gitHub, scarceBelow, requestsPerIssue, 0);
+	}
+
+	/**
+	 * Creates a new {@code WorkPlanner}.
+	 * @param gitHub the GitHub operations providing the current rate limits
+	 * @param scarceBelow the remaining quota below which the rate limit is scarce
+	 * @param requestsPerIssue the estimated number of requests needed to dispatch an
+	 * issue
+	 * @param guaranteedShare the share of the remaining quota, between 0 and 1, that is
+	 * split equally between the repositories with candidates
+	 */
+	WorkPlanner(GitHubOperations gitHub, int scarceBelow, int requestsPerIssue, double guaranteedShare) {
+		this.gitHub = gitHub;
+		this.scarceBelow = scarceBelow;
+		this.requestsPerIssue = Math.max(1, requestsPerIssue);
+		this.guaranteedShare = Math.min(1, Math.max(0, guaranteedShare));
+	}
+
+	/**
+	 * Returns whether the remaining rate limit of any of the given {@code repositories}
+	 * is scarce, either because it is below the threshold or because it is not expected
+	 * to cover the repositories that share it.
+	 * @param repositories the repositories
+	 * @return {@code true} if the rate limit is scarce, otherwise {@code false}
+	 */
+	boolean isScarce(Collection<Repository> repositories) {
+		if (this.scarceBelow <= 0) {
+			return false;
+		}
+		Map<RateLimit, Integer> expected = new IdentityHashMap<>();
+		for (Repository repository : repositories) {
+			RateLimit rateLimit = this.gitHub.getRateLimit(repository.getOrganization());
+			if (rateLimit != null) {
+				int requests = expected.merge(rateLimit, expectedRequests(repository), Integer::sum);
+				if (rateLimit.getRemaining() < Math.max(this.scarceBelow, requests)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private int expectedRequests(Repository repository) {
+		return this.demands.getOrDefault(repository, 0) * this.requestsPerIssue
+				+ this.pages.getOrDefault(repository, 0);
+	}
+
+	/**
+	 * Records the given complete {@code pass} of the given {@code repository}. The number
+	 * of issues that it listed becomes the repository's issue volume, the number that
+	 * required dispatch becomes its expected demand, and the number of pages that were
+	 * listed becomes the expected cost of listing the repository's issues.
+	 * @param repository the repository
+	 * @param pass the pass
+	 * @param pages the number of pages that were listed by the pass
+	 */
+	void completed(Repository repository, ChangeDetector.Pass pass, int pages) {
+		int demand = pass.getDispatched() + pass.getDeferred();
+		this.volumes.put(repository, demand + pass.getSkipped());
+		this.demands.put(repository, demand);
+		this.pages.put(repository, pages);
+	}
+
+	/**
+	 * Returns the weight of the given {@code repository}'s share of a scarce rate limit.
+	 * @param repository the repository
+	 * @return the configured weight or, if not configured, the number of open issues in
+	 * the repository's last complete pass, with a minimum of one
+	 */
+	double weight(Repository repository) {
+		if (repository.getWeight() > 0) {
+			return repository.getWeight();
+		}
+		return Math.max(1, this.volumes.getOrDefault(repository, 0));
+	}
+
+	/**
+	 * Shares the remaining rate limit between the repositories of the given
+	 * {@code candidates} and returns those that fit within it, most urgent first.
+	 * Organizations that share a rate limit share its remaining quota.
+	 * @param candidates the candidates
+	 * @return the candidates to dispatch
+	 */
+	List<Candidate> plan(Collection<Candidate> candidates) {
+		Map<RateLimit, Map<Repository, Deque<Candidate>>> queues = new IdentityHashMap<>();
+		List<Candidate> planned = new ArrayList<>();
+		for (Candidate candidate : candidates) {
+			RateLimit rateLimit = this.gitHub.getRateLimit(candidate.repository.getOrganization());
+			if (rateLimit == null) {
+				planned.add(candidate);
+				continue;
+			}
+			queues.computeIfAbsent(rateLimit, (key) -> new LinkedHashMap<>())
+				.computeIfAbsent(candidate.repository, (repository) -> new ArrayDeque<>())
+				.add(candidate);
+		}
+		queues.forEach((rateLimit, repositoryQueues) -> planned
+			.addAll(share(rateLimit.getRemaining() / this.requestsPerIssue, repositoryQueues)));
+		planned.sort(Candidate.BY_URGENCY);
+		return planned;
+	}
+
+	private List<Candidate> share(int issues, Map<Repository, Deque<Candidate>> queues) {
+		queues.replaceAll((repository, queue) -> {
+			List<Candidate> ranked = new ArrayList<>(queue);
+			ranked.sort(Candidate.BY_URGENCY);
+			return new ArrayDeque<>(ranked);
+		});
+		List<Candidate> planned = new ArrayList<>();
+		int guaranteed = (int) (issues * this.guaranteedShare / queues.size());
+		for (Deque<Candidate> queue : queues.values()) {
+			for (int i = 0; i < guaranteed && !queue.isEmpty(); i++) {
+				planned.add(queue.poll());
+			}
+		}
+		Map<Repository, Double> finishTimes = new LinkedHashMap<>();
+		queues.keySet().forEach((repository) -> finishTimes.put(repository, 0.0));
+		while (planned.size() < issues) {
+			Repository next = null;
+			double nextFinish = 0;
+			for (Map.Entry<Repository, Deque<Candidate>> entry : queues.entrySet()) {
+				Candidate head = entry.getValue().peek();
+				if (head == null) {
+					continue;
+				}
+				double finish = finishTimes.get(entry.getKey()) + 1 / weight(entry.getKey());
+				if (next == null || finish < nextFinish || (finish == nextFinish
+						&& Candidate.BY_URGENCY.compare(head, queues.get(next).peek()) < 0)) {
+					next = entry.getKey();
+					nextFinish = finish;
+				}
+			}
+			if (next == null) {
+				break;
+			}
+			finishTimes.put(next, nextFinish);
+			planned.add(queues.get(next).poll());
+		}
+		return planned;
+	}
+
+	/**
+	 * An issue that is a candidate for dispatch.
+	 */
+	static final class Candidate {
+
+		private static final Comparator<Candidate> BY_URGENCY = Comparator.comparingInt(Candidate::tier)
+			.thenComparing(Candidate::time);
+
+		private final Repository repository;
+
+		private final Issue issue;
+
+		private final Instant dueRevisit;
+
+		private final ChangeDetector.Pass pass;
+
+		/**
+		 * Creates a new {@code Candidate}.
+		 * @param repository the repository to which the issue belongs
+		 * @param issue the issue
+		 * @param pass the pass that found the issue
+		 */
+		Candidate(Repository repository, Issue issue, ChangeDetector.Pass pass) {
+			this.repository = repository;
+			this.issue = issue;
+			this.dueRevisit = pass.getDueRevisit(issue);
+			this.pass = pass;
+		}
+
+		Repository getRepository() {
+			return this.repository;
+		}
+
+		Issue getIssue() {
+			return this.issue;
+		}
+
+		ChangeDetector.Pass getPass() {
+			return this.pass;
+		}
+
+		private int tier() {
+			if (this.dueRevisit != null) {
+				return 0;
+			}
+			return (isUntriaged()) ? 1 : 2;
+		}
+
+		private Instant time() {
+			if (this.dueRevisit != null) {
+				return this.dueRevisit;
+			}
+			return toInstant((isUntriaged()) ? this.issue.getCreatedAt() : this.issue.getUpdatedAt());
+		}
+
+		private boolean isUntriaged() {
+			return (this.issue.getLabels() == null || this.issue.getLabels().isEmpty())
+					&& this.issue.getMilestone() == null;
+		}
+
+		private static Instant toInstant(OffsetDateTime time) {
+			return (time != null) ? time.toInstant() : Instant.MAX;
+		}
+
+	}
+
+}
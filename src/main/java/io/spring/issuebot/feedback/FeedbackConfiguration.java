@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2019 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,22 @@
 
 package io.spring.issuebot.feedback;
 
+import java.time.Clock;
 import java.util.List;
 
 import io.spring.issuebot.GitHubProperties;
 import io.spring.issuebot.IssueListener;
+import io.spring.issuebot.MonitoredRepositories;
 import io.spring.issuebot.MonitoringProperties;
+import io.spring.issuebot.RevisitRegistry;
 import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.sharding.RepositorySharding;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 /**
  * Central configuration for the beans involved in managing issues that are waiting for
@@ -38,14 +44,27 @@ import org.springframework.context.annotation.Configuration;
 class FeedbackConfiguration {
 
 	@Bean
+	@Lazy
 	FeedbackIssueListener feedbackIssueListener(GitHubOperations gitHub, GitHubProperties gitHubProperties,
-			MonitoringProperties monitoringProperties, FeedbackProperties feedbackProperties,
-			List<IssueListener> issueListener) {
-		return new FeedbackIssueListener(gitHub, feedbackProperties.getRequiredLabel(),
-				monitoringProperties.getRepositories(), gitHubProperties.getCredentials().getUsername(),
+			MonitoredRepositories monitoredRepositories, FeedbackProperties feedbackProperties,
+			List<IssueListener> issueListener, RevisitRegistry revisitRegistry, Clock clock) {
+		return new FeedbackIssueListener(gitHub, feedbackProperties.getRequiredLabel(), monitoredRepositories,
+				gitHubProperties.getCredentials().getUsername(),
 				new StandardFeedbackListener(gitHub, feedbackProperties.getProvidedLabel(),
 						feedbackProperties.getRequiredLabel(), feedbackProperties.getReminderLabel(),
-						feedbackProperties.getReminderComment(), feedbackProperties.getCloseComment(), issueListener));
+						feedbackProperties.getReminderComment(), feedbackProperties.getCloseComment(), issueListener,
+						revisitRegistry, clock),
+				!feedbackProperties.getSearch().isEnabled());
+	}
+
+	@Bean
+	FeedbackSearch feedbackSearch(GitHubOperations gitHub, ObjectProvider<FeedbackIssueListener> feedbackIssueListener,
+			MonitoringProperties monitoringProperties, MonitoredRepositories monitoredRepositories,
+			FeedbackProperties feedbackProperties, RepositorySharding repositorySharding, Clock clock) {
+		return new FeedbackSearch(gitHub, feedbackIssueListener::getObject, feedbackProperties.getRequiredLabel(),
+				monitoredRepositories,
+				monitoringProperties.isEnabled() && feedbackProperties.getSearch().isEnabled(), clock,
+				repositorySharding);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,20 +17,17 @@
 package io.spring.issuebot.feedback;
 
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import io.spring.issuebot.IssueListener;
+import io.spring.issuebot.MonitoredRepositories;
 import io.spring.issuebot.Repository;
-import io.spring.issuebot.github.Comment;
-import io.spring.issuebot.github.Event;
 import io.spring.issuebot.github.GitHubOperations;
 import io.spring.issuebot.github.Issue;
 import io.spring.issuebot.github.Label;
 import io.spring.issuebot.github.Page;
+import io.spring.issuebot.github.TimelineItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,32 +44,61 @@ final class FeedbackIssueListener implements IssueListener {
 
 	private final String labelName;
 
-	private final Map<Repository, List<String>> repositoryCollaborators;
+	private final MonitoredRepositories repositories;
+
+	private final String username;
 
 	private final FeedbackListener feedbackListener;
 
+	private final boolean candidatesFromListing;
+
 	FeedbackIssueListener(GitHubOperations gitHub, String labelName, List<Repository> repositories, String username,
 			FeedbackListener feedbackListener) {
+		this(gitHub, labelName, new MonitoredRepositories(repositories), username, feedbackListener, true);
+	}
+
+	/**
+	 * Creates a new {@code FeedbackIssueListener}.
+	 * @param gitHub the GitHub operations
+	 * @param labelName the name of the label that indicates that feedback is required
+	 * @param repositories the monitored repositories
+	 * @param username the username of the bot
+	 * @param feedbackListener the listener to notify of required and provided feedback
+	 * @param candidatesFromListing whether the issues from a monitoring pass should be
+	 * processed or ignored in favor of {@link #onFeedbackCandidate candidates} that have
+	 * been found by other means
+	 */
+	FeedbackIssueListener(GitHubOperations gitHub, String labelName, MonitoredRepositories repositories,
+			String username, FeedbackListener feedbackListener, boolean candidatesFromListing) {
 		this.gitHub = gitHub;
 		this.labelName = labelName;
-		this.repositoryCollaborators = repositories.stream()
-			.collect(Collectors.toMap(Function.identity(), (repository) -> {
-				List<String> collaborators = new ArrayList<>(repository.getCollaborators());
-				collaborators.add(username);
-				return collaborators;
-			}));
+		this.repositories = repositories;
+		this.username = username;
 		this.feedbackListener = feedbackListener;
+		this.candidatesFromListing = candidatesFromListing;
 	}
 
 	@Override
 	public void onOpenIssue(Repository repository, Issue issue) {
+		if (this.candidatesFromListing) {
+			onFeedbackCandidate(repository, issue);
+		}
+	}
+
+	/**
+	 * Processes the given {@code issue} in the given {@code repository} as a candidate
+	 * that may be waiting for feedback.
+	 * @param repository the repository
+	 * @param issue the issue
+	 */
+	void onFeedbackCandidate(Repository repository, Issue issue) {
 		if (waitingForFeedback(issue)) {
-			OffsetDateTime waitingSince = getWaitingSince(issue);
-			if (waitingSince != null) {
+			WaitingState state = getWaitingState(issue, this.repositories.getCollaborators(repository));
+			if (state != null) {
 				if (log.isDebugEnabled()) {
-					log.debug("{} has been awaiting feedback since {}", issue, waitingSince);
+					log.debug("{} has been awaiting feedback since {}", issue, state.since);
 				}
-				processWaitingIssue(repository, issue, waitingSince);
+				processWaitingIssue(repository, issue, state);
 			}
 			else {
 				log.warn("Could not determine time at which {} was labelled as waiting for feedback", issue);
@@ -80,12 +106,12 @@ final class FeedbackIssueListener implements IssueListener {
 		}
 	}
 
-	private void processWaitingIssue(Repository repository, Issue issue, OffsetDateTime waitingSince) {
-		if (commentedSince(waitingSince, issue, this.repositoryCollaborators.get(repository))) {
+	private void processWaitingIssue(Repository repository, Issue issue, WaitingState state) {
+		if (state.commentedSince) {
 			this.feedbackListener.feedbackProvided(repository, issue);
 		}
 		else {
-			this.feedbackListener.feedbackRequired(repository, issue, waitingSince);
+			this.feedbackListener.feedbackRequired(repository, issue, state.since);
 		}
 	}
 
@@ -105,32 +131,46 @@ final class FeedbackIssueListener implements IssueListener {
 		return false;
 	}
 
-	private OffsetDateTime getWaitingSince(Issue issue) {
-		OffsetDateTime createdAt = null;
-		Page<Event> page = this.gitHub.getEvents(issue);
-		while (page != null) {
-			for (Event event : page.getContent()) {
-				if (Event.Type.LABELED.equals(event.getType()) && this.labelName.equals(event.getLabel().getName())) {
-					createdAt = event.getCreationTime();
-				}
+	private WaitingState getWaitingState(Issue issue, Set<String> collaborators) {
+		Page<TimelineItem> timeline = this.gitHub.getTimelineNewestFirst(issue);
+		if (timeline == null) {
+			return null;
+		}
+		OffsetDateTime latestComment = null;
+		for (TimelineItem item : timeline.all()) {
+			if (latestComment == null && isCommentFromNonCollaborator(item, collaborators)) {
+				latestComment = item.getCreationTime();
+			}
+			if (isLabelledAsWaitingForFeedback(item)) {
+				OffsetDateTime since = item.getCreationTime();
+				return new WaitingState(since, latestComment != null && latestComment.isAfter(since));
 			}
-			page = page.next();
 		}
-		return createdAt;
+		return null;
 	}
 
-	private boolean commentedSince(OffsetDateTime waitingForFeedbackSince, Issue issue, List<String> collaborators) {
-		Page<Comment> page = this.gitHub.getComments(issue);
-		while (page != null) {
-			for (Comment comment : page.getContent()) {
-				if (!collaborators.contains(comment.getUser().getLogin())
-						&& comment.getCreationTime().isAfter(waitingForFeedbackSince)) {
-					return true;
-				}
-			}
-			page = page.next();
+	private boolean isCommentFromNonCollaborator(TimelineItem item, Set<String> collaborators) {
+		return TimelineItem.Type.COMMENTED.equals(item.getType()) && item.getUser() != null
+				&& !collaborators.contains(item.getUser().getLogin())
+				&& !this.username.equals(item.getUser().getLogin());
+	}
+
+	private boolean isLabelledAsWaitingForFeedback(TimelineItem item) {
+		return TimelineItem.Type.LABELED.equals(item.getType()) && item.getLabel() != null
+				&& this.labelName.equals(item.getLabel().getName());
+	}
+
+	private static final class WaitingState {
+
+		private final OffsetDateTime since;
+
+		private final boolean commentedSince;
+
+		private WaitingState(OffsetDateTime since, boolean commentedSince) {
+			this.since = since;
+			this.commentedSince = commentedSince;
 		}
-		return false;
+
 	}
 
 }
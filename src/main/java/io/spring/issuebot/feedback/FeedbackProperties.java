@@ -18,6 +18,7 @@ package io.spring.issuebot.feedback;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * {@link EnableConfigurationProperties Configuration properties} for configuring the
@@ -54,6 +55,13 @@ final class FeedbackProperties {
 	 */
 	private String closeComment;
 
+	/**
+	 * Search for issues that are waiting for feedback rather than examining every issue
+	 * found by the monitoring pass.
+	 */
+	@NestedConfigurationProperty
+	private final Search search = new Search();
+
 	public String getRequiredLabel() {
 		return this.requiredLabel;
 	}
@@ -94,4 +102,30 @@ final class FeedbackProperties {
 		this.closeComment = closeComment;
 	}
 
+	public Search getSearch() {
+		return this.search;
+	}
+
+	/**
+	 * Properties for finding issues that are waiting for feedback using GitHub's search
+	 * API.
+	 */
+	public static class Search {
+
+		/**
+		 * Whether to find issues that are waiting for feedback by searching each monitored
+		 * organization.
+		 */
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
 }
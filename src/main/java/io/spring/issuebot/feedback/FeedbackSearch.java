@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.feedback;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.spring.issuebot.MonitoredRepositories;
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.Page;
+import io.spring.issuebot.github.RateLimit;
+import io.spring.issuebot.sharding.RepositorySharding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Finds issues that are waiting for feedback by searching each monitored organization
+ * for open issues with the feedback required label. Matching issues in monitored
+ * repositories are passed to the {@link FeedbackIssueListener}, avoiding the need to
+ * examine every open issue. Searches run on their own thread, separate from the
+ * monitoring pass, and are subject to their own rate limit. When it has been exhausted,
+ * an organization's search is rescheduled to resume once the limit has reset. When the
+ * repositories are shared between several instances, only issues in repositories whose
+ * lease is held by this instance are processed.
+ *
+ * @author Andy Wilkinson
+ */
+final class FeedbackSearch implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(FeedbackSearch.class);
+
+	private static final Duration INTERVAL = Duration.ofMinutes(5);
+
+	private static final Duration RESET_MARGIN = Duration.ofSeconds(1);
+
+	private final GitHubOperations gitHub;
+
+	private final Supplier<FeedbackIssueListener> feedbackIssueListener;
+
+	private final String labelName;
+
+	private final MonitoredRepositories repositories;
+
+	private final boolean enabled;
+
+	private final Clock clock;
+
+	private final RepositorySharding sharding;
+
+	private final Set<String> resuming = ConcurrentHashMap.newKeySet();
+
+	private ScheduledExecutorService executor;
+
+	/**
+	 * Creates a new {@code FeedbackSearch}.
+	 * @param gitHub the GitHub operations
+	 * @param feedbackIssueListener supplier of the listener to which candidates are passed
+	 * @param labelName the name of the label that indicates that feedback is required
+	 * @param repositories the monitored repositories, grouped by organization at the start
+	 * of each search
+	 * @param enabled whether searching is enabled
+	 * @param clock the clock used to determine when the search rate limit will reset
+	 */
+	FeedbackSearch(GitHubOperations gitHub, Supplier<FeedbackIssueListener> feedbackIssueListener,
+			String labelName, MonitoredRepositories repositories, boolean enabled, Clock clock) {
+		this(gitHub, feedbackIssueListener, labelName, repositories, enabled, clock,
+				RepositorySharding.unsharded(clock));
+	}
+
+	/**
+	 * Creates a new {@code FeedbackSearch} that only processes issues in repositories
+	 * whose lease is held by this instance.
+	 * @param gitHub the GitHub operations
+	 * @param feedbackIssueListener supplier of the listener to which candidates are passed
+	 * @param labelName the name of the label that indicates that feedback is required
+	 * @param repositories the monitored repositories, grouped by organization at the start
+	 * of each search
+	 * @param enabled whether searching is enabled
+	 * @param clock the clock used to determine when the search rate limit will reset
+	 * @param sharding the sharding of the repositories between instances
+	 */
+	FeedbackSearch(GitHubOperations gitHub, Supplier<FeedbackIssueListener> feedbackIssueListener,
+			String labelName, MonitoredRepositories repositories, boolean enabled, Clock clock,
+			RepositorySharding sharding) {
+		this.gitHub = gitHub;
+		this.feedbackIssueListener = feedbackIssueListener;
+		this.labelName = labelName;
+		this.repositories = repositories;
+		this.enabled = enabled;
+		this.clock = clock;
+		this.sharding = sharding;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (this.enabled && this.executor == null) {
+			this.executor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+				Thread thread = new Thread(runnable, "feedback-search");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.executor.scheduleAtFixedRate(this::search, 0, INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+			this.executor = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return this.executor != null;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return this.enabled;
+	}
+
+	void search() {
+		if (this.enabled) {
+			Map<String, Map<String, Repository>> organizations = new LinkedHashMap<>();
+			for (Repository repository : this.repositories.getRepositories()) {
+				organizations.computeIfAbsent(repository.getOrganization(), (organization) -> new LinkedHashMap<>())
+					.put(repository.getName(), repository);
+			}
+			organizations.forEach(this::search);
+		}
+	}
+
+	private void search(String organization, Map<String, Repository> repositories) {
+		if (this.resuming.contains(organization)) {
+			log.info("Search for issues waiting for feedback in {} will resume once its rate limit has reset",
+					organization);
+			return;
+		}
+		String query = "org:" + organization + " label:\"" + this.labelName + "\" is:open";
+		log.info("Searching for issues waiting for feedback in {}", organization);
+		search(organization, repositories, () -> this.gitHub.searchIssues(query), 0);
+	}
+
+	private void search(String organization, Map<String, Repository> repositories, Supplier<Page<Issue>> pages,
+			int found) {
+		Supplier<Page<Issue>> next = pages;
+		int candidates = found;
+		try {
+			Duration wait = untilSearchQuotaResets(organization);
+			while (wait == null) {
+				Page<Issue> page = next.get();
+				if (page == null) {
+					log.info("Found {} issues waiting for feedback in {}", candidates, organization);
+					return;
+				}
+				for (Issue issue : page.getContent()) {
+					Repository repository = repositoryOf(issue, repositories);
+					if (repository != null && this.sharding.runIfHeld(repository, () -> process(repository, issue))) {
+						candidates++;
+					}
+				}
+				next = page::next;
+				wait = untilSearchQuotaResets(organization);
+			}
+			resume(organization, repositories, next, candidates, wait);
+		}
+		catch (Exception ex) {
+			log.warn("A failure occurred while searching for issues waiting for feedback in {}", organization, ex);
+		}
+	}
+
+	private synchronized void resume(String organization, Map<String, Repository> repositories,
+			Supplier<Page<Issue>> next, int candidates, Duration wait) {
+		if (this.executor == null) {
+			log.info("Search rate limit for {} has been exhausted. Abandoning search", organization);
+			return;
+		}
+		log.info("Search rate limit for {} has been exhausted. Resuming search in {}", organization, wait);
+		this.resuming.add(organization);
+		this.executor.schedule(() -> {
+			this.resuming.remove(organization);
+			search(organization, repositories, next, candidates);
+		}, wait.plus(RESET_MARGIN).toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	private void process(Repository repository, Issue issue) {
+		FeedbackIssueListener listener = this.feedbackIssueListener.get();
+		try {
+			listener.onFeedbackCandidate(repository, issue);
+		}
+		catch (Exception ex) {
+			log.warn("Listener '{}' failed when handling issue '{}'", listener, issue, ex);
+		}
+	}
+
+	private Repository repositoryOf(Issue issue, Map<String, Repository> repositories) {
+		String url = issue.getUrl();
+		int start = (url != null) ? url.indexOf("/repos/") : -1;
+		if (start < 0) {
+			return null;
+		}
+		String[] segments = url.substring(start + "/repos/".length()).split("/");
+		return (segments.length > 1) ? repositories.get(segments[1]) : null;
+	}
+
+	private Duration untilSearchQuotaResets(String organization) {
+		RateLimit rateLimit = this.gitHub.getSearchRateLimit(organization);
+		if (rateLimit == null || rateLimit.getRemaining() > 0) {
+			return null;
+		}
+		Duration wait = Duration.between(this.clock.instant(), Instant.ofEpochMilli(rateLimit.getReset()));
+		return (!wait.isNegative()) ? wait : null;
+	}
+
+}
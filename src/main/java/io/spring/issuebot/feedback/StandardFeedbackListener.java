@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2023 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,13 @@
 
 package io.spring.issuebot.feedback;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.List;
 
 import io.spring.issuebot.IssueListener;
 import io.spring.issuebot.Repository;
+import io.spring.issuebot.RevisitRegistry;
 import io.spring.issuebot.github.GitHubOperations;
 import io.spring.issuebot.github.Issue;
 import io.spring.issuebot.github.Issue.ClosureReason;
@@ -47,8 +49,13 @@ final class StandardFeedbackListener implements FeedbackListener {
 
 	private final List<IssueListener> issueListeners;
 
+	private final RevisitRegistry revisitRegistry;
+
+	private final Clock clock;
+
 	StandardFeedbackListener(GitHubOperations gitHub, String providedLabel, String requiredLabel, String reminderLabel,
-			String reminderComment, String closeComment, List<IssueListener> issueListeners) {
+			String reminderComment, String closeComment, List<IssueListener> issueListeners,
+			RevisitRegistry revisitRegistry, Clock clock) {
 		this.gitHub = gitHub;
 		this.providedLabel = providedLabel;
 		this.requiredLabel = requiredLabel;
@@ -56,6 +63,8 @@ final class StandardFeedbackListener implements FeedbackListener {
 		this.reminderComment = reminderComment;
 		this.closeComment = closeComment;
 		this.issueListeners = issueListeners;
+		this.revisitRegistry = revisitRegistry;
+		this.clock = clock;
 	}
 
 	@Override
@@ -72,13 +81,17 @@ final class StandardFeedbackListener implements FeedbackListener {
 		if (issue.getPullRequest() != null) {
 			return;
 		}
-		OffsetDateTime now = OffsetDateTime.now();
-		if (requestTime.plusDays(14).isBefore(now)) {
+		OffsetDateTime now = OffsetDateTime.now(this.clock);
+		OffsetDateTime closeTime = requestTime.plusDays(14);
+		OffsetDateTime reminderTime = requestTime.plusDays(7);
+		if (closeTime.isBefore(now)) {
 			close(repository, issue);
+			return;
 		}
-		else if (requestTime.plusDays(7).isBefore(now) && !hasReminderLabel(issue)) {
+		if (reminderTime.isBefore(now) && !hasReminderLabel(issue)) {
 			remind(issue);
 		}
+		this.revisitRegistry.revisitAt(repository, issue, (reminderTime.isBefore(now)) ? closeTime : reminderTime);
 	}
 
 	private void close(Repository repository, Issue issue) {
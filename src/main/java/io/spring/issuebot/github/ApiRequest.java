@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * A request that has been made to GitHub's REST API.
+ *
+ * @author Andy Wilkinson
+ */
+public final class ApiRequest {
+
+	private final String method;
+
+	private final String organization;
+
+	private final String repository;
+
+	private final Integer issueNumber;
+
+	private final String endpoint;
+
+	private final int status;
+
+	private final Duration duration;
+
+	ApiRequest(String method, URI uri, int status, Duration duration) {
+		this.method = method;
+		this.organization = ApiUris.organization(uri);
+		this.repository = ApiUris.repository(uri);
+		this.issueNumber = ApiUris.issueNumber(uri);
+		this.endpoint = ApiUris.endpoint(uri);
+		this.status = status;
+		this.duration = duration;
+	}
+
+	/**
+	 * Returns the HTTP method of the request.
+	 * @return the method
+	 */
+	public String getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Returns the organization to which the request's resource belongs, or {@code null}
+	 * if it cannot be determined.
+	 * @return the organization or {@code null}
+	 */
+	public String getOrganization() {
+		return this.organization;
+	}
+
+	/**
+	 * Returns the name of the repository to which the request's resource belongs, or
+	 * {@code null} if it does not belong to a repository.
+	 * @return the repository name or {@code null}
+	 */
+	public String getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Returns the number of the issue to which the request's resource belongs, or
+	 * {@code null} if it does not belong to an issue.
+	 * @return the issue number or {@code null}
+	 */
+	public Integer getIssueNumber() {
+		return this.issueNumber;
+	}
+
+	/**
+	 * Returns the endpoint to which the request was made, for example
+	 * {@code issues/{number}/timeline}.
+	 * @return the endpoint
+	 */
+	public String getEndpoint() {
+		return this.endpoint;
+	}
+
+	/**
+	 * Returns the status of the response.
+	 * @return the status
+	 */
+	public int getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * Returns how long the request took.
+	 * @return the duration
+	 */
+	public Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * Returns whether the request counted against the rate limit. Conditional requests
+	 * that receive a {@code 304 Not Modified} response do not.
+	 * @return {@code true} if the request consumed quota, otherwise {@code false}
+	 */
+	public boolean isQuotaConsumed() {
+		return this.status != HttpStatus.NOT_MODIFIED.value();
+	}
+
+	/**
+	 * Returns whether the request retrieved a page of results.
+	 * @return {@code true} if a page was retrieved, otherwise {@code false}
+	 */
+	public boolean isPage() {
+		return "GET".equals(this.method) && this.status >= 200 && this.status < 300;
+	}
+
+}
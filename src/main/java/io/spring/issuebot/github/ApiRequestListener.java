@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+/**
+ * A listener that is notified of each request that is made to GitHub's REST API.
+ *
+ * @author Andy Wilkinson
+ * @see GitHubTemplate#addApiRequestListener(ApiRequestListener)
+ */
+@FunctionalInterface
+public interface ApiRequestListener {
+
+	/**
+	 * Called when a response to the given {@code request} has been received.
+	 * @param request the request
+	 */
+	void onRequest(ApiRequest request);
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility methods for working with the URIs of GitHub's REST API.
+ *
+ * @author Andy Wilkinson
+ */
+final class ApiUris {
+
+	private static final Pattern ORG_QUALIFIER = Pattern.compile("(?:^|\\s)org:(\\S+)");
+
+	private ApiUris() {
+	}
+
+	/**
+	 * Returns the organization to which the resource identified by the given {@code uri}
+	 * belongs, or {@code null} if it cannot be determined. The organization of a search
+	 * is determined from the {@code org:} qualifier in its query.
+	 * @param uri the uri
+	 * @return the organization or {@code null}
+	 */
+	static String organization(URI uri) {
+		String[] segments = segments(uri);
+		if (segments.length > 1 && ("repos".equals(segments[0]) || "orgs".equals(segments[0]))) {
+			return segments[1];
+		}
+		if (isSearch(uri)) {
+			return searchOrganization(uri);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether the given {@code uri} identifies a search. Searches are subject to a
+	 * separate rate limit.
+	 * @param uri the uri
+	 * @return {@code true} if the uri identifies a search, otherwise {@code false}
+	 */
+	static boolean isSearch(URI uri) {
+		String[] segments = segments(uri);
+		return segments.length > 0 && "search".equals(segments[0]);
+	}
+
+	/**
+	 * Returns the name of the repository to which the resource identified by the given
+	 * {@code uri} belongs, or {@code null} if it does not belong to a repository.
+	 * @param uri the uri
+	 * @return the repository name or {@code null}
+	 */
+	static String repository(URI uri) {
+		String[] segments = segments(uri);
+		return (segments.length > 2 && "repos".equals(segments[0])) ? segments[2] : null;
+	}
+
+	/**
+	 * Returns the number of the issue to which the resource identified by the given
+	 * {@code uri} belongs, or {@code null} if it does not belong to an issue.
+	 * @param uri the uri
+	 * @return the issue number or {@code null}
+	 */
+	static Integer issueNumber(URI uri) {
+		String[] segments = segments(uri);
+		if (segments.length > 4 && "repos".equals(segments[0]) && "issues".equals(segments[3])
+				&& isNumber(segments[4])) {
+			return Integer.valueOf(segments[4]);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the endpoint that is identified by the given {@code uri}. The endpoint is
+	 * the uri's path, relative to the repository for resources that belong to a
+	 * repository, with issue numbers and label names replaced by placeholders so that
+	 * requests to the same endpoint for different issues can be grouped together.
+	 * @param uri the uri
+	 * @return the endpoint
+	 */
+	static String endpoint(URI uri) {
+		String[] segments = segments(uri);
+		int start = (segments.length > 2 && "repos".equals(segments[0])) ? 3 : 0;
+		StringBuilder endpoint = new StringBuilder();
+		for (int i = start; i < segments.length; i++) {
+			if (i > start) {
+				endpoint.append('/');
+			}
+			if (isNumber(segments[i])) {
+				endpoint.append("{number}");
+			}
+			else if (i > start && "labels".equals(segments[i - 1])) {
+				endpoint.append("{name}");
+			}
+			else {
+				endpoint.append(segments[i]);
+			}
+		}
+		return endpoint.toString();
+	}
+
+	private static boolean isNumber(String segment) {
+		if (segment.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < segment.length(); i++) {
+			if (!Character.isDigit(segment.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String searchOrganization(URI uri) {
+		String query = uri.getRawQuery();
+		if (query == null) {
+			return null;
+		}
+		for (String parameter : query.split("&")) {
+			if (parameter.startsWith("q=")) {
+				Matcher matcher = ORG_QUALIFIER
+					.matcher(URLDecoder.decode(parameter.substring(2), StandardCharsets.UTF_8));
+				return (matcher.find()) ? matcher.group(1) : null;
+			}
+		}
+		return null;
+	}
+
+	private static String[] segments(URI uri) {
+		String path = uri.getPath();
+		if (path == null) {
+			return new String[0];
+		}
+		return ((path.startsWith("/")) ? path.substring(1) : path).split("/");
+	}
+
+}
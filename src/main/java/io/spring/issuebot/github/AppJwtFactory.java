@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Creates the JSON Web Tokens that a GitHub App uses to authenticate as itself. Tokens
+ * are signed using RS256 and reused until shortly before they expire.
+ *
+ * @author Andy Wilkinson
+ */
+final class AppJwtFactory {
+
+	private static final Duration CLOCK_DRIFT = Duration.ofSeconds(60);
+
+	private static final Duration VALIDITY = Duration.ofMinutes(9);
+
+	private static final Duration REUSE = Duration.ofMinutes(8);
+
+	private static final byte[] RSA_ALGORITHM_IDENTIFIER = { 0x30, 0x0d, 0x06, 0x09, 0x2a, (byte) 0x86, 0x48,
+			(byte) 0x86, (byte) 0xf7, 0x0d, 0x01, 0x01, 0x01, 0x05, 0x00 };
+
+	private static final String HEADER = encode("{\"alg\":\"RS256\",\"typ\":\"JWT\"}");
+
+	private final String appId;
+
+	private final PrivateKey privateKey;
+
+	private final Clock clock;
+
+	private Jwt jwt;
+
+	/**
+	 * Creates a new {@code AppJwtFactory} for the app with the given {@code appId} that
+	 * will sign tokens using the given PEM-encoded {@code privateKey}.
+	 * @param appId the ID of the app
+	 * @param privateKey the PEM-encoded PKCS#1 or PKCS#8 RSA private key
+	 * @param clock the clock used to determine the tokens' issue and expiry times
+	 */
+	AppJwtFactory(String appId, String privateKey, Clock clock) {
+		this.appId = appId;
+		this.privateKey = parsePrivateKey(privateKey);
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns a JSON Web Token that can be used to authenticate as the app.
+	 * @return the token
+	 */
+	synchronized String getJwt() {
+		Instant now = this.clock.instant();
+		if (this.jwt == null || !now.isBefore(this.jwt.reuseUntil)) {
+			this.jwt = new Jwt(create(now), now.plus(REUSE));
+		}
+		return this.jwt.value;
+	}
+
+	private String create(Instant now) {
+		long issuedAt = now.minus(CLOCK_DRIFT).getEpochSecond();
+		long expiresAt = now.plus(VALIDITY).getEpochSecond();
+		String payload = encode("{\"iat\":" + issuedAt + ",\"exp\":" + expiresAt + ",\"iss\":\"" + this.appId + "\"}");
+		String unsigned = HEADER + "." + payload;
+		try {
+			Signature signature = Signature.getInstance("SHA256withRSA");
+			signature.initSign(this.privateKey);
+			signature.update(unsigned.getBytes(StandardCharsets.US_ASCII));
+			return unsigned + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Failed to sign JWT for app " + this.appId, ex);
+		}
+	}
+
+	private static String encode(String json) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static PrivateKey parsePrivateKey(String pem) {
+		boolean pkcs1 = pem.contains("BEGIN RSA PRIVATE KEY");
+		String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+		byte[] der = Base64.getDecoder().decode(base64);
+		try {
+			return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec((pkcs1) ? toPkcs8(der) : der));
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Failed to parse private key", ex);
+		}
+	}
+
+	private static byte[] toPkcs8(byte[] pkcs1) {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		content.writeBytes(new byte[] { 0x02, 0x01, 0x00 });
+		content.writeBytes(RSA_ALGORITHM_IDENTIFIER);
+		content.write(0x04);
+		content.writeBytes(derLength(pkcs1.length));
+		content.writeBytes(pkcs1);
+		ByteArrayOutputStream pkcs8 = new ByteArrayOutputStream();
+		pkcs8.write(0x30);
+		pkcs8.writeBytes(derLength(content.size()));
+		pkcs8.writeBytes(content.toByteArray());
+		return pkcs8.toByteArray();
+	}
+
+	private static byte[] derLength(int length) {
+		if (length < 0x80) {
+			return new byte[] { (byte) length };
+		}
+		if (length < 0x100) {
+			return new byte[] { (byte) 0x81, (byte) length };
+		}
+		if (length < 0x10000) {
+			return new byte[] { (byte) 0x82, (byte) (length >> 8), (byte) length };
+		}
+		return new byte[] { (byte) 0x83, (byte) (length >> 16), (byte) (length >> 8), (byte) length };
+	}
+
+	private static final class Jwt {
+
+		private final String value;
+
+		private final Instant reuseUntil;
+
+		private Jwt(String value, Instant reuseUntil) {
+			this.value = value;
+			this.reuseUntil = reuseUntil;
+		}
+
+	}
+
+}
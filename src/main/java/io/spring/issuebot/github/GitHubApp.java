@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.time.Duration;
+
+/**
+ * Details of a GitHub App that is used to authenticate with GitHub's REST API using
+ * per-organization installation access tokens.
+ *
+ * @author Andy Wilkinson
+ */
+public final class GitHubApp {
+
+	private final String id;
+
+	private final String privateKey;
+
+	private final Duration refreshAhead;
+
+	/**
+	 * Creates a new {@code GitHubApp}.
+	 * @param id the ID of the app
+	 * @param privateKey the app's PEM-encoded private key
+	 * @param refreshAhead how long before their expiry installation access tokens should
+	 * be refreshed
+	 */
+	public GitHubApp(String id, String privateKey, Duration refreshAhead) {
+		this.id = id;
+		this.privateKey = privateKey;
+		this.refreshAhead = refreshAhead;
+	}
+
+	public String getId() {
+		return this.id;
+	}
+
+	public String getPrivateKey() {
+		return this.privateKey;
+	}
+
+	public Duration getRefreshAhead() {
+		return this.refreshAhead;
+	}
+
+}
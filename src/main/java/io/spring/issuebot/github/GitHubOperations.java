@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2023 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,23 @@ public interface GitHubOperations {
 	 */
 	Page<Issue> getIssues(String organization, String repository);
 
+	/**
+	 * Returns the open issues in the {@code repository} owned by the given
+	 * {@code organization}, ordered from the most to the least recently created.
+	 * @param organization the name of the organization
+	 * @param repository the name of the repository
+	 * @return the issues, newest first
+	 */
+	Page<Issue> getNewestIssues(String organization, String repository);
+
+	/**
+	 * Returns the page of issues at the given {@code url}, typically one that was
+	 * previously returned by {@link Page#getUrl()}.
+	 * @param url the url of the page
+	 * @return the page of issues
+	 */
+	Page<Issue> getIssuePage(String url);
+
 	/**
 	 * Returns the comments that have been made on the given {@code issue}.
 	 * @param issue the issue
@@ -80,6 +97,32 @@ public interface GitHubOperations {
 	 */
 	Page<Event> getEvents(Issue issue);
 
+	/**
+	 * Returns the timeline of the given {@code issue}, combining its events and comments
+	 * in a single feed, oldest first.
+	 * @param issue the issue
+	 * @return the timeline
+	 */
+	Page<TimelineItem> getTimeline(Issue issue);
+
+	/**
+	 * Returns the timeline of the given {@code issue}, combining its events and comments
+	 * in a single feed, starting with the most recent item.
+	 * @param issue the issue
+	 * @return the timeline, newest first
+	 */
+	Page<TimelineItem> getTimelineNewestFirst(Issue issue);
+
+	/**
+	 * Searches for issues and pull requests that match the given {@code query}. A query
+	 * for a single organization should include an {@code org:} qualifier so that the
+	 * search is made on behalf of that organization.
+	 * @param query the search query, for example
+	 * {@code org:spring-projects label:"status: waiting-for-feedback" is:open is:issue}
+	 * @return the matching issues
+	 */
+	Page<Issue> searchIssues(String query);
+
 	/**
 	 * Returns the current rate limit information or {@code null} if the limit is
 	 * currently unknown.
@@ -87,4 +130,25 @@ public interface GitHubOperations {
 	 */
 	RateLimit getRateLimit();
 
+	/**
+	 * Returns the current rate limit information for requests made on behalf of the given
+	 * {@code organization} or {@code null} if the limit is currently unknown. Unless
+	 * organizations are accessed using separate quotas, this is the same as
+	 * {@link #getRateLimit()}.
+	 * @param organization the organization
+	 * @return the rate limit or {@code null}
+	 */
+	default RateLimit getRateLimit(String organization) {
+		return getRateLimit();
+	}
+
+	/**
+	 * Returns the current search rate limit information for searches made on behalf of
+	 * the given {@code organization} or {@code null} if the limit is currently unknown.
+	 * Searches are subject to a separate, much lower, rate limit than other requests.
+	 * @param organization the organization
+	 * @return the search rate limit or {@code null}
+	 */
+	RateLimit getSearchRateLimit(String organization);
+
 }
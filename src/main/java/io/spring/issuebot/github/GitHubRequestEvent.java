@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.io.IOException;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Flight Recorder event for an HTTP exchange with GitHub's REST API.
+ *
+ * @author Andy Wilkinson
+ */
+@Name("io.spring.issuebot.github.Request")
+@Label("GitHub Request")
+@Category({ "Issue Bot", "GitHub" })
+@Description("An HTTP exchange with GitHub's REST API")
+@StackTrace(false)
+final class GitHubRequestEvent extends Event {
+
+	@Label("Method")
+	private String method;
+
+	@Label("Endpoint")
+	@Description("Path of the request, relative to its repository, with issue numbers and label names replaced by "
+			+ "placeholders")
+	private String endpoint;
+
+	@Label("Organization")
+	private String organization;
+
+	@Label("Status")
+	private int status;
+
+	@Label("Response Size")
+	@DataAmount
+	private long bytes;
+
+	@Label("Rate Limit Remaining")
+	@Description("Requests remaining in the current rate limit window or -1 if unknown")
+	private int rateLimitRemaining;
+
+	/**
+	 * Ends the event and, if it should be committed, records the details of the given
+	 * {@code request} and {@code response} and commits it.
+	 * @param request the request
+	 * @param response the response
+	 * @throws IOException if the status or body of the response cannot be read
+	 */
+	void record(HttpRequest request, ClientHttpResponse response) throws IOException {
+		end();
+		if (shouldCommit()) {
+			this.method = request.getMethod().name();
+			this.endpoint = ApiUris.endpoint(request.getURI());
+			this.organization = ApiUris.organization(request.getURI());
+			this.status = response.getStatusCode().value();
+			long contentLength = response.getHeaders().getContentLength();
+			this.bytes = (contentLength >= 0) ? contentLength : response.getBody().available();
+			String remaining = response.getHeaders().getFirst("X-RateLimit-Remaining");
+			this.rateLimitRemaining = (remaining != null) ? Integer.parseInt(remaining) : -1;
+			commit();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,22 +22,42 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import io.spring.issuebot.github.Issue.ClosureReason;
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRequest;
@@ -46,16 +66,20 @@ import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Central class for interacting with GitHub's REST API.
@@ -66,12 +90,24 @@ public class GitHubTemplate implements GitHubOperations {
 
 	private static final Logger log = LoggerFactory.getLogger(GitHubTemplate.class);
 
-	private final RateLimitInterceptor rateLimitInterceptor = new RateLimitInterceptor();
+	private static final String DEFAULT_API_URL = "https://api.github.com";
+
+	private final RateLimitInterceptor rateLimitInterceptor;
+
+	private final ApiRequestInterceptor apiRequestInterceptor = new ApiRequestInterceptor();
+
+	private final SingleFlight singleFlight = new SingleFlight();
+
+	private final PageSizing pageSizing;
+
+	private final ConnPoolControl<HttpRoute> connectionPool;
 
-	private final RestOperations rest;
+	private final Supplier<RestOperations> rest;
 
 	private final LinkParser linkParser;
 
+	private final String apiUrl;
+
 	/**
 	 * Creates a new {@code GitHubTemplate} that will use the given {@code username} and
 	 * {@code password} to authenticate, and the given {@code linkParser} to parse links
@@ -81,17 +117,148 @@ public class GitHubTemplate implements GitHubOperations {
 	 * @param linkParser the link parser
 	 */
 	public GitHubTemplate(String username, String password, LinkParser linkParser) {
-		this.rest = createDefaultRestTemplate(username, password, this.rateLimitInterceptor);
+		this(username, password, new HttpClientSettings(), linkParser);
+	}
+
+	/**
+	 * Creates a new {@code GitHubTemplate} that will use the given {@code username} and
+	 * {@code password} to authenticate, an HTTP client configured using the given
+	 * {@code httpClientSettings}, and the given {@code linkParser} to parse links from
+	 * responses' {@code Link} header.
+	 * @param username the username
+	 * @param password the password
+	 * @param httpClientSettings the HTTP client settings
+	 * @param linkParser the link parser
+	 */
+	public GitHubTemplate(String username, String password, HttpClientSettings httpClientSettings,
+			LinkParser linkParser) {
+		this(DEFAULT_API_URL, username, password, httpClientSettings, linkParser);
+	}
+
+	/**
+	 * Creates a new {@code GitHubTemplate} that will use the API at the given
+	 * {@code apiUrl}, the given {@code username} and {@code password} to authenticate, an
+	 * HTTP client configured using the given {@code httpClientSettings}, and the given
+	 * {@code linkParser} to parse links from responses' {@code Link} header.
+	 * @param apiUrl the URL of the GitHub API
+	 * @param username the username
+	 * @param password the password
+	 * @param httpClientSettings the HTTP client settings
+	 * @param linkParser the link parser
+	 */
+	public GitHubTemplate(String apiUrl, String username, String password, HttpClientSettings httpClientSettings,
+			LinkParser linkParser) {
+		this(apiUrl, httpClientSettings, linkParser, false,
+				(requestFactory) -> new BasicAuthorizationInterceptor(username, password));
+	}
+
+	/**
+	 * Creates a new {@code GitHubTemplate} that will use the API at the given
+	 * {@code apiUrl}, authenticate using installation access tokens of the given
+	 * {@code app}, use an HTTP client configured using the given
+	 * {@code httpClientSettings}, and the given {@code linkParser} to parse links from
+	 * responses' {@code Link} header. Each organization is accessed using its own
+	 * installation's token and, therefore, has its own rate limit.
+	 * @param apiUrl the URL of the GitHub API
+	 * @param app the GitHub App
+	 * @param httpClientSettings the HTTP client settings
+	 * @param linkParser the link parser
+	 * @param clock the clock used to issue JWTs and to determine when tokens expire
+	 */
+	public GitHubTemplate(String apiUrl, GitHubApp app, HttpClientSettings httpClientSettings, LinkParser linkParser,
+			Clock clock) {
+		this(apiUrl, httpClientSettings, linkParser, true,
+				(requestFactory) -> new InstallationTokenInterceptor(new InstallationTokens(apiUrl,
+						new AppJwtFactory(app.getId(), app.getPrivateKey(), clock), app.getRefreshAhead(),
+						new RestTemplate(requestFactory), clock)));
+	}
+
+	private GitHubTemplate(String apiUrl, HttpClientSettings httpClientSettings, LinkParser linkParser,
+			boolean rateLimitPerOrganization,
+			Function<ClientHttpRequestFactory, ClientHttpRequestInterceptor> authorizationInterceptorFactory) {
+		this.apiUrl = apiUrl;
+		this.rateLimitInterceptor = new RateLimitInterceptor(rateLimitPerOrganization);
+		this.pageSizing = new PageSizing(httpClientSettings.isAdaptivePageSize(),
+				httpClientSettings.getPageLatencyTarget());
+		SingletonSupplier<PoolingHttpClientConnectionManager> connectionManager = SingletonSupplier
+			.of(() -> createConnectionManager(httpClientSettings));
+		this.connectionPool = lazyConnectionPool(connectionManager);
+		this.rest = SingletonSupplier.of(() -> {
+			ClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+					createHttpClient(connectionManager.get(), httpClientSettings));
+			return createDefaultRestTemplate(authorizationInterceptorFactory.apply(requestFactory),
+					this.rateLimitInterceptor, this.apiRequestInterceptor, requestFactory);
+		});
 		this.linkParser = linkParser;
 	}
 
 	GitHubTemplate(RestOperations rest, LinkParser linkParser) {
-		this.rest = rest;
+		this.apiUrl = DEFAULT_API_URL;
+		this.rateLimitInterceptor = new RateLimitInterceptor(false);
+		HttpClientSettings httpClientSettings = new HttpClientSettings();
+		this.pageSizing = new PageSizing(httpClientSettings.isAdaptivePageSize(),
+				httpClientSettings.getPageLatencyTarget());
+		this.connectionPool = null;
+		this.rest = () -> rest;
 		this.linkParser = linkParser;
 	}
 
-	static RestTemplate createDefaultRestTemplate(String username, String password,
-			RateLimitInterceptor rateLimitInterceptor) {
+	@SuppressWarnings("unchecked")
+	private static ConnPoolControl<HttpRoute> lazyConnectionPool(
+			Supplier<PoolingHttpClientConnectionManager> connectionManager) {
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.addInterface(ConnPoolControl.class);
+		proxyFactory.setTargetSource(new AbstractLazyCreationTargetSource() {
+
+			@Override
+			public Class<?> getTargetClass() {
+				return PoolingHttpClientConnectionManager.class;
+			}
+
+			@Override
+			protected Object createObject() {
+				return connectionManager.get();
+			}
+
+		});
+		return (ConnPoolControl<HttpRoute>) proxyFactory.getProxy(GitHubTemplate.class.getClassLoader());
+	}
+
+	static PoolingHttpClientConnectionManager createConnectionManager(HttpClientSettings settings) {
+		return PoolingHttpClientConnectionManagerBuilder.create()
+			.setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(timeout(settings.getSocketTimeout())).build())
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(timeout(settings.getConnectTimeout()))
+				.setSocketTimeout(timeout(settings.getSocketTimeout()))
+				.setTimeToLive(TimeValue.ofMilliseconds(settings.getTimeToLive().toMillis()))
+				.build())
+			.setMaxConnPerRoute(settings.getMaxConnectionsPerRoute())
+			.setMaxConnTotal(settings.getMaxConnections())
+			.build();
+	}
+
+	static HttpClient createHttpClient(PoolingHttpClientConnectionManager connectionManager,
+			HttpClientSettings settings) {
+		HttpClientBuilder builder = HttpClientBuilder.create()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(timeout(settings.getConnectionRequestTimeout()))
+				.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofMilliseconds(settings.getIdleEviction().toMillis()));
+		if (!settings.isCompression()) {
+			builder.disableContentCompression();
+		}
+		return builder.build();
+	}
+
+	private static Timeout timeout(Duration duration) {
+		return Timeout.ofMilliseconds(duration.toMillis());
+	}
+
+	static RestTemplate createDefaultRestTemplate(ClientHttpRequestInterceptor authorizationInterceptor,
+			RateLimitInterceptor rateLimitInterceptor, ApiRequestInterceptor apiRequestInterceptor,
+			ClientHttpRequestFactory requestFactory) {
 		RestTemplate rest = new RestTemplate();
 		rest.setErrorHandler(new DefaultResponseErrorHandler() {
 			@Override
@@ -105,59 +272,157 @@ public class GitHubTemplate implements GitHubOperations {
 				}
 			}
 		});
-		HttpClient httpClient = HttpClientBuilder.create()
-			.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
-				.setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(Timeout.ofSeconds(30)).build())
-				.build())
-			.build();
-		BufferingClientHttpRequestFactory bufferingClient = new BufferingClientHttpRequestFactory(
-				new HttpComponentsClientHttpRequestFactory(httpClient));
-		rest.setRequestFactory(bufferingClient);
-		rest.setInterceptors(
-				Arrays.asList(new BasicAuthorizationInterceptor(username, password), rateLimitInterceptor));
-		rest.setMessageConverters(Collections.singletonList(new ErrorLoggingMappingJackson2HttpMessageConverter()));
+		rest.setRequestFactory(new BufferingClientHttpRequestFactory(requestFactory));
+		rest.setInterceptors(Arrays.asList(authorizationInterceptor, rateLimitInterceptor, apiRequestInterceptor));
+		rest.setMessageConverters(
+				Collections.singletonList(new ErrorLoggingMappingJackson2HttpMessageConverter(createObjectMapper())));
 		return rest;
 	}
 
 	@Override
 	public Page<Issue> getIssues(String organization, String repository) {
-		String url = "https://api.github.com/repos/" + organization + "/" + repository + "/issues";
+		String url = this.apiUrl + "/repos/" + organization + "/" + repository + "/issues";
+		return getFirstPage(url, Issue[].class);
+	}
+
+	@Override
+	public Page<Issue> getNewestIssues(String organization, String repository) {
+		String url = this.apiUrl + "/repos/" + organization + "/" + repository + "/issues?sort=created&direction=desc";
+		return getPage(url, Issue[].class);
+	}
+
+	@Override
+	public Page<Issue> getIssuePage(String url) {
 		return getPage(url, Issue[].class);
 	}
 
 	@Override
 	public Page<Comment> getComments(Issue issue) {
-		return getPage(issue.getCommentsUrl(), Comment[].class);
+		return getFirstPage(issue.getCommentsUrl(), Comment[].class);
 	}
 
 	@Override
 	public Page<Event> getEvents(Issue issue) {
-		return getPage(issue.getEventsUrl(), Event[].class);
+		return getFirstPage(issue.getEventsUrl(), Event[].class);
+	}
+
+	@Override
+	public Page<TimelineItem> getTimeline(Issue issue) {
+		return getFirstPage(getTimelineUrl(issue), TimelineItem[].class);
+	}
+
+	@Override
+	public Page<TimelineItem> getTimelineNewestFirst(Issue issue) {
+		return getPageNewestFirst(getTimelineUrl(issue), TimelineItem[].class);
+	}
+
+	private String getTimelineUrl(Issue issue) {
+		return (StringUtils.hasText(issue.getUrl())) ? issue.getUrl() + "/timeline" : null;
+	}
+
+	private <T> Page<T> getPageNewestFirst(String url, Class<T[]> type) {
+		if (!StringUtils.hasText(url)) {
+			return null;
+		}
+		String sizedUrl = this.pageSizing.size(url);
+		ResponseEntity<T[]> first = getFirst(sizedUrl, type);
+		String last = getLinks(first).get("last");
+		if (!StringUtils.hasText(last)) {
+			return new StandardPage<>(sizedUrl, reversed(first.getBody()), () -> null);
+		}
+		return getPageInReverse(last, first, type);
+	}
+
+	private <T> Page<T> getPageInReverse(String url, ResponseEntity<T[]> first, Class<T[]> type) {
+		ResponseEntity<T[]> contents = get(url, type);
+		Map<String, String> links = getLinks(contents);
+		String previous = links.get("prev");
+		return new StandardPage<>(url, reversed(contents.getBody()), () -> {
+			if (!StringUtils.hasText(previous)) {
+				return null;
+			}
+			if (previous.equals(links.get("first"))) {
+				// The first page has already been retrieved to find the last page
+				return new StandardPage<>(previous, reversed(first.getBody()), () -> null);
+			}
+			return getPageInReverse(previous, first, type);
+		});
+	}
+
+	private static <T> List<T> reversed(T[] contents) {
+		List<T> reversed = new ArrayList<>(Arrays.asList(contents));
+		Collections.reverse(reversed);
+		return reversed;
+	}
+
+	@Override
+	public Page<Issue> searchIssues(String query) {
+		URI uri = UriComponentsBuilder.fromUriString(this.apiUrl + "/search/issues")
+			.queryParam("q", query)
+			.queryParam("per_page", 100)
+			.encode()
+			.build()
+			.toUri();
+		return getSearchPage(uri.toString());
+	}
+
+	private Page<Issue> getSearchPage(String url) {
+		if (!StringUtils.hasText(url)) {
+			return null;
+		}
+		ResponseEntity<SearchResult> result = get(url, SearchResult.class);
+		return new StandardPage<>(url, result.getBody().getItems(), () -> getSearchPage(getNextUrl(result)));
+	}
+
+	private <T> Page<T> getFirstPage(String url, Class<T[]> type) {
+		if (!StringUtils.hasText(url)) {
+			return null;
+		}
+		String sizedUrl = this.pageSizing.size(url);
+		ResponseEntity<T[]> contents = getFirst(sizedUrl, type);
+		return new StandardPage<>(sizedUrl, Arrays.asList(contents.getBody()),
+				() -> getPage(getNextUrl(contents), type));
 	}
 
 	private <T> Page<T> getPage(String url, Class<T[]> type) {
 		if (!StringUtils.hasText(url)) {
 			return null;
 		}
-		ResponseEntity<T[]> contents = this.rest.getForEntity(URI.create(url), type);
-		return new StandardPage<>(Arrays.asList(contents.getBody()), () -> getPage(getNextUrl(contents), type));
+		ResponseEntity<T[]> contents = get(url, type);
+		return new StandardPage<>(url, Arrays.asList(contents.getBody()), () -> getPage(getNextUrl(contents), type));
+	}
+
+	private <T> ResponseEntity<T[]> getFirst(String url, Class<T[]> type) {
+		long start = System.nanoTime();
+		ResponseEntity<T[]> contents = get(url, type);
+		this.pageSizing.record(url, contents.getBody().length, getLinks(contents),
+				Duration.ofNanos(System.nanoTime() - start), this.rateLimitInterceptor.rateLimit);
+		return contents;
+	}
+
+	private <T> ResponseEntity<T> get(String url, Class<T> type) {
+		return this.singleFlight.execute(type.getName() + " " + url,
+				() -> this.rest.get().getForEntity(URI.create(url), type));
 	}
 
 	private String getNextUrl(ResponseEntity<?> response) {
-		return this.linkParser.parse(response.getHeaders().getFirst("Link")).get("next");
+		return getLinks(response).get("next");
+	}
+
+	private Map<String, String> getLinks(ResponseEntity<?> response) {
+		return this.linkParser.parse(response.getHeaders().getFirst("Link"));
 	}
 
 	@Override
 	public Issue addLabel(Issue issue, String labelName) {
 		URI uri = URI.create(issue.getLabelsUrl().replace("{/name}", ""));
 		log.info("Adding label {} to {}", labelName, uri);
-		ResponseEntity<Label[]> response = this.rest
+		ResponseEntity<Label[]> response = this.rest.get()
 			.exchange(new RequestEntity<>(Collections.singletonList(labelName), HttpMethod.POST, uri), Label[].class);
 		if (response.getStatusCode() != HttpStatus.OK) {
 			log.warn("Failed to add label to issue. Response status: " + response.getStatusCode());
 		}
-		return new Issue(issue.getUrl(), issue.getCommentsUrl(), issue.getEventsUrl(), issue.getLabelsUrl(),
-				issue.getUser(), Arrays.asList(response.getBody()), issue.getMilestone(), issue.getPullRequest());
+		return withLabels(issue, response.getBody());
 	}
 
 	@Override
@@ -169,20 +434,23 @@ public class GitHubTemplate implements GitHubOperations {
 		catch (URISyntaxException ex) {
 			throw new RuntimeException(ex);
 		}
-		ResponseEntity<Label[]> response = this.rest.exchange(new RequestEntity<>(HttpMethod.DELETE,
+		ResponseEntity<Label[]> response = this.rest.get().exchange(new RequestEntity<>(HttpMethod.DELETE,
 				URI.create(issue.getLabelsUrl().replace("{/name}", "/" + encodedName))), Label[].class);
 		if (response.getStatusCode() != HttpStatus.OK) {
 			log.warn("Failed to remove label from issue. Response status: " + response.getStatusCode());
 		}
-		return new Issue(issue.getUrl(), issue.getCommentsUrl(), issue.getEventsUrl(), issue.getLabelsUrl(),
-				issue.getUser(), Arrays.asList(response.getBody()), issue.getMilestone(), issue.getPullRequest());
+		return withLabels(issue, response.getBody());
+	}
+
+	private static Issue withLabels(Issue issue, Label[] labels) {
+		return issue.withLabels(Arrays.asList(labels));
 	}
 
 	@Override
 	public Comment addComment(Issue issue, String comment) {
 		Map<String, String> body = new HashMap<>();
 		body.put("body", comment);
-		return this.rest.postForEntity(issue.getCommentsUrl(), body, Comment.class).getBody();
+		return this.rest.get().postForEntity(issue.getCommentsUrl(), body, Comment.class).getBody();
 	}
 
 	@Override
@@ -192,7 +460,7 @@ public class GitHubTemplate implements GitHubOperations {
 		if (closureReason != null) {
 			body.put("state_reason", closureReason.getStateReason());
 		}
-		ResponseEntity<Issue> response = this.rest
+		ResponseEntity<Issue> response = this.rest.get()
 			.exchange(new RequestEntity<>(body, HttpMethod.PATCH, URI.create(issue.getUrl())), Issue.class);
 		if (response.getStatusCode() != HttpStatus.OK) {
 			log.warn("Failed to close issue. Response status: " + response.getStatusCode());
@@ -205,8 +473,59 @@ public class GitHubTemplate implements GitHubOperations {
 		return this.rateLimitInterceptor.rateLimit;
 	}
 
+	@Override
+	public RateLimit getRateLimit(String organization) {
+		return this.rateLimitInterceptor.getRateLimit(organization);
+	}
+
+	@Override
+	public RateLimit getSearchRateLimit(String organization) {
+		return this.rateLimitInterceptor.getSearchRateLimit(organization);
+	}
+
+	/**
+	 * Adds a listener that will be notified of each request that is made to the API.
+	 * @param listener the listener
+	 */
+	public void addApiRequestListener(ApiRequestListener listener) {
+		this.apiRequestInterceptor.listeners.add(listener);
+	}
+
+	/**
+	 * Returns the number of GET requests that were not sent because an identical request
+	 * was already in flight. Such requests share the in-flight request's response.
+	 * @return the number of coalesced requests
+	 */
+	public long getCoalescedRequests() {
+		return this.singleFlight.getCoalesced();
+	}
+
+	/**
+	 * Returns the pool of connections used to communicate with GitHub, or {@code null} if
+	 * the template is not using a connection pool. The HTTP client and its pool are
+	 * created lazily, when they are first used, so that they do not delay startup.
+	 * @return the connection pool or {@code null}
+	 */
+	public ConnPoolControl<HttpRoute> getConnectionPool() {
+		return this.connectionPool;
+	}
+
+	PageSizing getPageSizing() {
+		return this.pageSizing;
+	}
+
 	RestOperations getRestOperations() {
-		return this.rest;
+		return this.rest.get();
+	}
+
+	/**
+	 * Creates the {@link ObjectMapper} used to read GitHub's responses. In addition to
+	 * the usual configuration, the Blackbird module is registered so that properties and
+	 * creators are accessed through generated lambdas rather than reflection.
+	 * @return the object mapper
+	 */
+	static ObjectMapper createObjectMapper() {
+		return Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
 	}
 
 	private static final class ErrorLoggingMappingJackson2HttpMessageConverter
@@ -214,11 +533,25 @@ public class GitHubTemplate implements GitHubOperations {
 
 		private static final Charset CHARSET_UTF_8 = StandardCharsets.UTF_8;
 
+		private ErrorLoggingMappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+			super(objectMapper);
+		}
+
 		@Override
 		public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
 				throws IOException, HttpMessageNotReadableException {
+			PageParseEvent event = new PageParseEvent();
+			event.begin();
+			long bytes = (event.isEnabled()) ? inputMessage.getBody().available() : -1;
 			try {
-				return super.read(type, contextClass, inputMessage);
+				Object result = super.read(type, contextClass, inputMessage);
+				if (result instanceof Object[]) {
+					event.record(type, ((Object[]) result).length, bytes);
+				}
+				else if (result instanceof SearchResult) {
+					event.record(type, ((SearchResult) result).getItems().size(), bytes);
+				}
+				return result;
 			}
 			catch (HttpMessageNotReadableException ex) {
 				log.error("Failed to create {} from {}", type.getTypeName(), read(inputMessage), ex);
@@ -236,20 +569,40 @@ public class GitHubTemplate implements GitHubOperations {
 
 		private static final Charset UTF_8 = StandardCharsets.UTF_8;
 
-		private final String username;
-
-		private final String password;
+		private final String authorization;
 
 		BasicAuthorizationInterceptor(String username, String password) {
-			this.username = username;
-			this.password = (password != null) ? password : "";
+			String credentials = username + ":" + ((password != null) ? password : "");
+			this.authorization = "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(UTF_8));
 		}
 
 		@Override
 		public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
 				throws IOException {
-			String token = Base64.getEncoder().encodeToString((this.username + ":" + this.password).getBytes(UTF_8));
-			request.getHeaders().add("Authorization", "Basic " + token);
+			request.getHeaders().add("Authorization", this.authorization);
+			return execution.execute(request, body);
+		}
+
+	}
+
+	private static class InstallationTokenInterceptor implements ClientHttpRequestInterceptor {
+
+		private final InstallationTokens installationTokens;
+
+		InstallationTokenInterceptor(InstallationTokens installationTokens) {
+			this.installationTokens = installationTokens;
+		}
+
+		@Override
+		public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+				throws IOException {
+			String organization = ApiUris.organization(request.getURI());
+			if (organization != null) {
+				request.getHeaders().setBearerAuth(this.installationTokens.getToken(organization));
+			}
+			else {
+				log.warn("Unable to determine installation for request to {}", request.getURI());
+			}
 			return execution.execute(request, body);
 		}
 
@@ -259,22 +612,107 @@ public class GitHubTemplate implements GitHubOperations {
 
 		private static final Logger log = LoggerFactory.getLogger(RateLimitInterceptor.class);
 
+		private final Map<String, RateLimit> organizationRateLimits = new ConcurrentHashMap<>();
+
+		private final Map<String, RateLimit> organizationSearchRateLimits = new ConcurrentHashMap<>();
+
+		private final boolean perOrganization;
+
 		private volatile RateLimit rateLimit = null;
 
+		private volatile RateLimit searchRateLimit = null;
+
+		RateLimitInterceptor(boolean perOrganization) {
+			this.perOrganization = perOrganization;
+		}
+
 		@Override
 		public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
 				throws IOException {
 			ClientHttpResponse response = execution.execute(request, body);
+			RateLimit rateLimit = null;
 			try {
-				this.rateLimit = RateLimit.from(response);
+				rateLimit = RateLimit.from(response);
 			}
 			catch (Exception ex) {
 				log.warn("Rate limit unavailable from response with headers {}", response.getHeaders());
-				this.rateLimit = null;
+			}
+			boolean search = ApiUris.isSearch(request.getURI());
+			if (search) {
+				this.searchRateLimit = rateLimit;
+			}
+			else {
+				this.rateLimit = rateLimit;
+			}
+			String organization = (this.perOrganization) ? ApiUris.organization(request.getURI()) : null;
+			if (organization != null) {
+				Map<String, RateLimit> rateLimits = (search) ? this.organizationSearchRateLimits
+						: this.organizationRateLimits;
+				if (rateLimit != null) {
+					rateLimits.put(organization, rateLimit);
+				}
+				else {
+					rateLimits.remove(organization);
+				}
 			}
 			return response;
 		}
 
+		RateLimit getRateLimit(String organization) {
+			return (this.perOrganization) ? this.organizationRateLimits.get(organization) : this.rateLimit;
+		}
+
+		RateLimit getSearchRateLimit(String organization) {
+			return (this.perOrganization) ? this.organizationSearchRateLimits.get(organization)
+					: this.searchRateLimit;
+		}
+
+	}
+
+	private static class ApiRequestInterceptor implements ClientHttpRequestInterceptor {
+
+		private static final Logger log = LoggerFactory.getLogger(ApiRequestInterceptor.class);
+
+		private final List<ApiRequestListener> listeners = new CopyOnWriteArrayList<>();
+
+		@Override
+		public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+				throws IOException {
+			GitHubRequestEvent event = new GitHubRequestEvent();
+			event.begin();
+			long start = System.nanoTime();
+			ClientHttpResponse response = execution.execute(request, body);
+			event.record(request, response);
+			if (!this.listeners.isEmpty()) {
+				ApiRequest apiRequest = new ApiRequest(request.getMethod().name(), request.getURI(),
+						response.getStatusCode().value(), Duration.ofNanos(System.nanoTime() - start));
+				for (ApiRequestListener listener : this.listeners) {
+					try {
+						listener.onRequest(apiRequest);
+					}
+					catch (Exception ex) {
+						log.warn("API request listener '{}' failed", listener, ex);
+					}
+				}
+			}
+			return response;
+		}
+
+	}
+
+	static final class SearchResult {
+
+		private final List<Issue> items;
+
+		@JsonCreator
+		SearchResult(@JsonProperty("items") List<Issue> items) {
+			this.items = (items != null) ? items : Collections.emptyList();
+		}
+
+		List<Issue> getItems() {
+			return this.items;
+		}
+
 	}
 
 }
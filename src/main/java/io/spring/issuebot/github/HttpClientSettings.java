@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.time.Duration;
+
+/**
+ * Settings for the HTTP client that is used to interact with GitHub's REST API.
+ *
+ * @author Andy Wilkinson
+ */
+public class HttpClientSettings {
+
+	/**
+	 * Whether to request compressed responses.
+	 */
+	private boolean compression = true;
+
+	/**
+	 * Maximum number of pooled connections per route.
+	 */
+	private int maxConnectionsPerRoute = 20;
+
+	/**
+	 * Maximum number of pooled connections across all routes.
+	 */
+	private int maxConnections = 50;
+
+	/**
+	 * Timeout for establishing a connection.
+	 */
+	private Duration connectTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * Timeout for waiting for data on an established connection.
+	 */
+	private Duration socketTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * Timeout for leasing a connection from the pool.
+	 */
+	private Duration connectionRequestTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * Time after which idle connections are evicted from the pool.
+	 */
+	private Duration idleEviction = Duration.ofMinutes(1);
+
+	/**
+	 * Maximum time for which a pooled connection is reused.
+	 */
+	private Duration timeToLive = Duration.ofMinutes(5);
+
+	/**
+	 * Whether the page size of listings should be adapted to the number of items that
+	 * they contain, their latency, and the remaining quota.
+	 */
+	private boolean adaptivePageSize = true;
+
+	/**
+	 * Latency of the first page of a listing above which its endpoint's page size is
+	 * reduced.
+	 */
+	private Duration pageLatencyTarget = Duration.ofSeconds(2);
+
+	public boolean isCompression() {
+		return this.compression;
+	}
+
+	public void setCompression(boolean compression) {
+		this.compression = compression;
+	}
+
+	public int getMaxConnectionsPerRoute() {
+		return this.maxConnectionsPerRoute;
+	}
+
+	public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+	}
+
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	public void setMaxConnections(int maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+	public Duration getConnectTimeout() {
+		return this.connectTimeout;
+	}
+
+	public void setConnectTimeout(Duration connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	public Duration getSocketTimeout() {
+		return this.socketTimeout;
+	}
+
+	public void setSocketTimeout(Duration socketTimeout) {
+		this.socketTimeout = socketTimeout;
+	}
+
+	public Duration getConnectionRequestTimeout() {
+		return this.connectionRequestTimeout;
+	}
+
+	public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+		this.connectionRequestTimeout = connectionRequestTimeout;
+	}
+
+	public Duration getIdleEviction() {
+		return this.idleEviction;
+	}
+
+	public void setIdleEviction(Duration idleEviction) {
+		this.idleEviction = idleEviction;
+	}
+
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	public void setTimeToLive(Duration timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	public boolean isAdaptivePageSize() {
+		return this.adaptivePageSize;
+	}
+
+	public void setAdaptivePageSize(boolean adaptivePageSize) {
+		this.adaptivePageSize = adaptivePageSize;
+	}
+
+	public Duration getPageLatencyTarget() {
+		return this.pageLatencyTarget;
+	}
+
+	public void setPageLatencyTarget(Duration pageLatencyTarget) {
+		this.pageLatencyTarget = pageLatencyTarget;
+	}
+
+}
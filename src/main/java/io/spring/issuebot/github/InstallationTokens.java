@@ -0,0 +1,178 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.RequestEntity;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * An in-memory cache of GitHub App installation access tokens, keyed by organization.
+ * A token is refreshed when it is used within a configurable period before it expires so
+ * that requests never go out with a token that is about to become invalid. Tokens are
+ * requested while holding a lock that is specific to their organization so that the
+ * request does not delay the use or creation of other organizations' tokens.
+ *
+ * @author Andy Wilkinson
+ */
+final class InstallationTokens {
+
+	private static final Logger log = LoggerFactory.getLogger(InstallationTokens.class);
+
+	private final Map<String, InstallationToken> tokens = new ConcurrentHashMap<>();
+
+	private final Map<String, Long> installationIds = new ConcurrentHashMap<>();
+
+	private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+	private final String apiUrl;
+
+	private final AppJwtFactory jwtFactory;
+
+	private final Duration refreshAhead;
+
+	private final RestOperations rest;
+
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@code InstallationTokens} that will use the given {@code rest}
+	 * operations to obtain tokens from the API at the given {@code apiUrl}.
+	 * @param apiUrl the URL of the GitHub API
+	 * @param jwtFactory the factory for the JWTs used to authenticate as the app
+	 * @param refreshAhead how long before its expiry a token should be refreshed
+	 * @param rest the rest operations used to request tokens
+	 * @param clock the clock used to determine if a token is due to be refreshed
+	 */
+	InstallationTokens(String apiUrl, AppJwtFactory jwtFactory, Duration refreshAhead, RestOperations rest,
+			Clock clock) {
+		this.apiUrl = apiUrl;
+		this.jwtFactory = jwtFactory;
+		this.refreshAhead = refreshAhead;
+		this.rest = rest;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns an installation access token for the given {@code organization}.
+	 * @param organization the organization
+	 * @return the access token
+	 */
+	String getToken(String organization) {
+		InstallationToken token = this.tokens.get(organization);
+		if (token == null || requiresRefresh(token)) {
+			synchronized (this.locks.computeIfAbsent(organization, (key) -> new Object())) {
+				token = this.tokens.get(organization);
+				if (token == null || requiresRefresh(token)) {
+					token = createToken(organization);
+					this.tokens.put(organization, token);
+				}
+			}
+		}
+		return token.getToken();
+	}
+
+	/**
+	 * Returns the number of cached tokens.
+	 * @return the number of tokens
+	 */
+	int size() {
+		return this.tokens.size();
+	}
+
+	private boolean requiresRefresh(InstallationToken token) {
+		return !this.clock.instant().plus(this.refreshAhead).isBefore(token.getExpiresAt());
+	}
+
+	private InstallationToken createToken(String organization) {
+		Long installationId = this.installationIds.get(organization);
+		if (installationId == null) {
+			installationId = getInstallationId(organization);
+			this.installationIds.put(organization, installationId);
+		}
+		log.info("Creating installation access token for {}", organization);
+		return this.rest.exchange(appRequest(HttpMethod.POST,
+				this.apiUrl + "/app/installations/" + installationId + "/access_tokens"), InstallationToken.class)
+			.getBody();
+	}
+
+	private long getInstallationId(String organization) {
+		return this.rest
+			.exchange(appRequest(HttpMethod.GET, this.apiUrl + "/orgs/" + organization + "/installation"),
+					Installation.class)
+			.getBody()
+			.getId();
+	}
+
+	private RequestEntity<Void> appRequest(HttpMethod method, String url) {
+		return RequestEntity.method(method, URI.create(url))
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + this.jwtFactory.getJwt())
+			.header(HttpHeaders.ACCEPT, "application/vnd.github+json")
+			.build();
+	}
+
+	static final class Installation {
+
+		private final long id;
+
+		@JsonCreator
+		Installation(@JsonProperty("id") long id) {
+			this.id = id;
+		}
+
+		long getId() {
+			return this.id;
+		}
+
+	}
+
+	static final class InstallationToken {
+
+		private final String token;
+
+		private final Instant expiresAt;
+
+		@JsonCreator
+		InstallationToken(@JsonProperty("token") String token, @JsonProperty("expires_at") Instant expiresAt) {
+			this.token = token;
+			this.expiresAt = expiresAt;
+		}
+
+		String getToken() {
+			return this.token;
+		}
+
+		Instant getExpiresAt() {
+			return this.expiresAt;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2023 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package io.spring.issuebot.github;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -44,6 +46,14 @@ public class Issue {
 
 	private final PullRequest pullRequest;
 
+	private final String state;
+
+	private final OffsetDateTime updatedAt;
+
+	private final String title;
+
+	private final OffsetDateTime createdAt;
+
 	/**
 	 * Creates a new {@code Issue}.
 	 * @param url the url of the issue in the GitHub API
@@ -55,11 +65,52 @@ public class Issue {
 	 * @param milestone the milestone applied to the issue
 	 * @param pullRequest details of the pull request (if this issue is a pull request)
 	 */
+	public Issue(String url, String commentsUrl, String eventsUrl, String labelsUrl, User user, List<Label> labels,
+			Milestone milestone, PullRequest pullRequest) {
+		this(url, commentsUrl, eventsUrl, labelsUrl, user, labels, milestone, pullRequest, null, null);
+	}
+
+	/**
+	 * Creates a new {@code Issue}.
+	 * @param url the url of the issue in the GitHub API
+	 * @param commentsUrl the url of the comments on the issue in the GitHub API
+	 * @param eventsUrl the url of the events on the issue in the GitHub API
+	 * @param labelsUrl the url of the labels on the issue in the GitHub API
+	 * @param user the user that created the issue
+	 * @param labels the labels applied to the issue
+	 * @param milestone the milestone applied to the issue
+	 * @param pullRequest details of the pull request (if this issue is a pull request)
+	 * @param state the state of the issue
+	 * @param updatedAt the time at which the issue was last updated
+	 */
+	public Issue(String url, String commentsUrl, String eventsUrl, String labelsUrl, User user, List<Label> labels,
+			Milestone milestone, PullRequest pullRequest, String state, OffsetDateTime updatedAt) {
+		this(url, commentsUrl, eventsUrl, labelsUrl, user, labels, milestone, pullRequest, state, updatedAt, null,
+				null);
+	}
+
+	/**
+	 * Creates a new {@code Issue}.
+	 * @param url the url of the issue in the GitHub API
+	 * @param commentsUrl the url of the comments on the issue in the GitHub API
+	 * @param eventsUrl the url of the events on the issue in the GitHub API
+	 * @param labelsUrl the url of the labels on the issue in the GitHub API
+	 * @param user the user that created the issue
+	 * @param labels the labels applied to the issue
+	 * @param milestone the milestone applied to the issue
+	 * @param pullRequest details of the pull request (if this issue is a pull request)
+	 * @param state the state of the issue
+	 * @param updatedAt the time at which the issue was last updated
+	 * @param title the title of the issue
+	 * @param createdAt the time at which the issue was created
+	 */
 	@JsonCreator
 	public Issue(@JsonProperty("url") String url, @JsonProperty("comments_url") String commentsUrl,
 			@JsonProperty("events_url") String eventsUrl, @JsonProperty("labels_url") String labelsUrl,
 			@JsonProperty("user") User user, @JsonProperty("labels") List<Label> labels,
-			@JsonProperty("milestone") Milestone milestone, @JsonProperty("pull_request") PullRequest pullRequest) {
+			@JsonProperty("milestone") Milestone milestone, @JsonProperty("pull_request") PullRequest pullRequest,
+			@JsonProperty("state") String state, @JsonProperty("updated_at") OffsetDateTime updatedAt,
+			@JsonProperty("title") String title, @JsonProperty("created_at") OffsetDateTime createdAt) {
 		this.url = url;
 		this.commentsUrl = commentsUrl;
 		this.eventsUrl = eventsUrl;
@@ -68,9 +119,13 @@ public class Issue {
 		this.labels = labels;
 		this.milestone = milestone;
 		this.pullRequest = pullRequest;
+		this.state = state;
+		this.updatedAt = updatedAt;
+		this.title = title;
+		this.createdAt = createdAt;
 	}
 
-	String getUrl() {
+	public String getUrl() {
 		return this.url;
 	}
 
@@ -102,6 +157,64 @@ public class Issue {
 		return this.pullRequest;
 	}
 
+	public String getState() {
+		return this.state;
+	}
+
+	public OffsetDateTime getUpdatedAt() {
+		return this.updatedAt;
+	}
+
+	public String getTitle() {
+		return this.title;
+	}
+
+	public OffsetDateTime getCreatedAt() {
+		return this.createdAt;
+	}
+
+	/**
+	 * Returns a copy of this issue with the given {@code labels}. When the labels are the
+	 * same instance as this issue's labels, this issue is returned.
+	 * @param labels the labels
+	 * @return the issue with the labels
+	 */
+	public Issue withLabels(List<Label> labels) {
+		if (labels == this.labels) {
+			return this;
+		}
+		return new Issue(this.url, this.commentsUrl, this.eventsUrl, this.labelsUrl, this.user, labels,
+				this.milestone, this.pullRequest, this.state, this.updatedAt, this.title, this.createdAt);
+	}
+
+	/**
+	 * Returns a copy of this issue with the given {@code milestone}. When the milestone is
+	 * the same instance as this issue's milestone, this issue is returned.
+	 * @param milestone the milestone
+	 * @return the issue with the milestone
+	 */
+	public Issue withMilestone(Milestone milestone) {
+		if (milestone == this.milestone) {
+			return this;
+		}
+		return new Issue(this.url, this.commentsUrl, this.eventsUrl, this.labelsUrl, this.user, this.labels,
+				milestone, this.pullRequest, this.state, this.updatedAt, this.title, this.createdAt);
+	}
+
+	/**
+	 * Returns a copy of this issue with the given {@code state}. When the state is equal
+	 * to this issue's state, this issue is returned.
+	 * @param state the state
+	 * @return the issue with the state
+	 */
+	public Issue withState(String state) {
+		if (Objects.equals(state, this.state)) {
+			return this;
+		}
+		return new Issue(this.url, this.commentsUrl, this.eventsUrl, this.labelsUrl, this.user, this.labels,
+				this.milestone, this.pullRequest, state, this.updatedAt, this.title, this.createdAt);
+	}
+
 	@Override
 	public String toString() {
 		return this.url;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2018 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,10 @@
 package io.spring.issuebot.github;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A page of results.
@@ -38,4 +42,39 @@ public interface Page<T> {
 	 */
 	List<T> getContent();
 
+	/**
+	 * Returns the URL from which the page was retrieved, if known.
+	 * @return the URL or {@code null}
+	 */
+	String getUrl();
+
+	/**
+	 * Returns a {@link Spliterator} over the contents of this page and of every page
+	 * that follows it. Subsequent pages are only retrieved once the contents of the
+	 * preceding page have been consumed or when the spliterator is split.
+	 * @return the spliterator
+	 */
+	default Spliterator<T> spliterator() {
+		return new PageSpliterator<>(this);
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of the contents of this page and of every
+	 * page that follows it. Pages are retrieved lazily so a short-circuiting terminal
+	 * operation will stop retrieving pages as soon as its result is known.
+	 * @return the stream
+	 */
+	default Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns an {@link Iterable} view of the contents of this page and of every page
+	 * that follows it. Each iterator retrieves pages lazily, starting from this page.
+	 * @return the iterable view
+	 */
+	default Iterable<T> all() {
+		return () -> Spliterators.iterator(spliterator());
+	}
+
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.lang.reflect.Type;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the parsing of a page of a listing or search from a response
+ * of GitHub's REST API.
+ *
+ * @author Andy Wilkinson
+ */
+@Name("io.spring.issuebot.github.PageParse")
+@Label("GitHub Page Parse")
+@Category({ "Issue Bot", "GitHub" })
+@Description("Parsing of a page of a listing or search returned by GitHub's REST API")
+@StackTrace(false)
+final class PageParseEvent extends Event {
+
+	@Label("Type")
+	private String type;
+
+	@Label("Items")
+	private int items;
+
+	@Label("Size")
+	@DataAmount
+	private long bytes;
+
+	/**
+	 * Ends the event and, if it should be committed, records the details of the parsed
+	 * page and commits it.
+	 * @param type the type to which the page was parsed
+	 * @param items the number of items on the page
+	 * @param bytes the size of the page's JSON
+	 */
+	void record(Type type, int items, long bytes) {
+		end();
+		if (shouldCommit()) {
+			this.type = type.getTypeName();
+			this.items = items;
+			this.bytes = bytes;
+			commit();
+		}
+	}
+
+}
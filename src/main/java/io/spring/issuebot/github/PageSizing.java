@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Chooses the {@code per_page} value of the first page of each listing, per endpoint,
+ * from the number of items that recent listings of the endpoint contained, the latency
+ * of their first page, and the remaining quota. Endpoints whose listings fit in GitHub's
+ * default page size are left alone. For larger listings, the fewest pages that the
+ * current limit allows are requested, balanced so that the last page is not mostly
+ * empty. The limit is halved while the first page's latency is above the target and
+ * grows again once it is comfortably below it. When quota is scarce, latency is ignored
+ * and the largest page size is used to minimize the number of requests.
+ *
+ * @author Andy Wilkinson
+ */
+final class PageSizing {
+
+	static final int DEFAULT_PAGE_SIZE = 30;
+
+	static final int MAX_PAGE_SIZE = 100;
+
+	private static final int PAGE_SIZE_STEP = 10;
+
+	private static final double SMOOTHING = 0.2;
+
+	private static final int SCARCE_QUOTA_DIVISOR = 10;
+
+	private static final Pattern PER_PAGE = Pattern.compile("[?&]per_page=(\\d+)");
+
+	private static final Pattern PAGE = Pattern.compile("[?&]page=(\\d+)");
+
+	private final Map<String, EndpointPageSize> endpoints = new ConcurrentHashMap<>();
+
+	private final boolean enabled;
+
+	private final Duration latencyTarget;
+
+	/**
+	 * Creates a new {@code PageSizing}.
+	 * @param enabled whether page sizes should be adapted. When disabled, GitHub's default
+	 * page size is always used
+	 * @param latencyTarget the latency above which the page size of an endpoint is reduced
+	 */
+	PageSizing(boolean enabled, Duration latencyTarget) {
+		this.enabled = enabled;
+		this.latencyTarget = latencyTarget;
+	}
+
+	/**
+	 * Returns the given {@code url} of the first page of a listing with a
+	 * {@code per_page} parameter added if a page size other than GitHub's default has
+	 * been chosen for its endpoint.
+	 * @param url the url
+	 * @return the url, possibly with a {@code per_page} parameter
+	 */
+	String size(String url) {
+		if (!this.enabled) {
+			return url;
+		}
+		int pageSize = getPageSize(endpoint(url));
+		if (pageSize == DEFAULT_PAGE_SIZE) {
+			return url;
+		}
+		return url + ((url.contains("?")) ? "&" : "?") + "per_page=" + pageSize;
+	}
+
+	/**
+	 * Records the response to a request for the first page of a listing.
+	 * @param url the url of the first page
+	 * @param items the number of items on the first page
+	 * @param links the links of the response, keyed by relation
+	 * @param latency the latency of the request
+	 * @param rateLimit the rate limit after the request or {@code null}
+	 */
+	void record(String url, int items, Map<String, String> links, Duration latency, RateLimit rateLimit) {
+		if (!this.enabled) {
+			return;
+		}
+		int pageSize = number(PER_PAGE, url, DEFAULT_PAGE_SIZE);
+		boolean scarce = rateLimit != null
+				&& rateLimit.getRemaining() < rateLimit.getLimit() / SCARCE_QUOTA_DIVISOR;
+		this.endpoints.computeIfAbsent(endpoint(url), (endpoint) -> new EndpointPageSize())
+			.record(listingSize(items, pageSize, links), latency, scarce, this.latencyTarget);
+	}
+
+	/**
+	 * Returns the page size that is currently chosen for the given {@code endpoint}.
+	 * @param endpoint the endpoint, as returned by {@link ApiUris#endpoint(URI)}
+	 * @return the page size
+	 */
+	int getPageSize(String endpoint) {
+		EndpointPageSize pageSize = this.endpoints.get(endpoint);
+		return (pageSize != null) ? pageSize.pageSize : DEFAULT_PAGE_SIZE;
+	}
+
+	/**
+	 * Returns the number of items that a listing of the given {@code endpoint} is
+	 * expected to contain.
+	 * @param endpoint the endpoint, as returned by {@link ApiUris#endpoint(URI)}
+	 * @return the expected number of items or zero if no listing has been recorded
+	 */
+	double getExpectedItems(String endpoint) {
+		EndpointPageSize pageSize = this.endpoints.get(endpoint);
+		return (pageSize != null) ? pageSize.expectedItems : 0;
+	}
+
+	static int pageSize(double expectedItems, int limit) {
+		if (expectedItems <= DEFAULT_PAGE_SIZE) {
+			return DEFAULT_PAGE_SIZE;
+		}
+		int pages = (int) Math.ceil(expectedItems / limit);
+		int balanced = (int) Math.ceil(expectedItems / pages);
+		int rounded = ((balanced + PAGE_SIZE_STEP - 1) / PAGE_SIZE_STEP) * PAGE_SIZE_STEP;
+		return Math.max(DEFAULT_PAGE_SIZE, Math.min(limit, rounded));
+	}
+
+	private static int listingSize(int items, int pageSize, Map<String, String> links) {
+		if (!links.containsKey("next")) {
+			return items;
+		}
+		String last = links.get("last");
+		int lastPage = (last != null) ? number(PAGE, last, 2) : 2;
+		return lastPage * pageSize;
+	}
+
+	private static int number(Pattern pattern, String url, int defaultValue) {
+		Matcher matcher = pattern.matcher(url);
+		return (matcher.find()) ? Integer.parseInt(matcher.group(1)) : defaultValue;
+	}
+
+	private static String endpoint(String url) {
+		return ApiUris.endpoint(URI.create(url));
+	}
+
+	private static final class EndpointPageSize {
+
+		private volatile int pageSize = DEFAULT_PAGE_SIZE;
+
+		private volatile double expectedItems = -1;
+
+		private double latencyMillis = -1;
+
+		private int limit = MAX_PAGE_SIZE;
+
+		private synchronized void record(int items, Duration latency, boolean scarce, Duration latencyTarget) {
+			this.expectedItems = smooth(this.expectedItems, items);
+			this.latencyMillis = smooth(this.latencyMillis, latency.toMillis());
+			if (this.latencyMillis > latencyTarget.toMillis()) {
+				this.limit = Math.max(DEFAULT_PAGE_SIZE, this.limit / 2);
+			}
+			else if (this.latencyMillis < latencyTarget.toMillis() / 2.0) {
+				this.limit = Math.min(MAX_PAGE_SIZE, this.limit + PAGE_SIZE_STEP);
+			}
+			this.pageSize = pageSize(this.expectedItems, (scarce) ? MAX_PAGE_SIZE : this.limit);
+		}
+
+		private static double smooth(double average, double value) {
+			return (average < 0) ? value : average + SMOOTHING * (value - average);
+		}
+
+	}
+
+}
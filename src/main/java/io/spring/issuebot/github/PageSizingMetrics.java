@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link MeterBinder} for the page sizes that a {@link GitHubTemplate} has chosen for the
+ * listings that it makes. For each endpoint, it exposes the current page size and the
+ * number of items that a listing is expected to contain.
+ *
+ * @author Andy Wilkinson
+ */
+public final class PageSizingMetrics implements MeterBinder {
+
+	private static final List<String> ENDPOINTS = List.of("issues", "issues/{number}/comments",
+			"issues/{number}/events", "issues/{number}/timeline");
+
+	private final PageSizing pageSizing;
+
+	public PageSizingMetrics(GitHubTemplate gitHubTemplate) {
+		this.pageSizing = gitHubTemplate.getPageSizing();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (String endpoint : ENDPOINTS) {
+			Tags tags = Tags.of("endpoint", endpoint);
+			Gauge.builder("github.page.size", () -> this.pageSizing.getPageSize(endpoint))
+				.tags(tags)
+				.description("Number of items requested per page when listing the endpoint")
+				.register(registry);
+			Gauge.builder("github.page.expected.items", () -> this.pageSizing.getExpectedItems(endpoint))
+				.tags(tags)
+				.description("Number of items that a listing of the endpoint is expected to contain")
+				.register(registry);
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the contents of a {@link Page} and the pages that follow
+ * it. The next page is retrieved only when the contents of the current page have been
+ * consumed. Splitting hands off the unconsumed contents of the current page, allowing
+ * pages to be processed in parallel while the next is being retrieved.
+ *
+ * @param <T> the type of the contents of the pages
+ * @author Andy Wilkinson
+ */
+final class PageSpliterator<T> implements Spliterator<T> {
+
+	private Page<T> page;
+
+	private Spliterator<T> content;
+
+	PageSpliterator(Page<T> page) {
+		this.page = page;
+		this.content = (page != null) ? page.getContent().spliterator() : Spliterators.emptySpliterator();
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		while (!this.content.tryAdvance(action)) {
+			if (!nextPage()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		do {
+			this.content.forEachRemaining(action);
+		}
+		while (nextPage());
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		if (this.page == null) {
+			return this.content.trySplit();
+		}
+		if (this.content.estimateSize() == 0 && !nextPage()) {
+			return null;
+		}
+		Spliterator<T> prefix = this.content;
+		this.content = Spliterators.emptySpliterator();
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		long remaining = this.content.estimateSize();
+		if (this.page == null) {
+			return remaining;
+		}
+		// Assume that there is one more page that is the same size as the current page
+		return remaining + this.page.getContent().size();
+	}
+
+	@Override
+	public int characteristics() {
+		return Spliterator.ORDERED | Spliterator.NONNULL;
+	}
+
+	private boolean nextPage() {
+		if (this.page == null) {
+			return false;
+		}
+		this.page = this.page.next();
+		if (this.page == null) {
+			this.content = Spliterators.emptySpliterator();
+			return false;
+		}
+		this.content = this.page.getContent().spliterator();
+		return true;
+	}
+
+}
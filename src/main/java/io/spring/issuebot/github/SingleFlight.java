@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key so that only one of them, the leader,
+ * does the work. Calls that arrive while the leader is in flight wait for it and share
+ * its result or failure. Once the leader has completed, the next call with the same key
+ * does the work again, i.e. results are shared but not cached.
+ *
+ * @author Andy Wilkinson
+ */
+final class SingleFlight {
+
+	private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	/**
+	 * Returns the result of the call with the given {@code key}, either by calling the
+	 * given {@code supplier} or by waiting for a concurrent call with the same key.
+	 * @param <T> the type of the result
+	 * @param key the key
+	 * @param supplier the supplier of the result
+	 * @return the result
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T execute(Object key, Supplier<T> supplier) {
+		CompletableFuture<Object> call = new CompletableFuture<>();
+		CompletableFuture<Object> leader = this.inFlight.putIfAbsent(key, call);
+		if (leader != null) {
+			this.coalesced.increment();
+			return (T) await(leader);
+		}
+		try {
+			T result = supplier.get();
+			call.complete(result);
+			return result;
+		}
+		catch (RuntimeException | Error ex) {
+			call.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlight.remove(key, call);
+		}
+	}
+
+	/**
+	 * Returns the number of calls that have been coalesced with a call that was already
+	 * in flight.
+	 * @return the number of coalesced calls
+	 */
+	long getCoalesced() {
+		return this.coalesced.sum();
+	}
+
+	private Object await(CompletableFuture<Object> leader) {
+		try {
+			return leader.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2019 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,8 @@ import java.util.function.Supplier;
  */
 public class StandardPage<T> implements Page<T> {
 
+	private final String url;
+
 	private final List<T> content;
 
 	private final Supplier<Page<T>> nextSupplier;
@@ -39,6 +41,19 @@ public class StandardPage<T> implements Page<T> {
 	 * @param nextSupplier the supplier of the next page
 	 */
 	public StandardPage(List<T> content, Supplier<Page<T>> nextSupplier) {
+		this(null, content, nextSupplier);
+	}
+
+	/**
+	 * Creates a new {@code StandardPage} that was retrieved from the given {@code url}
+	 * and has the given {@code content}. The given {@code nextSupplier} will be used to
+	 * obtain the next page {@link #next when requested}.
+	 * @param url the url from which the page was retrieved
+	 * @param content the content
+	 * @param nextSupplier the supplier of the next page
+	 */
+	public StandardPage(String url, List<T> content, Supplier<Page<T>> nextSupplier) {
+		this.url = url;
 		this.content = content;
 		this.nextSupplier = nextSupplier;
 	}
@@ -53,4 +68,9 @@ public class StandardPage<T> implements Page<T> {
 		return this.content;
 	}
 
+	@Override
+	public String getUrl() {
+		return this.url;
+	}
+
 }
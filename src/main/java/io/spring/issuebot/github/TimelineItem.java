@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.time.OffsetDateTime;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An item in the timeline of an {@link Issue}. The timeline combines the issue's events
+ * and comments in a single feed.
+ *
+ * @author Andy Wilkinson
+ */
+public final class TimelineItem {
+
+	private final Type type;
+
+	private final OffsetDateTime creationTime;
+
+	private final Label label;
+
+	private final User user;
+
+	/**
+	 * Creates a new {@code TimelineItem}.
+	 * @param type the type of the item
+	 * @param creationTime the timestamp of when the item was created
+	 * @param label the label associated with the item, if any
+	 * @param user the author of the item when it is a comment
+	 * @param actor the user that performed the item when it is an event
+	 */
+	@JsonCreator
+	public TimelineItem(@JsonProperty("event") String type, @JsonProperty("created_at") OffsetDateTime creationTime,
+			@JsonProperty("label") Label label, @JsonProperty("user") User user,
+			@JsonProperty("actor") User actor) {
+		this.type = Type.valueFrom(type);
+		this.creationTime = creationTime;
+		this.label = label;
+		this.user = (user != null) ? user : actor;
+	}
+
+	public Type getType() {
+		return this.type;
+	}
+
+	public OffsetDateTime getCreationTime() {
+		return this.creationTime;
+	}
+
+	public Label getLabel() {
+		return this.label;
+	}
+
+	/**
+	 * Returns the user that authored or performed the item.
+	 * @return the user or {@code null}
+	 */
+	public User getUser() {
+		return this.user;
+	}
+
+	/**
+	 * The type of a {@link TimelineItem}.
+	 *
+	 * @author Andy Wilkinson
+	 */
+	public enum Type {
+
+		/**
+		 * A comment was made on the issue.
+		 */
+		COMMENTED("commented"),
+
+		/**
+		 * A label was added to the issue.
+		 */
+		LABELED("labeled"),
+
+		/**
+		 * A label was removed from the issue.
+		 */
+		UNLABELED("unlabeled"),
+
+		/**
+		 * Any other type of item.
+		 */
+		OTHER(null);
+
+		private final String type;
+
+		Type(String type) {
+			this.type = type;
+		}
+
+		static Type valueFrom(String type) {
+			for (Type value : values()) {
+				if (value.type != null && value.type.equals(type)) {
+					return value;
+				}
+			}
+			return OTHER;
+		}
+
+	}
+
+}
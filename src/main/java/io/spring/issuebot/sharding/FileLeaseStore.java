@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A {@link LeaseStore} that stores leases in a properties file in a local directory. All
+ * access to the file happens while holding an exclusive lock on a sibling lock file,
+ * making the store suitable for several instances running on the same machine or
+ * sharing a file system that supports file locking.
+ *
+ * @author Andy Wilkinson
+ */
+public final class FileLeaseStore implements LeaseStore {
+
+	private static final Map<Path, ReentrantLock> localLocks = new ConcurrentHashMap<>();
+
+	private final Path leases;
+
+	private final Path lock;
+
+	private final ReentrantLock localLock;
+
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@code FileLeaseStore} that will store its leases in the given
+	 * {@code directory}.
+	 * @param directory the directory
+	 * @param clock the clock used to determine when leases expire
+	 */
+	public FileLeaseStore(Path directory, Clock clock) {
+		Path normalized = directory.toAbsolutePath().normalize();
+		this.leases = normalized.resolve("leases.properties");
+		this.lock = normalized.resolve("leases.lock");
+		this.localLock = localLocks.computeIfAbsent(normalized, (key) -> new ReentrantLock());
+		this.clock = clock;
+	}
+
+	@Override
+	public boolean tryAcquire(String name, String owner, Duration duration) {
+		return update((leases) -> {
+			Instant now = this.clock.instant();
+			Lease lease = leases.get(name);
+			if (lease != null && !lease.isExpired(now) && !lease.getOwner().equals(owner)) {
+				return false;
+			}
+			leases.put(name, new Lease(name, owner, now.plus(duration)));
+			return true;
+		});
+	}
+
+	@Override
+	public void release(String name, String owner) {
+		update((leases) -> {
+			Lease lease = leases.get(name);
+			if (lease != null && lease.getOwner().equals(owner)) {
+				leases.remove(name);
+				return true;
+			}
+			return false;
+		});
+	}
+
+	@Override
+	public List<Lease> getLeases() {
+		return locked(() -> new ArrayList<>(read().values()));
+	}
+
+	private boolean update(Function<Map<String, Lease>, Boolean> update) {
+		return locked(() -> {
+			Map<String, Lease> leases = read();
+			boolean modified = update.apply(leases);
+			if (modified) {
+				write(leases);
+			}
+			return modified;
+		});
+	}
+
+	private <T> T locked(LockedAction<T> action) {
+		this.localLock.lock();
+		try {
+			Files.createDirectories(this.lock.getParent());
+			try (FileChannel channel = FileChannel.open(this.lock, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE); FileLock fileLock = channel.lock()) {
+				return action.perform();
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to access leases in " + this.leases, ex);
+		}
+		finally {
+			this.localLock.unlock();
+		}
+	}
+
+	private Map<String, Lease> read() throws IOException {
+		Map<String, Lease> leases = new HashMap<>();
+		if (Files.isRegularFile(this.leases)) {
+			Properties properties = new Properties();
+			try (InputStream input = Files.newInputStream(this.leases)) {
+				properties.load(input);
+			}
+			for (String name : properties.stringPropertyNames()) {
+				String value = properties.getProperty(name);
+				int separator = value.indexOf(' ');
+				leases.put(name, new Lease(name, value.substring(separator + 1),
+						Instant.ofEpochMilli(Long.parseLong(value.substring(0, separator)))));
+			}
+		}
+		return leases;
+	}
+
+	private void write(Map<String, Lease> leases) throws IOException {
+		Properties properties = new Properties();
+		for (Lease lease : leases.values()) {
+			properties.setProperty(lease.getName(), lease.getExpiresAt().toEpochMilli() + " " + lease.getOwner());
+		}
+		Path temp = Files.createTempFile(this.leases.getParent(), "leases", ".tmp");
+		try (OutputStream output = Files.newOutputStream(temp)) {
+			properties.store(output, null);
+		}
+		Files.move(temp, this.leases, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	@FunctionalInterface
+	private interface LockedAction<T> {
+
+		T perform() throws IOException;
+
+	}
+
+}
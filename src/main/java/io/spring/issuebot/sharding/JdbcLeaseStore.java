@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * A {@link LeaseStore} that stores leases in a database table, making it suitable for
+ * instances running on different machines. Each lease is acquired or renewed using a
+ * single conditional update, falling back to an insert that fails if another instance
+ * inserted the lease first. Expiry times are calculated using each instance's clock so
+ * the instances' clocks should be synchronized.
+ *
+ * @author Andy Wilkinson
+ */
+public final class JdbcLeaseStore implements LeaseStore {
+
+	private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+	private final DataSource dataSource;
+
+	private final String table;
+
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@code JdbcLeaseStore} that will store its leases in the given
+	 * {@code table} of the given {@code dataSource}.
+	 * @param dataSource the data source
+	 * @param table the name of the table
+	 * @param clock the clock used to determine when leases expire
+	 */
+	public JdbcLeaseStore(DataSource dataSource, String table, Clock clock) {
+		this.dataSource = dataSource;
+		this.table = table;
+		this.clock = clock;
+	}
+
+	/**
+	 * Creates the table in which the leases are stored if it does not already exist.
+	 */
+	public void createTableIfNecessary() {
+		execute((connection) -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("CREATE TABLE IF NOT EXISTS " + this.table
+						+ " (name VARCHAR(255) NOT NULL PRIMARY KEY, owner VARCHAR(255) NOT NULL,"
+						+ " expires_at BIGINT NOT NULL)");
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public boolean tryAcquire(String name, String owner, Duration duration) {
+		return execute((connection) -> {
+			long now = this.clock.millis();
+			long expiresAt = now + duration.toMillis();
+			try (PreparedStatement update = connection.prepareStatement("UPDATE " + this.table
+					+ " SET owner = ?, expires_at = ? WHERE name = ? AND (owner = ? OR expires_at <= ?)")) {
+				update.setString(1, owner);
+				update.setLong(2, expiresAt);
+				update.setString(3, name);
+				update.setString(4, owner);
+				update.setLong(5, now);
+				if (update.executeUpdate() == 1) {
+					return true;
+				}
+			}
+			try (PreparedStatement insert = connection
+				.prepareStatement("INSERT INTO " + this.table + " (name, owner, expires_at) VALUES (?, ?, ?)")) {
+				insert.setString(1, name);
+				insert.setString(2, owner);
+				insert.setLong(3, expiresAt);
+				return insert.executeUpdate() == 1;
+			}
+			catch (SQLException ex) {
+				if (ex.getSQLState() != null && ex.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+					return false;
+				}
+				throw ex;
+			}
+		});
+	}
+
+	@Override
+	public void release(String name, String owner) {
+		execute((connection) -> {
+			try (PreparedStatement delete = connection
+				.prepareStatement("DELETE FROM " + this.table + " WHERE name = ? AND owner = ?")) {
+				delete.setString(1, name);
+				delete.setString(2, owner);
+				return delete.executeUpdate();
+			}
+		});
+	}
+
+	@Override
+	public List<Lease> getLeases() {
+		return execute((connection) -> {
+			List<Lease> leases = new ArrayList<>();
+			try (Statement statement = connection.createStatement();
+					ResultSet results = statement.executeQuery("SELECT name, owner, expires_at FROM " + this.table)) {
+				while (results.next()) {
+					leases.add(new Lease(results.getString(1), results.getString(2),
+							Instant.ofEpochMilli(results.getLong(3))));
+				}
+			}
+			return leases;
+		});
+	}
+
+	private <T> T execute(ConnectionCallback<T> callback) {
+		try (Connection connection = this.dataSource.getConnection()) {
+			connection.setAutoCommit(true);
+			return callback.doInConnection(connection);
+		}
+		catch (SQLException ex) {
+			throw new IllegalStateException("Failed to access leases in table '" + this.table + "'", ex);
+		}
+	}
+
+	@FunctionalInterface
+	private interface ConnectionCallback<T> {
+
+		T doInConnection(Connection connection) throws SQLException;
+
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.time.Instant;
+
+/**
+ * A lease, held by an owner until it expires or is released.
+ *
+ * @author Andy Wilkinson
+ */
+public final class Lease {
+
+	private final String name;
+
+	private final String owner;
+
+	private final Instant expiresAt;
+
+	/**
+	 * Creates a new {@code Lease}.
+	 * @param name the name of the lease
+	 * @param owner the owner of the lease
+	 * @param expiresAt the time at which the lease expires
+	 */
+	public Lease(String name, String owner, Instant expiresAt) {
+		this.name = name;
+		this.owner = owner;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public String getOwner() {
+		return this.owner;
+	}
+
+	public Instant getExpiresAt() {
+		return this.expiresAt;
+	}
+
+	/**
+	 * Returns whether the lease has expired at the given {@code time}.
+	 * @param time the time
+	 * @return {@code true} if the lease has expired, otherwise {@code false}
+	 */
+	public boolean isExpired(Instant time) {
+		return !time.isBefore(this.expiresAt);
+	}
+
+	@Override
+	public String toString() {
+		return this.name + " held by " + this.owner + " until " + this.expiresAt;
+	}
+
+}
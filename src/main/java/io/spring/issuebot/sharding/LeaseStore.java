@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A store of {@link Lease leases} that is shared by the instances that are working
+ * together. Implementations must ensure that, at any one time, a lease has at most one
+ * unexpired owner.
+ *
+ * @author Andy Wilkinson
+ */
+public interface LeaseStore {
+
+	/**
+	 * Attempts to acquire, or to renew, the lease with the given {@code name} on behalf of
+	 * the given {@code owner}. The attempt succeeds if the lease does not exist, has
+	 * expired, or is already held by the owner.
+	 * @param name the name of the lease
+	 * @param owner the owner
+	 * @param duration how long the lease should be held before it expires
+	 * @return {@code true} if the lease is now held by the owner, otherwise {@code false}
+	 */
+	boolean tryAcquire(String name, String owner, Duration duration);
+
+	/**
+	 * Releases the lease with the given {@code name} if it is held by the given
+	 * {@code owner}.
+	 * @param name the name of the lease
+	 * @param owner the owner
+	 */
+	void release(String name, String owner);
+
+	/**
+	 * Returns all of the leases in the store, including any that have expired.
+	 * @return the leases
+	 */
+	List<Lease> getLeases();
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.spring.issuebot.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares the monitored repositories between several instances using leases held in a
+ * {@link LeaseStore}. Each instance holds a membership lease and, using rendezvous
+ * hashing over the live members, claims the repositories for which it is preferred.
+ * Membership changes therefore move only the repositories of the members that joined or
+ * left. A repository's lease must be held while any of its issues are processed. Before
+ * starting such work, and before each step of work that may outlast the lease, the
+ * lease is renewed if less than half of its duration remains. Work whose lease has been
+ * lost should be abandoned, so the lease duration should be at least twice the time
+ * that it takes to complete the longest step, such as processing a page of issues.
+ *
+ * @author Andy Wilkinson
+ */
+public final class RepositorySharding implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(RepositorySharding.class);
+
+	private static final String MEMBER_PREFIX = "member/";
+
+	private static final String REPOSITORY_PREFIX = "repository/";
+
+	private final LeaseStore store;
+
+	private final String instanceId;
+
+	private final Duration leaseDuration;
+
+	private final Clock clock;
+
+	private final Map<String, Instant> held = new ConcurrentHashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new {@code RepositorySharding}.
+	 * @param store the store that holds the leases
+	 * @param instanceId the ID of this instance, unique among the instances sharing the
+	 * store
+	 * @param leaseDuration how long each lease is held before it expires unless renewed
+	 * @param clock the clock used to determine when leases expire
+	 */
+	public RepositorySharding(LeaseStore store, String instanceId, Duration leaseDuration, Clock clock) {
+		this.store = store;
+		this.instanceId = instanceId;
+		this.leaseDuration = leaseDuration;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns a {@code RepositorySharding} for an instance that is working alone and
+	 * therefore owns every repository.
+	 * @param clock the clock
+	 * @return the sharding
+	 */
+	public static RepositorySharding unsharded(Clock clock) {
+		return new RepositorySharding(null, UUID.randomUUID().toString(), Duration.ZERO, clock);
+	}
+
+	public String getInstanceId() {
+		return this.instanceId;
+	}
+
+	/**
+	 * Renews this instance's membership and rebalances the given {@code repositories},
+	 * claiming those for which this instance is preferred and releasing those for which
+	 * another member is now preferred.
+	 * @param repositories the repositories that are being monitored
+	 * @return the repositories that are held by this instance
+	 */
+	public List<Repository> claim(List<Repository> repositories) {
+		if (this.store == null) {
+			return repositories;
+		}
+		this.lock.writeLock().lock();
+		try {
+			if (this.closed) {
+				return List.of();
+			}
+			this.store.tryAcquire(MEMBER_PREFIX + this.instanceId, this.instanceId, this.leaseDuration);
+			Set<String> members = getMembers();
+			Set<String> configured = new HashSet<>();
+			List<Repository> claimed = new ArrayList<>();
+			for (Repository repository : repositories) {
+				String name = leaseName(repository);
+				configured.add(name);
+				if (this.instanceId.equals(preferredMember(members, name))) {
+					if (acquire(name)) {
+						claimed.add(repository);
+					}
+				}
+				else if (this.held.containsKey(name)) {
+					log.info("Releasing {} as another member is preferred", name);
+					release(name);
+				}
+			}
+			for (String name : new ArrayList<>(this.held.keySet())) {
+				if (!configured.contains(name)) {
+					release(name);
+				}
+			}
+			log.info("Holding {} of {} repositories shared between {} members", claimed.size(), repositories.size(),
+					members.size());
+			return claimed;
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Performs the given {@code work} if the lease of the given {@code repository} is
+	 * held by this instance, renewing it first if less than half of its duration remains.
+	 * The lease cannot be released by this instance while the work is being performed but
+	 * it may expire. Work that may outlast the lease should call {@link #isHeld(Repository)}
+	 * before each of its steps and abandon the remaining steps once the lease is lost.
+	 * @param repository the repository
+	 * @param work the work to perform
+	 * @return {@code true} if the work was performed, otherwise {@code false}
+	 */
+	public boolean runIfHeld(Repository repository, Runnable work) {
+		this.lock.readLock().lock();
+		try {
+			if (this.closed || !isHeld(leaseName(repository))) {
+				return false;
+			}
+			work.run();
+			return true;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns whether the lease of the given {@code repository} is still held by this
+	 * instance, renewing it first if less than half of its duration remains.
+	 * @param repository the repository
+	 * @return {@code true} if the lease is held, otherwise {@code false}
+	 */
+	public boolean isHeld(Repository repository) {
+		return !this.closed && isHeld(leaseName(repository));
+	}
+
+	/**
+	 * Releases all of the leases held by this instance, allowing the other members to
+	 * claim its repositories without waiting for the leases to expire.
+	 */
+	@Override
+	public void close() {
+		if (this.store == null) {
+			return;
+		}
+		this.lock.writeLock().lock();
+		try {
+			this.closed = true;
+			for (String name : new ArrayList<>(this.held.keySet())) {
+				release(name);
+			}
+			this.store.release(MEMBER_PREFIX + this.instanceId, this.instanceId);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	private boolean isHeld(String name) {
+		if (this.store == null) {
+			return true;
+		}
+		Instant expiresAt = this.held.get(name);
+		if (expiresAt == null) {
+			return false;
+		}
+		Duration remaining = Duration.between(this.clock.instant(), expiresAt);
+		if (remaining.compareTo(this.leaseDuration.dividedBy(2)) >= 0) {
+			return true;
+		}
+		synchronized (this.held) {
+			this.store.tryAcquire(MEMBER_PREFIX + this.instanceId, this.instanceId, this.leaseDuration);
+			return acquire(name);
+		}
+	}
+
+	private Set<String> getMembers() {
+		Instant now = this.clock.instant();
+		Set<String> members = new TreeSet<>();
+		members.add(this.instanceId);
+		for (Lease lease : this.store.getLeases()) {
+			if (lease.getName().startsWith(MEMBER_PREFIX) && !lease.isExpired(now)) {
+				members.add(lease.getOwner());
+			}
+		}
+		return members;
+	}
+
+	private boolean acquire(String name) {
+		Instant expiresAt = this.clock.instant().plus(this.leaseDuration);
+		if (this.store.tryAcquire(name, this.instanceId, this.leaseDuration)) {
+			if (this.held.put(name, expiresAt) == null) {
+				log.info("Acquired {}", name);
+			}
+			return true;
+		}
+		if (this.held.remove(name) != null) {
+			log.warn("Lost {}", name);
+		}
+		return false;
+	}
+
+	private void release(String name) {
+		this.store.release(name, this.instanceId);
+		this.held.remove(name);
+	}
+
+	private String preferredMember(Set<String> members, String name) {
+		String preferred = null;
+		long highest = Long.MIN_VALUE;
+		for (String member : members) {
+			long weight = UUID.nameUUIDFromBytes((member + "/" + name).getBytes(StandardCharsets.UTF_8))
+				.getMostSignificantBits();
+			if (preferred == null || weight > highest) {
+				preferred = member;
+				highest = weight;
+			}
+		}
+		return preferred;
+	}
+
+	private static String leaseName(Repository repository) {
+		return REPOSITORY_PREFIX + repository.getOrganization() + "/" + repository.getName();
+	}
+
+}
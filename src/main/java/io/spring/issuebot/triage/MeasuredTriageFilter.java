@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.triage;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.Issue;
+
+/**
+ * A named {@link TriageFilter} that records how often it is evaluated, how often it
+ * matches, and how long its evaluations take.
+ *
+ * @author Andy Wilkinson
+ */
+final class MeasuredTriageFilter implements TriageFilter {
+
+	private final LongAdder evaluations = new LongAdder();
+
+	private final LongAdder matches = new LongAdder();
+
+	private final LongAdder nanos = new LongAdder();
+
+	private final String name;
+
+	private final TriageFilter delegate;
+
+	MeasuredTriageFilter(String name, TriageFilter delegate) {
+		this.name = name;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public boolean triaged(Repository repository, Issue issue) {
+		long start = System.nanoTime();
+		boolean triaged = this.delegate.triaged(repository, issue);
+		this.nanos.add(System.nanoTime() - start);
+		this.evaluations.increment();
+		if (triaged) {
+			this.matches.increment();
+		}
+		return triaged;
+	}
+
+	String getName() {
+		return this.name;
+	}
+
+	long getEvaluations() {
+		return this.evaluations.sum();
+	}
+
+	long getMatches() {
+		return this.matches.sum();
+	}
+
+	Duration getTime() {
+		return Duration.ofNanos(this.nanos.sum());
+	}
+
+	/**
+	 * Returns the expected cost of reaching a decision by evaluating this filter, that
+	 * is its mean evaluation time divided by the probability that its result is the
+	 * given {@code decisiveResult}. A filter that has not yet been evaluated has a cost
+	 * of zero so that it is evaluated early and its statistics are gathered.
+	 * @param decisiveResult the result that ends the evaluation of a sequence of filters
+	 * @return the expected cost
+	 */
+	double expectedCost(boolean decisiveResult) {
+		long evaluations = getEvaluations();
+		if (evaluations == 0) {
+			return 0;
+		}
+		long matches = getMatches();
+		long decisive = (decisiveResult) ? matches : evaluations - matches;
+		double meanNanos = this.nanos.sum() / (double) evaluations;
+		return meanNanos * (evaluations + 2) / (decisive + 1);
+	}
+
+	@Override
+	public String toString() {
+		return this.name;
+	}
+
+}
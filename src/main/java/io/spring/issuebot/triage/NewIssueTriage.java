@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.triage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.spring.issuebot.IssueDispatcher;
+import io.spring.issuebot.MonitoredRepositories;
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.Page;
+import io.spring.issuebot.sharding.RepositorySharding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * A lane, separate from the monitoring pass, that triages newly created issues. On its
+ * own thread and at its own interval, the open issues of each repository whose lease is
+ * held by this instance are listed from the most recently created and listing stops at
+ * the first issue whose number is no higher than that of the newest issue that was seen
+ * by the previous run. New issues are passed to the {@link IssueDispatcher} so that they
+ * are never handled at the same time as by the monitoring pass. The first run for a
+ * repository only records the newest issue, leaving existing issues to the monitoring
+ * pass which remains responsible for triaging any issue that this lane misses.
+ *
+ * @author Andy Wilkinson
+ */
+final class NewIssueTriage implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(NewIssueTriage.class);
+
+	private final GitHubOperations gitHub;
+
+	private final Supplier<IssueDispatcher> issueDispatcher;
+
+	private final MonitoredRepositories repositories;
+
+	private final RepositorySharding sharding;
+
+	private final Duration interval;
+
+	private final boolean enabled;
+
+	private final Map<String, Integer> newest = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService executor;
+
+	/**
+	 * Creates a new {@code NewIssueTriage}.
+	 * @param gitHub the GitHub operations
+	 * @param issueDispatcher supplier of the dispatcher to which new issues are passed
+	 * @param repositories the monitored repositories
+	 * @param sharding the sharding of the repositories between instances
+	 * @param interval the interval between the end of one run and the start of the next
+	 * @param enabled whether the lane is enabled
+	 */
+	NewIssueTriage(GitHubOperations gitHub, Supplier<IssueDispatcher> issueDispatcher,
+			MonitoredRepositories repositories, RepositorySharding sharding, Duration interval, boolean enabled) {
+		this.gitHub = gitHub;
+		this.issueDispatcher = issueDispatcher;
+		this.repositories = repositories;
+		this.sharding = sharding;
+		this.interval = interval;
+		this.enabled = enabled;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (this.enabled && this.executor == null) {
+			this.executor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+				Thread thread = new Thread(runnable, "new-issue-triage");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.executor.scheduleWithFixedDelay(this::triage, 0, this.interval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+			this.executor = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return this.executor != null;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return this.enabled;
+	}
+
+	void triage() {
+		for (Repository repository : this.repositories.getRepositories()) {
+			if (this.sharding.isHeld(repository)) {
+				triage(repository);
+			}
+		}
+	}
+
+	private void triage(Repository repository) {
+		String key = repository.getOrganization() + "/" + repository.getName();
+		Integer seen = this.newest.get(key);
+		List<Issue> created;
+		try {
+			Page<Issue> page = this.gitHub.getNewestIssues(repository.getOrganization(), repository.getName());
+			if (page == null) {
+				return;
+			}
+			if (seen == null) {
+				page.stream().findFirst().ifPresent((issue) -> this.newest.put(key, number(issue)));
+				return;
+			}
+			created = page.stream().takeWhile((issue) -> number(issue) > seen).toList();
+		}
+		catch (Exception ex) {
+			log.warn("A failure occurred while listing new issues in {}", key, ex);
+			return;
+		}
+		if (created.isEmpty()) {
+			return;
+		}
+		try {
+			if (this.sharding.runIfHeld(repository, () -> dispatch(repository, created))) {
+				this.newest.put(key, number(created.get(0)));
+				log.info("Triaged {} new issues in {}", created.size(), key);
+			}
+		}
+		catch (Exception ex) {
+			log.warn("A failure occurred while dispatching new issues in {}", key, ex);
+		}
+	}
+
+	private void dispatch(Repository repository, List<Issue> issues) {
+		IssueDispatcher dispatcher = this.issueDispatcher.get();
+		List<CompletableFuture<Boolean>> dispatched = new ArrayList<>();
+		for (Issue issue : issues) {
+			dispatched.add(dispatcher.dispatch(repository, issue));
+		}
+		CompletableFuture.allOf(dispatched.toArray(new CompletableFuture<?>[0])).join();
+	}
+
+	private static int number(Issue issue) {
+		String url = issue.getUrl();
+		if (url == null) {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+		}
+		catch (NumberFormatException ex) {
+			return -1;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,8 @@
 package io.spring.issuebot.triage;
 
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
+import io.spring.issuebot.MonitoredRepositories;
 import io.spring.issuebot.Repository;
 import io.spring.issuebot.github.Issue;
 import org.slf4j.Logger;
@@ -36,16 +34,19 @@ final class OpenedByCollaboratorTriageFilter implements TriageFilter {
 
 	private static final Logger log = LoggerFactory.getLogger(OpenedByCollaboratorTriageFilter.class);
 
-	private final Map<Repository, List<String>> repositoryCollaborators;
+	private final MonitoredRepositories repositories;
 
 	OpenedByCollaboratorTriageFilter(List<Repository> repositories) {
-		this.repositoryCollaborators = repositories.stream()
-			.collect(Collectors.toMap(Function.identity(), Repository::getCollaborators));
+		this(new MonitoredRepositories(repositories));
+	}
+
+	OpenedByCollaboratorTriageFilter(MonitoredRepositories repositories) {
+		this.repositories = repositories;
 	}
 
 	@Override
 	public boolean triaged(Repository repository, Issue issue) {
-		if (this.repositoryCollaborators.get(repository).contains(issue.getUser().getLogin())) {
+		if (this.repositories.getCollaborators(repository).contains(issue.getUser().getLogin())) {
 			log.debug("{} has been triaged. It was opened by {}", issue, issue.getUser());
 			return true;
 		}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.triage;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.Issue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link TriageFilter} that combines a sequence of {@link MeasuredTriageFilter filters}
+ * and stops evaluating them as soon as the result is known. Every {@code reorderInterval}
+ * evaluations, the filters are reordered by the expected cost of reaching a decision so
+ * that cheap and decisive filters are evaluated first.
+ *
+ * @author Andy Wilkinson
+ */
+final class ShortCircuitingTriageFilter implements TriageFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(ShortCircuitingTriageFilter.class);
+
+	private final AtomicLong evaluations = new AtomicLong();
+
+	private final Mode mode;
+
+	private final int reorderInterval;
+
+	private volatile MeasuredTriageFilter[] filters;
+
+	/**
+	 * Creates a new {@code ShortCircuitingTriageFilter}.
+	 * @param mode how the results of the filters are combined
+	 * @param filters the filters in their initial order
+	 * @param reorderInterval the number of evaluations after which the filters are
+	 * reordered, at least 1
+	 */
+	ShortCircuitingTriageFilter(Mode mode, List<MeasuredTriageFilter> filters, int reorderInterval) {
+		if (reorderInterval < 1) {
+			throw new IllegalArgumentException("Reorder interval must be at least 1");
+		}
+		this.mode = mode;
+		this.filters = filters.toArray(new MeasuredTriageFilter[0]);
+		this.reorderInterval = reorderInterval;
+	}
+
+	@Override
+	public boolean triaged(Repository repository, Issue issue) {
+		boolean triaged = evaluate(repository, issue);
+		if (this.evaluations.incrementAndGet() % this.reorderInterval == 0) {
+			reorder();
+		}
+		return triaged;
+	}
+
+	private boolean evaluate(Repository repository, Issue issue) {
+		boolean decisiveResult = this.mode.decisiveResult;
+		for (MeasuredTriageFilter filter : this.filters) {
+			if (filter.triaged(repository, issue) == decisiveResult) {
+				return decisiveResult;
+			}
+		}
+		return !decisiveResult;
+	}
+
+	private void reorder() {
+		MeasuredTriageFilter[] current = this.filters;
+		double[] costs = new double[current.length];
+		Integer[] indices = new Integer[current.length];
+		for (int i = 0; i < current.length; i++) {
+			costs[i] = current[i].expectedCost(this.mode.decisiveResult);
+			indices[i] = i;
+		}
+		Arrays.sort(indices, Comparator.comparingDouble((index) -> costs[index]));
+		MeasuredTriageFilter[] reordered = new MeasuredTriageFilter[current.length];
+		for (int i = 0; i < indices.length; i++) {
+			reordered[i] = current[indices[i]];
+		}
+		if (!Arrays.equals(current, reordered)) {
+			log.debug("Reordered triage filters from {} to {}", current, reordered);
+			this.filters = reordered;
+		}
+	}
+
+	/**
+	 * Returns the filters in the order in which they are currently evaluated.
+	 * @return the filters
+	 */
+	List<MeasuredTriageFilter> getFilters() {
+		return List.of(this.filters);
+	}
+
+	/**
+	 * The ways in which the results of the filters can be combined.
+	 */
+	enum Mode {
+
+		/**
+		 * An issue has been triaged when all of the filters consider it to have been
+		 * triaged.
+		 */
+		ALL(false),
+
+		/**
+		 * An issue has been triaged when any of the filters consider it to have been
+		 * triaged.
+		 */
+		ANY(true);
+
+		private final boolean decisiveResult;
+
+		Mode(boolean decisiveResult) {
+			this.decisiveResult = decisiveResult;
+		}
+
+	}
+
+}
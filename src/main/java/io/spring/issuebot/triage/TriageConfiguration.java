@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2019 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,15 +16,21 @@
 
 package io.spring.issuebot.triage;
 
-import java.util.Arrays;
+import java.time.Clock;
+import java.util.Collections;
 
-import io.spring.issuebot.GitHubProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.spring.issuebot.IssueDispatcher;
+import io.spring.issuebot.MonitoredRepositories;
 import io.spring.issuebot.MonitoringProperties;
 import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.sharding.RepositorySharding;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 /**
  * Central configuration for the beans involved in identifying issues that require triage.
@@ -36,12 +42,32 @@ import org.springframework.context.annotation.Configuration;
 class TriageConfiguration {
 
 	@Bean
+	TriageRules triageRules(TriageProperties triageProperties, MonitoredRepositories monitoredRepositories,
+			Clock clock) {
+		return TriageRules.compile(triageProperties.getRules(), monitoredRepositories,
+				triageProperties.getReorderInterval(), clock);
+	}
+
+	@Bean
+	MeterBinder triageRulesMetrics(TriageRules triageRules) {
+		return new TriageRulesMetrics(triageRules);
+	}
+
+	@Bean
+	@Lazy
 	TriageIssueListener triageIssueListener(GitHubOperations gitHubOperations, TriageProperties triageProperties,
-			MonitoringProperties monitoringProperties, GitHubProperties gitHubProperties) {
-		return new TriageIssueListener(
-				Arrays.asList(new OpenedByCollaboratorTriageFilter(monitoringProperties.getRepositories()),
-						new LabelledTriageFilter(), new MilestoneAppliedTriageFilter()),
+			TriageRules triageRules) {
+		return new TriageIssueListener(Collections.singletonList(triageRules),
 				new LabelApplyingTriageListener(gitHubOperations, triageProperties.getLabel()));
 	}
 
+	@Bean
+	NewIssueTriage newIssueTriage(GitHubOperations gitHubOperations, ObjectProvider<IssueDispatcher> issueDispatcher,
+			MonitoredRepositories monitoredRepositories, RepositorySharding repositorySharding,
+			MonitoringProperties monitoringProperties, TriageProperties triageProperties) {
+		TriageProperties.NewIssues newIssues = triageProperties.getNewIssues();
+		return new NewIssueTriage(gitHubOperations, issueDispatcher::getObject, monitoredRepositories,
+				repositorySharding, newIssues.getInterval(), monitoringProperties.isEnabled() && newIssues.isEnabled());
+	}
+
 }
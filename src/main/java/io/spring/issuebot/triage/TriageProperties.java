@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2018 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,13 @@
 
 package io.spring.issuebot.triage;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * {@link EnableConfigurationProperties Configuration properties} for triaging GitHub
@@ -33,6 +38,23 @@ class TriageProperties {
 	 */
 	private String label;
 
+	/**
+	 * Rules that identify issues that have been triaged. An issue has been triaged if it
+	 * matches any of the rules. When no rules are configured, an issue has been triaged
+	 * if it was opened by a collaborator, has been labelled, or has been added to a
+	 * milestone.
+	 */
+	private List<Rule> rules = new ArrayList<>();
+
+	/**
+	 * Number of evaluations after which the order of the rules and of their conditions
+	 * is revised using their observed cost and hit rate. Must be at least 1.
+	 */
+	private int reorderInterval = 128;
+
+	@NestedConfigurationProperty
+	private NewIssues newIssues = new NewIssues();
+
 	public String getLabel() {
 		return this.label;
 	}
@@ -41,4 +63,188 @@ class TriageProperties {
 		this.label = label;
 	}
 
+	public List<Rule> getRules() {
+		return this.rules;
+	}
+
+	public void setRules(List<Rule> rules) {
+		this.rules = rules;
+	}
+
+	public int getReorderInterval() {
+		return this.reorderInterval;
+	}
+
+	public void setReorderInterval(int reorderInterval) {
+		this.reorderInterval = reorderInterval;
+	}
+
+	public NewIssues getNewIssues() {
+		return this.newIssues;
+	}
+
+	public void setNewIssues(NewIssues newIssues) {
+		this.newIssues = newIssues;
+	}
+
+	/**
+	 * Configuration of the lane that triages newly created issues.
+	 */
+	public static class NewIssues {
+
+		/**
+		 * Whether newly created issues should be triaged between monitoring passes.
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * Interval between the end of one search for newly created issues and the start
+		 * of the next.
+		 */
+		private Duration interval = Duration.ofMinutes(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getInterval() {
+			return this.interval;
+		}
+
+		public void setInterval(Duration interval) {
+			this.interval = interval;
+		}
+
+	}
+
+	/**
+	 * A rule that identifies issues that have been triaged. An issue matches a rule when
+	 * it meets all of the rule's configured conditions.
+	 */
+	public static class Rule {
+
+		/**
+		 * Name of the rule, used in its evaluation statistics.
+		 */
+		private String name;
+
+		/**
+		 * Whether the issue must, or must not, have been opened by one of the
+		 * repository's collaborators.
+		 */
+		private Boolean openedByCollaborator;
+
+		/**
+		 * Whether the issue must, or must not, have at least one label.
+		 */
+		private Boolean labelled;
+
+		/**
+		 * Labels of which the issue must have at least one.
+		 */
+		private List<String> anyLabel = new ArrayList<>();
+
+		/**
+		 * Whether the issue must, or must not, have been added to a milestone.
+		 */
+		private Boolean milestoned;
+
+		/**
+		 * Whether the issue must, or must not, be a pull request.
+		 */
+		private Boolean pullRequest;
+
+		/**
+		 * Regular expression that the issue's title must contain a match for.
+		 */
+		private String title;
+
+		/**
+		 * Minimum time since the issue was created.
+		 */
+		private Duration minimumAge;
+
+		/**
+		 * Maximum time since the issue was created.
+		 */
+		private Duration maximumAge;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Boolean getOpenedByCollaborator() {
+			return this.openedByCollaborator;
+		}
+
+		public void setOpenedByCollaborator(Boolean openedByCollaborator) {
+			this.openedByCollaborator = openedByCollaborator;
+		}
+
+		public Boolean getLabelled() {
+			return this.labelled;
+		}
+
+		public void setLabelled(Boolean labelled) {
+			this.labelled = labelled;
+		}
+
+		public List<String> getAnyLabel() {
+			return this.anyLabel;
+		}
+
+		public void setAnyLabel(List<String> anyLabel) {
+			this.anyLabel = anyLabel;
+		}
+
+		public Boolean getMilestoned() {
+			return this.milestoned;
+		}
+
+		public void setMilestoned(Boolean milestoned) {
+			this.milestoned = milestoned;
+		}
+
+		public Boolean getPullRequest() {
+			return this.pullRequest;
+		}
+
+		public void setPullRequest(Boolean pullRequest) {
+			this.pullRequest = pullRequest;
+		}
+
+		public String getTitle() {
+			return this.title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public Duration getMinimumAge() {
+			return this.minimumAge;
+		}
+
+		public void setMinimumAge(Duration minimumAge) {
+			this.minimumAge = minimumAge;
+		}
+
+		public Duration getMaximumAge() {
+			return this.maximumAge;
+		}
+
+		public void setMaximumAge(Duration maximumAge) {
+			this.maximumAge = maximumAge;
+		}
+
+	}
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.triage;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import io.spring.issuebot.MonitoredRepositories;
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.triage.ShortCircuitingTriageFilter.Mode;
+import io.spring.issuebot.triage.TriageProperties.Rule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link TriageFilter} compiled from {@link Rule triage rules}. An issue has been
+ * triaged if it matches any of the rules and it matches a rule if it meets all of the
+ * rule's conditions. Both the rules and their conditions are evaluated in an order that
+ * adapts to their observed cost and hit rate.
+ *
+ * @author Andy Wilkinson
+ */
+final class TriageRules implements TriageFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(TriageRules.class);
+
+	private final ShortCircuitingTriageFilter rules;
+
+	private final Map<String, ShortCircuitingTriageFilter> conditions;
+
+	private TriageRules(ShortCircuitingTriageFilter rules, Map<String, ShortCircuitingTriageFilter> conditions) {
+		this.rules = rules;
+		this.conditions = conditions;
+	}
+
+	@Override
+	public boolean triaged(Repository repository, Issue issue) {
+		return this.rules.triaged(repository, issue);
+	}
+
+	/**
+	 * Returns the rules in the order in which they are currently evaluated.
+	 * @return the rules
+	 */
+	List<MeasuredTriageFilter> getRules() {
+		return this.rules.getFilters();
+	}
+
+	/**
+	 * Returns the conditions of the rule with the given {@code name} in the order in
+	 * which they are currently evaluated.
+	 * @param name the name of the rule
+	 * @return the conditions
+	 */
+	List<MeasuredTriageFilter> getConditions(String name) {
+		return this.conditions.get(name).getFilters();
+	}
+
+	/**
+	 * Compiles the given {@code rules}. When there are no rules, the default rules that
+	 * consider an issue to have been triaged if it was opened by a collaborator, has
+	 * been labelled, or has been added to a milestone are used.
+	 * @param rules the rules to compile
+	 * @param repositories the repositories whose collaborators are used by the rules
+	 * @param reorderInterval the number of evaluations after which rules and conditions
+	 * are reordered
+	 * @param clock the clock used to determine the age of an issue
+	 * @return the compiled rules
+	 * @throws IllegalStateException if a rule is invalid
+	 */
+	static TriageRules compile(List<Rule> rules, List<Repository> repositories, int reorderInterval, Clock clock) {
+		return compile(rules, new MonitoredRepositories(repositories), reorderInterval, clock);
+	}
+
+	/**
+	 * Compiles the given {@code rules}, looking up collaborators in the given monitored
+	 * {@code repositories} each time an issue is evaluated so that changes to the
+	 * monitored repositories are picked up without recompiling.
+	 * @param rules the rules to compile
+	 * @param repositories the monitored repositories whose collaborators are used by the
+	 * rules
+	 * @param reorderInterval the number of evaluations after which rules and conditions
+	 * are reordered
+	 * @param clock the clock used to determine the age of an issue
+	 * @return the compiled rules
+	 * @throws IllegalStateException if a rule is invalid
+	 */
+	static TriageRules compile(List<Rule> rules, MonitoredRepositories repositories, int reorderInterval,
+			Clock clock) {
+		Map<String, ShortCircuitingTriageFilter> conditions = new LinkedHashMap<>();
+		List<MeasuredTriageFilter> compiledRules = new ArrayList<>();
+		List<Rule> effectiveRules = (rules.isEmpty()) ? defaultRules() : rules;
+		for (int i = 0; i < effectiveRules.size(); i++) {
+			Rule rule = effectiveRules.get(i);
+			String name = (StringUtils.hasText(rule.getName())) ? rule.getName() : "rule-" + i;
+			if (conditions.containsKey(name)) {
+				throw new IllegalStateException("Triage rule '" + name + "' is defined more than once");
+			}
+			List<MeasuredTriageFilter> ruleConditions = compileConditions(rule, repositories, clock);
+			if (ruleConditions.isEmpty()) {
+				throw new IllegalStateException("Triage rule '" + name + "' has no conditions");
+			}
+			ShortCircuitingTriageFilter all = new ShortCircuitingTriageFilter(Mode.ALL, ruleConditions,
+					reorderInterval);
+			conditions.put(name, all);
+			compiledRules.add(new MeasuredTriageFilter(name, (repository, issue) -> {
+				if (all.triaged(repository, issue)) {
+					log.debug("{} has been triaged. It matches rule '{}'", issue, name);
+					return true;
+				}
+				return false;
+			}));
+		}
+		return new TriageRules(new ShortCircuitingTriageFilter(Mode.ANY, compiledRules, reorderInterval),
+				conditions);
+	}
+
+	private static List<Rule> defaultRules() {
+		Rule openedByCollaborator = new Rule();
+		openedByCollaborator.setName("opened-by-collaborator");
+		openedByCollaborator.setOpenedByCollaborator(true);
+		Rule labelled = new Rule();
+		labelled.setName("labelled");
+		labelled.setLabelled(true);
+		Rule milestoned = new Rule();
+		milestoned.setName("milestoned");
+		milestoned.setMilestoned(true);
+		return List.of(openedByCollaborator, labelled, milestoned);
+	}
+
+	private static List<MeasuredTriageFilter> compileConditions(Rule rule, MonitoredRepositories repositories,
+			Clock clock) {
+		List<MeasuredTriageFilter> conditions = new ArrayList<>();
+		if (rule.getOpenedByCollaborator() != null) {
+			conditions.add(condition("opened-by-collaborator", rule.getOpenedByCollaborator(),
+					new OpenedByCollaboratorTriageFilter(repositories)));
+		}
+		if (rule.getLabelled() != null) {
+			conditions.add(condition("labelled", rule.getLabelled(), new LabelledTriageFilter()));
+		}
+		if (!rule.getAnyLabel().isEmpty()) {
+			Set<String> labels = new HashSet<>(rule.getAnyLabel());
+			conditions.add(condition("any-label", true, (repository, issue) -> issue.getLabels() != null
+					&& issue.getLabels().stream().anyMatch((label) -> labels.contains(label.getName()))));
+		}
+		if (rule.getMilestoned() != null) {
+			conditions.add(condition("milestoned", rule.getMilestoned(), new MilestoneAppliedTriageFilter()));
+		}
+		if (rule.getPullRequest() != null) {
+			conditions.add(condition("pull-request", rule.getPullRequest(),
+					(repository, issue) -> issue.getPullRequest() != null));
+		}
+		if (StringUtils.hasText(rule.getTitle())) {
+			Pattern title = Pattern.compile(rule.getTitle());
+			conditions.add(condition("title", true,
+					(repository, issue) -> issue.getTitle() != null && title.matcher(issue.getTitle()).find()));
+		}
+		if (rule.getMinimumAge() != null) {
+			Duration minimumAge = rule.getMinimumAge();
+			conditions.add(condition("minimum-age", true, (repository, issue) -> issue.getCreatedAt() != null
+					&& age(issue, clock).compareTo(minimumAge) >= 0));
+		}
+		if (rule.getMaximumAge() != null) {
+			Duration maximumAge = rule.getMaximumAge();
+			conditions.add(condition("maximum-age", true, (repository, issue) -> issue.getCreatedAt() != null
+					&& age(issue, clock).compareTo(maximumAge) <= 0));
+		}
+		return conditions;
+	}
+
+	private static MeasuredTriageFilter condition(String name, boolean expected, TriageFilter filter) {
+		if (expected) {
+			return new MeasuredTriageFilter(name, filter);
+		}
+		return new MeasuredTriageFilter("not-" + name, (repository, issue) -> !filter.triaged(repository, issue));
+	}
+
+	private static Duration age(Issue issue, Clock clock) {
+		return Duration.between(issue.getCreatedAt(), OffsetDateTime.now(clock));
+	}
+
+}
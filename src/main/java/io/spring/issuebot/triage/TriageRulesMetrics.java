@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.triage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link MeterBinder} for the evaluation statistics of {@link TriageRules}. For each rule
+ * and each of its conditions, it exposes the number of evaluations, the number of
+ * matches, the time spent evaluating, and the current position in the evaluation order.
+ *
+ * @author Andy Wilkinson
+ */
+final class TriageRulesMetrics implements MeterBinder {
+
+	private final TriageRules rules;
+
+	TriageRulesMetrics(TriageRules rules) {
+		this.rules = rules;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (MeasuredTriageFilter rule : this.rules.getRules()) {
+			Tags ruleTags = Tags.of("rule", rule.getName());
+			bind(registry, "rule", ruleTags, rule, this.rules::getRules);
+			for (MeasuredTriageFilter condition : this.rules.getConditions(rule.getName())) {
+				bind(registry, "condition", ruleTags.and("condition", condition.getName()), condition,
+						() -> this.rules.getConditions(rule.getName()));
+			}
+		}
+	}
+
+	private void bind(MeterRegistry registry, String kind, Tags tags, MeasuredTriageFilter filter,
+			Supplier<List<MeasuredTriageFilter>> order) {
+		String prefix = "issuebot.triage." + kind;
+		FunctionTimer
+			.builder(prefix + ".evaluations", filter, MeasuredTriageFilter::getEvaluations,
+					(measured) -> measured.getTime().toNanos(), TimeUnit.NANOSECONDS)
+			.tags(tags)
+			.description("Evaluations of the triage " + kind)
+			.register(registry);
+		FunctionCounter.builder(prefix + ".matches", filter, MeasuredTriageFilter::getMatches)
+			.tags(tags)
+			.description("Issues matched by the triage " + kind)
+			.register(registry);
+		Gauge.builder(prefix + ".position", () -> order.get().indexOf(filter))
+			.tags(tags)
+			.description("Position of the triage " + kind + " in the evaluation order")
+			.register(registry);
+	}
+
+}
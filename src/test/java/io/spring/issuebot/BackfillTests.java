@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.Page;
+import io.spring.issuebot.github.StandardPage;
+import io.spring.issuebot.sharding.FileLeaseStore;
+import io.spring.issuebot.sharding.RepositorySharding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link Backfill}.
+ *
+ * @author Andy Wilkinson
+ */
+class BackfillTests {
+
+	private final GitHubOperations gitHub = mock(GitHubOperations.class);
+
+	private final IssueListener issueListener = mock(IssueListener.class);
+
+	private final Repository repository = new Repository();
+
+	private final Issue issueOne = issue("issue-1");
+
+	private final Issue issueTwo = issue("issue-2");
+
+	private final Issue issueThree = issue("issue-3");
+
+	@TempDir
+	Path directory;
+
+	private CheckpointStore checkpoints;
+
+	@BeforeEach
+	void setUp() {
+		this.repository.setOrganization("test");
+		this.repository.setName("one");
+		this.checkpoints = new FileCheckpointStore(this.directory);
+	}
+
+	@Test
+	void allPagesAreProcessedAndCompletionIsRecorded() {
+		Page<Issue> pageTwo = new StandardPage<>("page-2", Collections.singletonList(this.issueThree), () -> null);
+		Page<Issue> pageOne = new StandardPage<>("page-1", Arrays.asList(this.issueOne, this.issueTwo),
+				() -> pageTwo);
+		given(this.gitHub.getIssues("test", "one")).willReturn(pageOne);
+		assertThat(backfill().run()).isTrue();
+		verify(this.issueListener).onOpenIssue(this.repository, this.issueOne);
+		verify(this.issueListener).onOpenIssue(this.repository, this.issueTwo);
+		verify(this.issueListener).onOpenIssue(this.repository, this.issueThree);
+		Checkpoint checkpoint = this.checkpoints.load("run/test/one");
+		assertThat(checkpoint.isComplete()).isTrue();
+		assertThat(checkpoint.getPages()).isEqualTo(2);
+	}
+
+	@Test
+	void completedRepositoryIsNotProcessedAgain() {
+		this.checkpoints.save("run/test/one", new Checkpoint("run", null, 2, true));
+		assertThat(backfill().run()).isTrue();
+		verifyNoInteractions(this.gitHub, this.issueListener);
+	}
+
+	@Test
+	void backfillResumesFromCheckpoint() {
+		this.checkpoints.save("run/test/one", new Checkpoint("run", "page-2", 1, false));
+		given(this.gitHub.getIssuePage("page-2"))
+			.willReturn(new StandardPage<>("page-2", Collections.singletonList(this.issueThree), () -> null));
+		assertThat(backfill().run()).isTrue();
+		verify(this.gitHub, never()).getIssues("test", "one");
+		verify(this.issueListener).onOpenIssue(this.repository, this.issueThree);
+		verify(this.issueListener, never()).onOpenIssue(this.repository, this.issueOne);
+		assertThat(this.checkpoints.load("run/test/one").getPages()).isEqualTo(2);
+	}
+
+	@Test
+	void failureLeavesCheckpointAtLastUnprocessedPage() {
+		Page<Issue> pageTwo = new StandardPage<>("page-2", Collections.singletonList(this.issueThree), () -> {
+			throw new RuntimeException("Failure");
+		});
+		Page<Issue> pageOne = new StandardPage<>("page-1", Arrays.asList(this.issueOne, this.issueTwo),
+				() -> pageTwo);
+		given(this.gitHub.getIssues("test", "one")).willReturn(pageOne);
+		assertThat(backfill().run()).isFalse();
+		Checkpoint checkpoint = this.checkpoints.load("run/test/one");
+		assertThat(checkpoint.isComplete()).isFalse();
+		assertThat(checkpoint.getNextPageUrl()).isEqualTo("page-2");
+		assertThat(checkpoint.getPages()).isEqualTo(1);
+	}
+
+	@Test
+	void repositoryWhoseLeaseIsHeldByAnotherInstanceIsNotBackfilled(@TempDir Path leases) {
+		FileLeaseStore store = new FileLeaseStore(leases, Clock.systemUTC());
+		store.tryAcquire("repository/test/one", "other", Duration.ofMinutes(10));
+		assertThat(backfill(new RepositorySharding(store, "this", Duration.ofMinutes(10), Clock.systemUTC())).run())
+			.isTrue();
+		verifyNoInteractions(this.gitHub, this.issueListener);
+		assertThat(this.checkpoints.load("run/test/one")).isNull();
+	}
+
+	@Test
+	void backfillIsAbandonedWhenLeaseIsLost(@TempDir Path leases) {
+		MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		Duration leaseDuration = Duration.ofMinutes(10);
+		Page<Issue> pageTwo = new StandardPage<>("page-2", Collections.singletonList(this.issueThree), () -> null);
+		Page<Issue> pageOne = new StandardPage<>("page-1", Arrays.asList(this.issueOne, this.issueTwo),
+				() -> pageTwo);
+		given(this.gitHub.getIssues("test", "one")).willReturn(pageOne);
+		willAnswer((invocation) -> {
+			clock.advance(leaseDuration.plusSeconds(1));
+			RepositorySharding other = new RepositorySharding(new FileLeaseStore(leases, clock), "other",
+					leaseDuration, clock);
+			assertThat(other.claim(List.of(this.repository))).containsExactly(this.repository);
+			return null;
+		}).given(this.issueListener).onOpenIssue(this.repository, this.issueTwo);
+		assertThat(backfill(new RepositorySharding(new FileLeaseStore(leases, clock), "this", leaseDuration, clock))
+			.run()).isFalse();
+		verify(this.issueListener, never()).onOpenIssue(this.repository, this.issueThree);
+		Checkpoint checkpoint = this.checkpoints.load("run/test/one");
+		assertThat(checkpoint.isComplete()).isFalse();
+		assertThat(checkpoint.getNextPageUrl()).isEqualTo("page-2");
+	}
+
+	private Backfill backfill() {
+		return backfill(RepositorySharding.unsharded(Clock.systemUTC()));
+	}
+
+	private Backfill backfill(RepositorySharding sharding) {
+		List<IssueListener> listeners = Collections.singletonList(this.issueListener);
+		return new Backfill(this.gitHub, new MonitoredRepositories(Collections.singletonList(this.repository)),
+				Collections.emptyList(), new SynchronousIssueDispatcher(listeners), this.checkpoints,
+				new QuotaShare(this.gitHub, 0.5, Clock.systemUTC()), sharding, "run", 2);
+	}
+
+	private static Issue issue(String url) {
+		return new Issue(url, null, null, null, null, null, null, null);
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.Label;
+import io.spring.issuebot.github.Milestone;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ChangeDetector}.
+ *
+ * @author Andy Wilkinson
+ */
+class ChangeDetectorTests {
+
+	private static final OffsetDateTime UPDATED_AT = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-02-01T00:00:00Z"));
+
+	private final ChangeDetector changeDetector = new ChangeDetector(true, this.clock);
+
+	private final Repository repository = new Repository();
+
+	@Test
+	void newIssueRequiresDispatch() {
+		assertThat(this.changeDetector.startPass(this.repository).requiresDispatch(issue("a", UPDATED_AT))).isTrue();
+	}
+
+	@Test
+	void unchangedIssueDoesNotRequireDispatch() {
+		dispatch(issue("a", UPDATED_AT), true);
+		ChangeDetector.Pass pass = this.changeDetector.startPass(this.repository);
+		assertThat(pass.requiresDispatch(issue("a", UPDATED_AT))).isFalse();
+		assertThat(pass.getSkipped()).isEqualTo(1);
+		assertThat(pass.getDispatched()).isZero();
+	}
+
+	@Test
+	void updatedIssueRequiresDispatch() {
+		dispatch(issue("a", UPDATED_AT), true);
+		assertThat(this.changeDetector.startPass(this.repository)
+			.requiresDispatch(issue("a", UPDATED_AT.plusMinutes(1)))).isTrue();
+	}
+
+	@Test
+	void relabelledIssueRequiresDispatch() {
+		dispatch(issue("a", UPDATED_AT, "one"), true);
+		assertThat(this.changeDetector.startPass(this.repository).requiresDispatch(issue("a", UPDATED_AT, "two")))
+			.isTrue();
+	}
+
+	@Test
+	void labelOrderDoesNotAffectFingerprint() {
+		assertThat(ChangeDetector.fingerprint(issue("a", UPDATED_AT, "one", "two")))
+			.isEqualTo(ChangeDetector.fingerprint(issue("a", UPDATED_AT, "two", "one")));
+	}
+
+	@Test
+	void issueWhoseDispatchFailedRequiresDispatch() {
+		dispatch(issue("a", UPDATED_AT), true);
+		dispatch(issue("a", UPDATED_AT.plusMinutes(1)), false);
+		assertThat(this.changeDetector.startPass(this.repository)
+			.requiresDispatch(issue("a", UPDATED_AT.plusMinutes(1)))).isTrue();
+	}
+
+	@Test
+	void unchangedIssueRequiresDispatchOnceRevisitIsDue() {
+		Issue issue = issue("a", UPDATED_AT);
+		dispatch(issue, true);
+		this.changeDetector.revisitAt(this.repository, issue,
+				OffsetDateTime.ofInstant(this.clock.instant().plus(Duration.ofDays(7)), ZoneOffset.UTC));
+		assertThat(this.changeDetector.startPass(this.repository).requiresDispatch(issue)).isFalse();
+		this.clock.advance(Duration.ofDays(7));
+		assertThat(this.changeDetector.startPass(this.repository).requiresDispatch(issue)).isTrue();
+		dispatch(issue, true);
+		assertThat(this.changeDetector.startPass(this.repository).requiresDispatch(issue)).isFalse();
+	}
+
+	@Test
+	void deferredIssueRequiresDispatchOnTheNextPass() {
+		Issue issue = issue("a", UPDATED_AT);
+		ChangeDetector.Pass pass = this.changeDetector.startPass(this.repository);
+		assertThat(pass.requiresDispatch(issue)).isTrue();
+		pass.deferred(issue);
+		pass.complete();
+		assertThat(pass.getDispatched()).isZero();
+		assertThat(pass.getDeferred()).isEqualTo(1);
+		assertThat(this.changeDetector.startPass(this.repository).requiresDispatch(issue)).isTrue();
+	}
+
+	@Test
+	void deferredRevisitRemainsDue() {
+		Issue issue = issue("a", UPDATED_AT);
+		dispatch(issue, true);
+		this.changeDetector.revisitAt(this.repository, issue,
+				OffsetDateTime.ofInstant(this.clock.instant().minus(Duration.ofHours(1)), ZoneOffset.UTC));
+		ChangeDetector.Pass pass = this.changeDetector.startPass(this.repository);
+		assertThat(pass.requiresDispatch(issue)).isTrue();
+		assertThat(pass.getDueRevisit(issue)).isEqualTo(this.clock.instant().minus(Duration.ofHours(1)));
+		pass.deferred(issue);
+		assertThat(this.changeDetector.startPass(this.repository).requiresDispatch(issue)).isTrue();
+	}
+
+	@Test
+	void completedPassDiscardsIssuesThatWereNotSeen() {
+		dispatch(issue("a", UPDATED_AT), true);
+		dispatch(issue("b", UPDATED_AT), true);
+		assertThat(this.changeDetector.size(this.repository)).isEqualTo(2);
+		ChangeDetector.Pass pass = this.changeDetector.startPass(this.repository);
+		pass.requiresDispatch(issue("a", UPDATED_AT));
+		pass.complete();
+		assertThat(this.changeDetector.size(this.repository)).isEqualTo(1);
+	}
+
+	@Test
+	void whenDisabledEveryIssueRequiresDispatch() {
+		ChangeDetector disabled = new ChangeDetector(false, this.clock);
+		Issue issue = issue("a", UPDATED_AT);
+		ChangeDetector.Pass pass = disabled.startPass(this.repository);
+		assertThat(pass.requiresDispatch(issue)).isTrue();
+		pass.dispatched(issue, true);
+		assertThat(disabled.startPass(this.repository).requiresDispatch(issue)).isTrue();
+		assertThat(disabled.size(this.repository)).isZero();
+	}
+
+	private void dispatch(Issue issue, boolean success) {
+		ChangeDetector.Pass pass = this.changeDetector.startPass(this.repository);
+		pass.requiresDispatch(issue);
+		pass.dispatched(issue, success);
+	}
+
+	private Issue issue(String url, OffsetDateTime updatedAt, String... labels) {
+		List<Label> labelList = Arrays.stream(labels).map(Label::new).toList();
+		return new Issue(url, null, null, null, null, labelList, new Milestone("1.0"), null, "open", updatedAt);
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FileCheckpointStore}.
+ *
+ * @author Andy Wilkinson
+ */
+class FileCheckpointStoreTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void loadWhenCheckpointDoesNotExistReturnsNull() {
+		assertThat(new FileCheckpointStore(this.directory).load("run/test/one")).isNull();
+	}
+
+	@Test
+	void savedCheckpointCanBeLoaded() {
+		new FileCheckpointStore(this.directory).save("run/test/one",
+				new Checkpoint("run", "https://api.github.com/repos/test/one/issues?page=3", 2, false));
+		Checkpoint checkpoint = new FileCheckpointStore(this.directory).load("run/test/one");
+		assertThat(checkpoint.getRunId()).isEqualTo("run");
+		assertThat(checkpoint.getNextPageUrl()).isEqualTo("https://api.github.com/repos/test/one/issues?page=3");
+		assertThat(checkpoint.getPages()).isEqualTo(2);
+		assertThat(checkpoint.isComplete()).isFalse();
+	}
+
+	@Test
+	void savedCheckpointReplacesExistingCheckpoint() {
+		FileCheckpointStore store = new FileCheckpointStore(this.directory);
+		store.save("run/test/one", new Checkpoint("run", "page-2", 1, false));
+		store.save("run/test/one", new Checkpoint("run", null, 2, true));
+		Checkpoint checkpoint = store.load("run/test/one");
+		assertThat(checkpoint.getNextPageUrl()).isNull();
+		assertThat(checkpoint.getPages()).isEqualTo(2);
+		assertThat(checkpoint.isComplete()).isTrue();
+		assertThat(this.directory).isDirectoryNotContaining("glob:**.tmp");
+	}
+
+	@Test
+	void removedCheckpointCannotBeLoaded() {
+		FileCheckpointStore store = new FileCheckpointStore(this.directory);
+		store.save("run/test/one", new Checkpoint("run", "page-2", 1, false));
+		store.remove("run/test/one");
+		assertThat(store.load("run/test/one")).isNull();
+	}
+
+}
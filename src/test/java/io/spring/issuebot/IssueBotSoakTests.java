@@ -0,0 +1,236 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import io.spring.issuebot.MonitoringProperties.Planning;
+import io.spring.issuebot.github.FakeGitHub;
+import io.spring.issuebot.github.GitHubOperations;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Soak tests that run thousands of monitoring passes, using the application's real
+ * listeners and GitHub client, against a {@link FakeGitHub fake GitHub API} whose issues
+ * are opened, labelled, commented on, and closed between passes. Time is compressed by
+ * replacing the application's {@link Clock} with a {@link MutableClock} that is advanced
+ * by the pass interval after each pass so that weeks of activity, including feedback
+ * reminders and closures, are simulated in minutes. The number of repositories, issues
+ * per repository, passes, and the pass interval can be configured using the
+ * {@code issuebot.soak-test.*} system properties.
+ *
+ * @author Andy Wilkinson
+ */
+@Tag("soak")
+@SpringBootTest(properties = { "issuebot.monitoring.enabled=false", "issuebot.feedback.search.enabled=false",
+		"spring.cloud.azure.keyvault.secret.property-source-enabled=false",
+		"issuebot.github.credentials.username=issue-bot", "issuebot.github.credentials.password=secret",
+		"logging.level.io.spring.issuebot=warn", "logging.level.io.spring.issuebot.IssueBotSoakTests=info" })
+class IssueBotSoakTests {
+
+	private static final Logger log = LoggerFactory.getLogger(IssueBotSoakTests.class);
+
+	private static final String ORGANIZATION = "soak-test";
+
+	private static final int REPOSITORIES = Integer.getInteger("issuebot.soak-test.repositories", 5);
+
+	private static final int ISSUES = Integer.getInteger("issuebot.soak-test.issues", 100);
+
+	private static final int PASSES = Integer.getInteger("issuebot.soak-test.passes", 4032);
+
+	private static final Duration PASS_INTERVAL = Duration
+		.ofMinutes(Integer.getInteger("issuebot.soak-test.pass-interval-minutes", 10));
+
+	private static final int WINDOWS = 8;
+
+	private static final MutableClock virtualClock = new MutableClock(Instant.parse("2026-01-05T09:00:00Z"));
+
+	private static final FakeGitHub gitHub = FakeGitHub.start(virtualClock);
+
+	private final Random random = new Random(42);
+
+	@TestBean
+	private Clock clock;
+
+	@Autowired
+	private GitHubOperations gitHubOperations;
+
+	@Autowired
+	private IssueDispatcher issueDispatcher;
+
+	@Autowired
+	private MonitoredRepositories monitoredRepositories;
+
+	@Autowired
+	private ChangeDetector changeDetector;
+
+	@Autowired
+	private RequestAccounting requestAccounting;
+
+	@Autowired
+	private MonitoringProperties monitoringProperties;
+
+	static Clock clock() {
+		return virtualClock;
+	}
+
+	@DynamicPropertySource
+	static void fakeGitHub(DynamicPropertyRegistry registry) {
+		registry.add("issuebot.github.api-url", gitHub::getApiUrl);
+		for (int i = 0; i < REPOSITORIES; i++) {
+			String name = "repository-" + i;
+			gitHub.addRepository(ORGANIZATION, name, ISSUES);
+			registry.add("issuebot.monitoring.repositories[" + i + "].organization", () -> ORGANIZATION);
+			registry.add("issuebot.monitoring.repositories[" + i + "].name", () -> name);
+			registry.add("issuebot.monitoring.repositories[" + i + "].collaborators[0]",
+					() -> FakeGitHub.COLLABORATOR);
+		}
+	}
+
+	@AfterAll
+	static void stopFakeGitHub() {
+		gitHub.close();
+	}
+
+	@Test
+	void resourceUsageRemainsBoundedOverWeeksOfActivity() {
+		Planning planning = this.monitoringProperties.getPlanning();
+		RepositoryMonitor monitor = new RepositoryMonitorBuilder(this.gitHubOperations)
+			.repositories(this.monitoredRepositories)
+			.issueDispatcher(this.issueDispatcher)
+			.changeDetector(this.changeDetector)
+			.requestAccounting(this.requestAccounting)
+			.workPlanner(new WorkPlanner(this.gitHubOperations, planning.getScarceBelow(),
+					planning.getRequestsPerIssue(), planning.getGuaranteedShare()))
+			.build();
+		int passesPerWindow = Math.max(1, PASSES / WINDOWS);
+		List<Window> windows = new ArrayList<>();
+		for (int window = 0; window < WINDOWS; window++) {
+			gitHub.resetStatistics();
+			for (int pass = 0; pass < passesPerWindow; pass++) {
+				simulateActivity();
+				int openIssues = openIssues();
+				monitor.monitor();
+				assertThat(fingerprints()).isLessThanOrEqualTo(openIssues);
+				virtualClock.advance(PASS_INTERVAL);
+			}
+			windows.add(Window.measure(passesPerWindow, fingerprints(), openIssues()));
+		}
+		report(windows, passesPerWindow);
+		Window baseline = windows.get(1);
+		Window last = windows.get(windows.size() - 1);
+		assertThat(last.usedHeap).isLessThanOrEqualTo(baseline.usedHeap + baseline.usedHeap / 2 + 32 * 1024 * 1024);
+		assertThat(last.threads).isLessThanOrEqualTo(baseline.threads + 10);
+		assertThat(last.requestsPerPass).isLessThanOrEqualTo(baseline.requestsPerPass * 2);
+		assertThat(this.requestAccounting.getReports())
+			.hasSizeLessThanOrEqualTo(this.monitoringProperties.getAccounting().getPasses());
+		assertThat(gitHub.getRequestCounts()).containsKey("PATCH /repos/{owner}/{repo}/issues/{number}");
+	}
+
+	private void simulateActivity() {
+		String name = "repository-" + this.random.nextInt(REPOSITORIES);
+		if (this.random.nextInt(4) == 0) {
+			gitHub.openIssue(ORGANIZATION, name,
+					(this.random.nextInt(4) == 0) ? FakeGitHub.COLLABORATOR : "user-" + this.random.nextInt(100));
+			List<Integer> openIssues = gitHub.getOpenIssues(ORGANIZATION, name);
+			gitHub.closeIssue(ORGANIZATION, name, openIssues.get(this.random.nextInt(openIssues.size())));
+		}
+		if (this.random.nextInt(3) == 0) {
+			List<Integer> openIssues = gitHub.getOpenIssues(ORGANIZATION, name);
+			int number = openIssues.get(this.random.nextInt(openIssues.size()));
+			switch (this.random.nextInt(3)) {
+				case 0 -> gitHub.label(ORGANIZATION, name, number, FakeGitHub.WAITING_FOR_FEEDBACK);
+				case 1 -> gitHub.comment(ORGANIZATION, name, number, FakeGitHub.COLLABORATOR);
+				default -> gitHub.comment(ORGANIZATION, name, number, "user-" + this.random.nextInt(100));
+			}
+		}
+	}
+
+	private int openIssues() {
+		int openIssues = 0;
+		for (int i = 0; i < REPOSITORIES; i++) {
+			openIssues += gitHub.getOpenIssues(ORGANIZATION, "repository-" + i).size();
+		}
+		return openIssues;
+	}
+
+	private int fingerprints() {
+		return this.monitoredRepositories.getRepositories()
+			.stream()
+			.mapToInt(this.changeDetector::size)
+			.sum();
+	}
+
+	private void report(List<Window> windows, int passesPerWindow) {
+		log.info("Soak test of {} passes over {} repositories, simulating {} days", passesPerWindow * windows.size(),
+				REPOSITORIES, PASS_INTERVAL.multipliedBy((long) passesPerWindow * windows.size()).toDays());
+		for (int i = 0; i < windows.size(); i++) {
+			Window window = windows.get(i);
+			log.info("Window {}: heap {}MB, threads {}, requests/pass {}, open issues {}, fingerprints {}", i,
+					window.usedHeap / (1024 * 1024), window.threads, String.format("%.1f", window.requestsPerPass),
+					window.openIssues, window.fingerprints);
+		}
+	}
+
+	private static final class Window {
+
+		private final long usedHeap;
+
+		private final int threads;
+
+		private final double requestsPerPass;
+
+		private final int fingerprints;
+
+		private final int openIssues;
+
+		private Window(long usedHeap, int threads, double requestsPerPass, int fingerprints, int openIssues) {
+			this.usedHeap = usedHeap;
+			this.threads = threads;
+			this.requestsPerPass = requestsPerPass;
+			this.fingerprints = fingerprints;
+			this.openIssues = openIssues;
+		}
+
+		private static Window measure(int passes, int fingerprints, int openIssues) {
+			System.gc();
+			return new Window(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+					ManagementFactory.getThreadMXBean().getThreadCount(),
+					(double) gitHub.getRequestCount() / passes, fingerprints, openIssues);
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.spring.issuebot.MonitoredRepositories.Change;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MonitoredRepositories}.
+ *
+ * @author Andy Wilkinson
+ */
+class MonitoredRepositoriesTests {
+
+	@Test
+	void collaboratorsOfUnknownRepositoryAreEmpty() {
+		MonitoredRepositories repositories = new MonitoredRepositories(List.of(repository("one", "alice")));
+		assertThat(repositories.getCollaborators(repository("two"))).isEmpty();
+	}
+
+	@Test
+	void updateIdentifiesAddedRemovedAndUpdatedRepositories() {
+		MonitoredRepositories repositories = new MonitoredRepositories(
+				List.of(repository("one", "alice"), repository("two", "bob"), repository("three", "carol")));
+		Change change = repositories
+			.update(List.of(repository("one", "alice"), repository("two", "bob", "dave"), repository("four")));
+		assertThat(change.getAdded()).extracting(Repository::getName).containsExactly("four");
+		assertThat(change.getRemoved()).extracting(Repository::getName).containsExactly("three");
+		assertThat(change.getUpdated()).extracting(Repository::getName).containsExactly("two");
+		assertThat(repositories.getRepositories()).extracting(Repository::getName)
+			.containsExactly("one", "two", "four");
+		assertThat(repositories.getCollaborators(repository("two"))).containsExactly("bob", "dave");
+	}
+
+	@Test
+	void collaboratorsOfUnchangedRepositoriesAreReused() {
+		MonitoredRepositories repositories = new MonitoredRepositories(List.of(repository("one", "alice")));
+		Object collaborators = repositories.getCollaborators(repository("one"));
+		Change change = repositories.update(List.of(repository("one", "alice"), repository("two")));
+		assertThat(change.getUpdated()).isEmpty();
+		assertThat(repositories.getCollaborators(repository("one"))).isSameAs(collaborators);
+	}
+
+	@Test
+	void listenersAreNotifiedOfNonEmptyChanges() {
+		MonitoredRepositories repositories = new MonitoredRepositories(List.of(repository("one", "alice")));
+		List<Change> changes = new ArrayList<>();
+		repositories.addListener(changes::add);
+		repositories.update(List.of(repository("one", "alice")));
+		assertThat(changes).isEmpty();
+		repositories.update(List.of(repository("two")));
+		assertThat(changes).hasSize(1);
+		assertThat(changes.get(0).getRemoved()).extracting(Repository::getName).containsExactly("one");
+	}
+
+	@Test
+	void repositoriesReturnedBeforeAnUpdateAreUnaffectedByIt() {
+		MonitoredRepositories repositories = new MonitoredRepositories(List.of(repository("one")));
+		List<Repository> snapshot = repositories.getRepositories();
+		repositories.update(List.of(repository("two")));
+		assertThat(snapshot).extracting(Repository::getName).containsExactly("one");
+	}
+
+	private Repository repository(String name, String... collaborators) {
+		Repository repository = new Repository();
+		repository.setOrganization("test");
+		repository.setName(name);
+		repository.setCollaborators(Arrays.asList(collaborators));
+		return repository;
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A {@link Clock} whose time can be moved forward by tests.
+ *
+ * @author Andy Wilkinson
+ */
+public final class MutableClock extends Clock {
+
+	private volatile Instant instant;
+
+	public MutableClock(Instant instant) {
+		this.instant = instant;
+	}
+
+	/**
+	 * Moves the clock forward by the given {@code duration}.
+	 * @param duration the duration
+	 */
+	public void advance(Duration duration) {
+		this.instant = this.instant.plus(duration);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneOffset.UTC;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Instant instant() {
+		return this.instant;
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.RateLimit;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link QuotaShare}.
+ *
+ * @author Andy Wilkinson
+ */
+class QuotaShareTests {
+
+	private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+	private final GitHubOperations gitHub = mock(GitHubOperations.class);
+
+	private final QuotaShare quotaShare = new QuotaShare(this.gitHub, 0.25, Clock.fixed(NOW, ZoneOffset.UTC));
+
+	@Test
+	void noWaitWhenRateLimitIsUnknown() {
+		assertThat(this.quotaShare.requiredWait("test")).isZero();
+	}
+
+	@Test
+	void noWaitWhenRemainingQuotaIsAboveReserve() {
+		rateLimit(5000, 3751, NOW.plusSeconds(600));
+		assertThat(this.quotaShare.requiredWait("test")).isZero();
+	}
+
+	@Test
+	void waitUntilResetWhenRemainingQuotaHasFallenToReserve() {
+		rateLimit(5000, 3750, NOW.plusSeconds(600));
+		assertThat(this.quotaShare.requiredWait("test")).isEqualTo(Duration.ofSeconds(601));
+	}
+
+	@Test
+	void noWaitWhenResetHasPassed() {
+		rateLimit(5000, 0, NOW.minusSeconds(1));
+		assertThat(this.quotaShare.requiredWait("test")).isZero();
+	}
+
+	@Test
+	void shareMustBeGreaterThanZero() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new QuotaShare(this.gitHub, 0, Clock.systemUTC()));
+	}
+
+	private void rateLimit(int limit, int remaining, Instant reset) {
+		RateLimit rateLimit = mock(RateLimit.class);
+		given(rateLimit.getLimit()).willReturn(limit);
+		given(rateLimit.getRemaining()).willReturn(remaining);
+		given(rateLimit.getReset()).willReturn(reset.toEpochMilli());
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit);
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.StandardPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RepositoriesFile}.
+ *
+ * @author Andy Wilkinson
+ */
+class RepositoriesFileTests {
+
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+	@TempDir
+	Path directory;
+
+	private final MonitoredRepositories repositories = new MonitoredRepositories(List.of());
+
+	@Test
+	void reloadUpdatesRepositoriesAndCollaborators() throws IOException {
+		Path file = write("""
+				issuebot:
+				  monitoring:
+				    repositories:
+				      - organization: test
+				        name: one
+				        collaborators:
+				          - alice
+				          - bob
+				""");
+		new RepositoriesFile(file.toFile(), this.repositories, POLL_INTERVAL).reload();
+		assertThat(this.repositories.getRepositories()).singleElement().satisfies((repository) -> {
+			assertThat(repository.getOrganization()).isEqualTo("test");
+			assertThat(repository.getName()).isEqualTo("one");
+			assertThat(this.repositories.getCollaborators(repository)).containsExactly("alice", "bob");
+		});
+	}
+
+	@Test
+	void reloadOfFileWithNoRepositoriesFails() throws IOException {
+		Path file = write("issuebot: {}\n");
+		RepositoriesFile repositoriesFile = new RepositoriesFile(file.toFile(), this.repositories, POLL_INTERVAL);
+		assertThatIllegalStateException().isThrownBy(repositoriesFile::reload).withMessageContaining("No repositories");
+	}
+
+	@Test
+	void pollReloadsOnlyWhenFileHasChanged() throws IOException {
+		Path file = write(repositories("one"));
+		RepositoriesFile repositoriesFile = new RepositoriesFile(file.toFile(), this.repositories, POLL_INTERVAL);
+		repositoriesFile.poll();
+		assertThat(this.repositories.getRepositories()).extracting(Repository::getName).containsExactly("one");
+		this.repositories.update(List.of());
+		repositoriesFile.poll();
+		assertThat(this.repositories.getRepositories()).isEmpty();
+		write(repositories("one", "two"));
+		Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+		repositoriesFile.poll();
+		assertThat(this.repositories.getRepositories()).extracting(Repository::getName)
+			.containsExactly("one", "two");
+	}
+
+	@Test
+	void pollOfInvalidFileLeavesRepositoriesUnchanged() throws IOException {
+		this.repositories.update(List.of(repository("one")));
+		Path file = write("issuebot: {}\n");
+		new RepositoriesFile(file.toFile(), this.repositories, POLL_INTERVAL).poll();
+		assertThat(this.repositories.getRepositories()).extracting(Repository::getName).containsExactly("one");
+	}
+
+	@Test
+	void reloadOccursWhileAMonitoringPassIsRunning() throws Exception {
+		Path file = write(repositories("one"));
+		this.repositories.update(List.of(repository("one")));
+		GitHubOperations gitHub = mock(GitHubOperations.class);
+		given(gitHub.getIssues("test", "one")).willReturn(
+				new StandardPage<>(List.of(new Issue(null, null, null, null, null, null, null, null)), () -> null));
+		CountDownLatch passStarted = new CountDownLatch(1);
+		CountDownLatch passReleased = new CountDownLatch(1);
+		RepositoryMonitor monitor = new RepositoryMonitorBuilder(gitHub).repositories(this.repositories)
+			.listeners(new IssueListener() {
+
+				@Override
+				public void onOpenIssue(Repository repository, Issue issue) {
+					passStarted.countDown();
+					try {
+						passReleased.await();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+			})
+			.build();
+		CountDownLatch reloaded = new CountDownLatch(1);
+		this.repositories.addListener((change) -> {
+			if (!change.getAdded().isEmpty()) {
+				reloaded.countDown();
+			}
+		});
+		Thread pass = new Thread(monitor::monitor);
+		pass.start();
+		RepositoriesFile repositoriesFile = new RepositoriesFile(file.toFile(), this.repositories, POLL_INTERVAL);
+		try {
+			assertThat(passStarted.await(5, TimeUnit.SECONDS)).isTrue();
+			repositoriesFile.start();
+			write(repositories("one", "two"));
+			Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+			assertThat(reloaded.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(pass.isAlive()).isTrue();
+			assertThat(this.repositories.getRepositories()).extracting(Repository::getName)
+				.containsExactly("one", "two");
+		}
+		finally {
+			repositoriesFile.stop();
+			passReleased.countDown();
+			pass.join();
+		}
+	}
+
+	private Path write(String content) throws IOException {
+		return Files.writeString(this.directory.resolve("repositories.yml"), content);
+	}
+
+	private String repositories(String... names) {
+		StringBuilder yaml = new StringBuilder("issuebot:\n  monitoring:\n    repositories:\n");
+		for (String name : names) {
+			yaml.append("      - organization: test\n        name: ").append(name).append("\n");
+		}
+		return yaml.toString();
+	}
+
+	private Repository repository(String name) {
+		Repository repository = new Repository();
+		repository.setOrganization("test");
+		repository.setName(name);
+		return repository;
+	}
+
+}
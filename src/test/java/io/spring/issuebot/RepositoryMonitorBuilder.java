@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.sharding.RepositorySharding;
+
+/**
+ * Builds a {@link RepositoryMonitor} for tests. Unless configured otherwise, the monitor
+ * is enabled, dispatches synchronously to no listeners, does not detect changes, and
+ * has no request accounting, work planner, or checkpoints.
+ *
+ * @author Andy Wilkinson
+ */
+final class RepositoryMonitorBuilder {
+
+	private final GitHubOperations gitHub;
+
+	private MonitoredRepositories repositories = new MonitoredRepositories(Collections.emptyList());
+
+	private IssueDispatcher issueDispatcher = new SynchronousIssueDispatcher(Collections.emptyList());
+
+	private ChangeDetector changeDetector = new ChangeDetector(false, Clock.systemUTC());
+
+	private RequestAccounting requestAccounting;
+
+	private WorkPlanner workPlanner;
+
+	private CheckpointStore checkpoints;
+
+	private RepositorySharding sharding = RepositorySharding.unsharded(Clock.systemUTC());
+
+	RepositoryMonitorBuilder(GitHubOperations gitHub) {
+		this.gitHub = gitHub;
+	}
+
+	RepositoryMonitorBuilder repositories(Repository... repositories) {
+		return repositories(Arrays.asList(repositories));
+	}
+
+	RepositoryMonitorBuilder repositories(List<Repository> repositories) {
+		return repositories(new MonitoredRepositories(repositories));
+	}
+
+	RepositoryMonitorBuilder repositories(MonitoredRepositories repositories) {
+		this.repositories = repositories;
+		return this;
+	}
+
+	RepositoryMonitorBuilder listeners(IssueListener... issueListeners) {
+		return issueDispatcher(new SynchronousIssueDispatcher(Arrays.asList(issueListeners)));
+	}
+
+	RepositoryMonitorBuilder issueDispatcher(IssueDispatcher issueDispatcher) {
+		this.issueDispatcher = issueDispatcher;
+		return this;
+	}
+
+	RepositoryMonitorBuilder changeDetector(ChangeDetector changeDetector) {
+		this.changeDetector = changeDetector;
+		return this;
+	}
+
+	RepositoryMonitorBuilder requestAccounting(RequestAccounting requestAccounting) {
+		this.requestAccounting = requestAccounting;
+		return this;
+	}
+
+	RepositoryMonitorBuilder workPlanner(WorkPlanner workPlanner) {
+		this.workPlanner = workPlanner;
+		return this;
+	}
+
+	RepositoryMonitorBuilder checkpoints(CheckpointStore checkpoints) {
+		this.checkpoints = checkpoints;
+		return this;
+	}
+
+	RepositoryMonitorBuilder sharding(RepositorySharding sharding) {
+		this.sharding = sharding;
+		return this;
+	}
+
+	RepositoryMonitor build() {
+		return new RepositoryMonitor(this.gitHub, this.repositories, true, this.issueDispatcher, this.changeDetector,
+				this.requestAccounting, this.workPlanner, this.checkpoints, this.sharding);
+	}
+
+}
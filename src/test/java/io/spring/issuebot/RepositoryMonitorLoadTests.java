@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Duration;
+
+import io.spring.issuebot.github.FakeGitHub;
+import io.spring.issuebot.github.GitHubOperations;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load tests for {@link RepositoryMonitor} that drive a full monitoring pass, using the
+ * application's real listeners and GitHub client, against a {@link FakeGitHub fake
+ * GitHub API} at production scale. The number of repositories, issues per repository,
+ * latency, error rate, and maximum pass duration can be configured using the
+ * {@code issuebot.load-test.*} system properties.
+ *
+ * @author Andy Wilkinson
+ */
+@Tag("load")
+@SpringBootTest(properties = { "issuebot.monitoring.enabled=false", "issuebot.monitoring.dispatch.mode=concurrent",
+		"spring.cloud.azure.keyvault.secret.property-source-enabled=false",
+		"issuebot.github.credentials.username=issue-bot", "issuebot.github.credentials.password=secret" })
+class RepositoryMonitorLoadTests {
+
+	private static final Logger log = LoggerFactory.getLogger(RepositoryMonitorLoadTests.class);
+
+	private static final int REPOSITORIES = Integer.getInteger("issuebot.load-test.repositories", 20);
+
+	private static final int ISSUES = Integer.getInteger("issuebot.load-test.issues", 300);
+
+	private static final Duration LATENCY = Duration
+		.ofMillis(Integer.getInteger("issuebot.load-test.latency-millis", 20));
+
+	private static final Duration JITTER = Duration
+		.ofMillis(Integer.getInteger("issuebot.load-test.jitter-millis", 30));
+
+	private static final double ERROR_RATE = Double
+		.parseDouble(System.getProperty("issuebot.load-test.error-rate", "0.005"));
+
+	private static final Duration MAX_PASS_DURATION = Duration
+		.ofSeconds(Integer.getInteger("issuebot.load-test.max-pass-duration-seconds", 300));
+
+	private static final FakeGitHub gitHub = FakeGitHub.start();
+
+	@Autowired
+	private GitHubOperations gitHubOperations;
+
+	@Autowired
+	private IssueDispatcher issueDispatcher;
+
+	@Autowired
+	private MonitoringProperties monitoringProperties;
+
+	@DynamicPropertySource
+	static void fakeGitHub(DynamicPropertyRegistry registry) {
+		registry.add("issuebot.github.api-url", gitHub::getApiUrl);
+		for (int i = 0; i < REPOSITORIES; i++) {
+			gitHub.addRepository("load-test", "repository-" + i, ISSUES);
+			registry.add("issuebot.monitoring.repositories[" + i + "].organization", () -> "load-test");
+			String name = "repository-" + i;
+			registry.add("issuebot.monitoring.repositories[" + i + "].name", () -> name);
+			registry.add("issuebot.monitoring.repositories[" + i + "].collaborators[0]",
+					() -> FakeGitHub.COLLABORATOR);
+		}
+	}
+
+	@AfterAll
+	static void stopFakeGitHub() {
+		gitHub.close();
+	}
+
+	@Test
+	void fullPass() {
+		gitHub.setLatency(LATENCY, JITTER);
+		gitHub.setErrorRate(ERROR_RATE);
+		gitHub.resetStatistics();
+		RepositoryMonitor monitor = new RepositoryMonitorBuilder(this.gitHubOperations)
+			.repositories(this.monitoringProperties.getRepositories())
+			.issueDispatcher(this.issueDispatcher)
+			.build();
+		long start = System.nanoTime();
+		monitor.monitor();
+		Duration passDuration = Duration.ofNanos(System.nanoTime() - start);
+		Duration p50 = gitHub.getLatencyPercentile(50);
+		Duration p99 = gitHub.getLatencyPercentile(99);
+		log.info("Pass over {} repositories with {} issues each (latency {}ms + up to {}ms, error rate {}%)",
+				REPOSITORIES, ISSUES, LATENCY.toMillis(), JITTER.toMillis(), ERROR_RATE * 100);
+		log.info("Pass duration {}ms, {} requests, latency p50 {}ms, p99 {}ms", passDuration.toMillis(),
+				gitHub.getRequestCount(), p50.toMillis(), p99.toMillis());
+		gitHub.getRequestCounts().forEach((endpoint, count) -> log.info("{} {} requests", endpoint, count));
+		int pagesPerRepository = (ISSUES + 29) / 30;
+		int issues = REPOSITORIES * ISSUES;
+		assertThat(gitHub.getRequestCounts()).containsKey("GET /repos/{owner}/{repo}/issues");
+		assertThat(gitHub.getRequestCounts().get("GET /repos/{owner}/{repo}/issues"))
+			.isGreaterThanOrEqualTo((long) REPOSITORIES);
+		assertThat(gitHub.getRequestCount()).isGreaterThanOrEqualTo((long) REPOSITORIES * pagesPerRepository / 2);
+		assertThat(gitHub.getRequestCount())
+			.isLessThanOrEqualTo((long) REPOSITORIES * pagesPerRepository
+					+ (long) issues * this.monitoringProperties.getPlanning().getRequestsPerIssue());
+		assertThat(passDuration).isLessThanOrEqualTo(MAX_PASS_DURATION);
+		assertThat(p99).isGreaterThanOrEqualTo(p50);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,37 @@
 
 package io.spring.issuebot;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import io.spring.issuebot.github.GitHubOperations;
 import io.spring.issuebot.github.Issue;
 import io.spring.issuebot.github.Page;
+import io.spring.issuebot.github.RateLimit;
+import io.spring.issuebot.github.StandardPage;
+import io.spring.issuebot.sharding.FileLeaseStore;
+import io.spring.issuebot.sharding.RepositorySharding;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -48,9 +67,10 @@ class RepositoryMonitorTests {
 
 	private final Repository repositoryTwo = new Repository();
 
-	private final RepositoryMonitor repositoryMonitor = new RepositoryMonitor(this.gitHub,
-			Arrays.asList(this.repositoryOne, this.repositoryTwo), true,
-			Arrays.asList(this.issueListenerOne, this.issueListenerTwo));
+	private final RepositoryMonitor repositoryMonitor = new RepositoryMonitorBuilder(this.gitHub)
+		.repositories(this.repositoryOne, this.repositoryTwo)
+		.listeners(this.issueListenerOne, this.issueListenerTwo)
+		.build();
 
 	@BeforeEach
 	void setUp() {
@@ -70,11 +90,9 @@ class RepositoryMonitorTests {
 
 	@Test
 	void oneRepositoryWithOpenIssues() {
-		@SuppressWarnings("unchecked")
-		Page<Issue> page = mock(Page.class);
 		Issue issueOne = new Issue(null, null, null, null, null, null, null, null);
 		Issue issueTwo = new Issue(null, null, null, null, null, null, null, null);
-		given(page.getContent()).willReturn(Arrays.asList(issueOne, issueTwo));
+		Page<Issue> page = new StandardPage<>(Arrays.asList(issueOne, issueTwo), () -> null);
 		given(this.gitHub.getIssues("test", "one")).willReturn(page);
 		given(this.gitHub.getIssues("test", "two")).willReturn(null);
 		this.repositoryMonitor.monitor();
@@ -86,11 +104,9 @@ class RepositoryMonitorTests {
 
 	@Test
 	void bothRepositoriesWithOpenIssues() {
-		@SuppressWarnings("unchecked")
-		Page<Issue> page = mock(Page.class);
 		Issue issueOne = new Issue(null, null, null, null, null, null, null, null);
 		Issue issueTwo = new Issue(null, null, null, null, null, null, null, null);
-		given(page.getContent()).willReturn(Arrays.asList(issueOne, issueTwo));
+		Page<Issue> page = new StandardPage<>(Arrays.asList(issueOne, issueTwo), () -> null);
 		given(this.gitHub.getIssues("test", "one")).willReturn(page);
 		given(this.gitHub.getIssues("test", "two")).willReturn(page);
 		this.repositoryMonitor.monitor();
@@ -106,10 +122,8 @@ class RepositoryMonitorTests {
 
 	@Test
 	void exceptionFromAnIssueListenerIsHandledGracefully() {
-		@SuppressWarnings("unchecked")
-		Page<Issue> page = mock(Page.class);
 		Issue issue = new Issue(null, null, null, null, null, null, null, null);
-		given(page.getContent()).willReturn(Collections.singletonList(issue));
+		Page<Issue> page = new StandardPage<>(Collections.singletonList(issue), () -> null);
 		given(this.gitHub.getIssues("test", "one")).willReturn(page);
 		willThrow(new RuntimeException()).given(this.issueListenerOne).onOpenIssue(this.repositoryOne, issue);
 		this.repositoryMonitor.monitor();
@@ -117,6 +131,174 @@ class RepositoryMonitorTests {
 		verify(this.issueListenerTwo).onOpenIssue(this.repositoryOne, issue);
 	}
 
+	@Test
+	void unchangedIssuesAreNotDispatchedAgain() {
+		RepositoryMonitor repositoryMonitor = new RepositoryMonitorBuilder(this.gitHub).repositories(this.repositoryOne)
+			.listeners(this.issueListenerOne)
+			.changeDetector(new ChangeDetector(true, Clock.systemUTC()))
+			.build();
+		Issue issue = new Issue("issue-url", null, null, null, null, null, null, null, "open",
+				OffsetDateTime.now());
+		Page<Issue> page = new StandardPage<>(Collections.singletonList(issue), () -> null);
+		given(this.gitHub.getIssues("test", "one")).willReturn(page);
+		repositoryMonitor.monitor();
+		repositoryMonitor.monitor();
+		verify(this.issueListenerOne, times(1)).onOpenIssue(this.repositoryOne, issue);
+	}
+
+	@Test
+	void repositoriesThatAreUpdatedAreMonitoredOnTheNextPass() {
+		MonitoredRepositories repositories = new MonitoredRepositories(Collections.singletonList(this.repositoryOne));
+		RepositoryMonitor repositoryMonitor = new RepositoryMonitorBuilder(this.gitHub).repositories(repositories)
+			.listeners(this.issueListenerOne)
+			.build();
+		repositoryMonitor.monitor();
+		verify(this.gitHub).getIssues("test", "one");
+		verify(this.gitHub, never()).getIssues("test", "two");
+		repositories.update(Collections.singletonList(this.repositoryTwo));
+		repositoryMonitor.monitor();
+		verify(this.gitHub).getIssues("test", "one");
+		verify(this.gitHub).getIssues("test", "two");
+	}
+
+	@Test
+	void whenRateLimitIsScarceMostUrgentIssuesAreDispatchedAndOthersAreDeferred() {
+		RepositoryMonitor repositoryMonitor = new RepositoryMonitorBuilder(this.gitHub).repositories(this.repositoryOne)
+			.listeners(this.issueListenerOne)
+			.changeDetector(new ChangeDetector(true, Clock.systemUTC()))
+			.workPlanner(new WorkPlanner(this.gitHub, 500, 3))
+			.build();
+		OffsetDateTime now = OffsetDateTime.now();
+		Issue newer = new Issue("newer", null, null, null, null, null, null, null, "open", now, "newer", now);
+		Issue older = new Issue("older", null, null, null, null, null, null, null, "open", now.minusDays(1), "older",
+				now.minusDays(1));
+		given(this.gitHub.getIssues("test", "one"))
+			.willReturn(new StandardPage<>(Arrays.asList(newer, older), () -> null));
+		RateLimit scarce = mock(RateLimit.class);
+		given(scarce.getRemaining()).willReturn(4);
+		given(this.gitHub.getRateLimit("test")).willReturn(scarce);
+		repositoryMonitor.monitor();
+		verify(this.issueListenerOne).onOpenIssue(this.repositoryOne, older);
+		verifyNoMoreInteractions(this.issueListenerOne);
+		RateLimit plentiful = mock(RateLimit.class);
+		given(plentiful.getRemaining()).willReturn(5000);
+		given(this.gitHub.getRateLimit("test")).willReturn(plentiful);
+		repositoryMonitor.monitor();
+		verify(this.issueListenerOne).onOpenIssue(this.repositoryOne, newer);
+		verifyNoMoreInteractions(this.issueListenerOne);
+	}
+
+	@Test
+	void interruptedPassIsResumedFromTheLastCompletedPage(@TempDir Path checkpoints) {
+		RepositoryMonitor repositoryMonitor = checkpointingMonitor(checkpoints);
+		Issue first = new Issue(null, null, null, null, null, null, null, null);
+		Issue second = new Issue(null, null, null, null, null, null, null, null);
+		Page<Issue> secondPage = new StandardPage<>("page-2", Collections.singletonList(second), () -> {
+			throw new RuntimeException();
+		});
+		given(this.gitHub.getIssues("test", "one"))
+			.willReturn(new StandardPage<>("page-1", Collections.singletonList(first), () -> secondPage));
+		given(this.gitHub.getIssues("test", "two")).willReturn(null);
+		repositoryMonitor.monitor();
+		given(this.gitHub.getIssuePage("page-2"))
+			.willReturn(new StandardPage<>("page-2", Collections.singletonList(second), () -> null));
+		repositoryMonitor.monitor();
+		verify(this.gitHub, times(1)).getIssues("test", "one");
+		verify(this.gitHub, times(1)).getIssues("test", "two");
+		verify(this.gitHub).getIssuePage("page-2");
+		verify(this.issueListenerOne, times(1)).onOpenIssue(this.repositoryOne, first);
+		verify(this.issueListenerOne, times(2)).onOpenIssue(this.repositoryOne, second);
+		repositoryMonitor.monitor();
+		verify(this.gitHub, times(2)).getIssues("test", "one");
+		verify(this.gitHub, times(2)).getIssues("test", "two");
+	}
+
+	@Test
+	void interruptedPassIsResumedFromTheLastCompletedPageWhenRateLimitIsScarce(@TempDir Path checkpoints) {
+		FileCheckpointStore store = new FileCheckpointStore(checkpoints);
+		RepositoryMonitor repositoryMonitor = new RepositoryMonitorBuilder(this.gitHub)
+			.repositories(this.repositoryOne, this.repositoryTwo)
+			.listeners(this.issueListenerOne)
+			.workPlanner(new WorkPlanner(this.gitHub, 500, 1))
+			.checkpoints(store)
+			.build();
+		Issue first = new Issue(null, null, null, null, null, null, null, null);
+		Issue second = new Issue(null, null, null, null, null, null, null, null);
+		Page<Issue> secondPage = new StandardPage<>("page-2", Collections.singletonList(second), () -> {
+			throw new RuntimeException();
+		});
+		given(this.gitHub.getIssues("test", "one"))
+			.willReturn(new StandardPage<>("page-1", Collections.singletonList(first), () -> secondPage));
+		given(this.gitHub.getIssues("test", "two")).willReturn(null);
+		repositoryMonitor.monitor();
+		RateLimit scarce = mock(RateLimit.class);
+		given(scarce.getRemaining()).willReturn(100);
+		given(this.gitHub.getRateLimit("test")).willReturn(scarce);
+		given(this.gitHub.getIssuePage("page-2"))
+			.willReturn(new StandardPage<>("page-2", Collections.singletonList(second), () -> null));
+		repositoryMonitor.monitor();
+		verify(this.gitHub, times(1)).getIssues("test", "one");
+		verify(this.gitHub, times(1)).getIssues("test", "two");
+		verify(this.gitHub).getIssuePage("page-2");
+		verify(this.issueListenerOne, times(1)).onOpenIssue(this.repositoryOne, first);
+		verify(this.issueListenerOne, times(2)).onOpenIssue(this.repositoryOne, second);
+		Checkpoint checkpoint = store.load("monitor/test/one");
+		assertThat(checkpoint.isComplete()).isTrue();
+		assertThat(checkpoint.getPages()).isEqualTo(2);
+	}
+
+	@Test
+	void interruptedPassIsNotResumedAgainWhenItMakesNoProgress(@TempDir Path checkpoints) {
+		RepositoryMonitor repositoryMonitor = checkpointingMonitor(checkpoints);
+		given(this.gitHub.getIssues("test", "one")).willThrow(new RuntimeException());
+		given(this.gitHub.getIssues("test", "two")).willReturn(null);
+		repositoryMonitor.monitor();
+		repositoryMonitor.monitor();
+		verify(this.gitHub, times(2)).getIssues("test", "one");
+		verify(this.gitHub, times(1)).getIssues("test", "two");
+		repositoryMonitor.monitor();
+		verify(this.gitHub, times(3)).getIssues("test", "one");
+		verify(this.gitHub, times(2)).getIssues("test", "two");
+	}
+
+	@Test
+	void repositoriesWhoseLeaseIsHeldByAnotherInstanceAreNotMonitored(@TempDir Path leases) {
+		FileLeaseStore store = new FileLeaseStore(leases, Clock.systemUTC());
+		store.tryAcquire("repository/test/two", "other", Duration.ofMinutes(10));
+		RepositoryMonitor repositoryMonitor = new RepositoryMonitorBuilder(this.gitHub)
+			.repositories(this.repositoryOne, this.repositoryTwo)
+			.listeners(this.issueListenerOne)
+			.sharding(new RepositorySharding(store, "this", Duration.ofMinutes(10), Clock.systemUTC()))
+			.build();
+		repositoryMonitor.monitor();
+		verify(this.gitHub).getIssues("test", "one");
+		verify(this.gitHub, never()).getIssues("test", "two");
+	}
+
+	@Test
+	void monitoringOfARepositoryIsAbandonedWhenItsLeaseIsLost(@TempDir Path leases) {
+		MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		Duration leaseDuration = Duration.ofMinutes(10);
+		RepositoryMonitor repositoryMonitor = new RepositoryMonitorBuilder(this.gitHub).repositories(this.repositoryOne)
+			.listeners(this.issueListenerOne)
+			.sharding(new RepositorySharding(new FileLeaseStore(leases, clock), "this", leaseDuration, clock))
+			.build();
+		Issue first = new Issue(null, null, null, null, null, null, null, null);
+		Issue second = new Issue(null, null, null, null, null, null, null, null);
+		given(this.gitHub.getIssues("test", "one")).willReturn(new StandardPage<>(Collections.singletonList(first),
+				() -> new StandardPage<>(Collections.singletonList(second), () -> null)));
+		willAnswer((invocation) -> {
+			clock.advance(leaseDuration.plusSeconds(1));
+			RepositorySharding other = new RepositorySharding(new FileLeaseStore(leases, clock), "other",
+					leaseDuration, clock);
+			assertThat(other.claim(List.of(this.repositoryOne))).containsExactly(this.repositoryOne);
+			return null;
+		}).given(this.issueListenerOne).onOpenIssue(this.repositoryOne, first);
+		repositoryMonitor.monitor();
+		verify(this.issueListenerOne).onOpenIssue(this.repositoryOne, first);
+		verify(this.issueListenerOne, never()).onOpenIssue(this.repositoryOne, second);
+	}
+
 	@Test
 	void exceptionFromGitHubIsHandledGracefully() {
 		given(this.gitHub.getIssues("test", "one")).willThrow(new RuntimeException());
@@ -124,4 +306,42 @@ class RepositoryMonitorTests {
 		verify(this.gitHub).getIssues("test", "one");
 	}
 
+	@Test
+	void passesAndListenerInvocationsAreRecordedAsFlightRecorderEvents(@TempDir Path temp) throws Exception {
+		Issue issue = new Issue("https://api.github.com/repos/test/one/issues/1", null, null, null, null, null, null,
+				null);
+		given(this.gitHub.getIssues("test", "one"))
+			.willReturn(new StandardPage<>(Collections.singletonList(issue), () -> null));
+		willThrow(new RuntimeException()).given(this.issueListenerTwo).onOpenIssue(this.repositoryOne, issue);
+		Path file = temp.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("io.spring.issuebot.RepositoryPass");
+			recording.enable("io.spring.issuebot.IssueListener");
+			recording.start();
+			this.repositoryMonitor.monitor();
+			recording.stop();
+			recording.dump(file);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(eventsNamed(events, "io.spring.issuebot.RepositoryPass"))
+			.extracting((event) -> event.getString("repository"), (event) -> event.getInt("pages"),
+					(event) -> event.getInt("dispatched"))
+			.containsExactlyInAnyOrder(tuple("test/one", 1, 1), tuple("test/two", 0, 0));
+		assertThat(eventsNamed(events, "io.spring.issuebot.IssueListener"))
+			.extracting((event) -> event.getString("issue"), (event) -> event.getBoolean("success"))
+			.containsExactlyInAnyOrder(tuple("https://api.github.com/repos/test/one/issues/1", true),
+					tuple("https://api.github.com/repos/test/one/issues/1", false));
+	}
+
+	private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+		return events.stream().filter((event) -> event.getEventType().getName().equals(name)).toList();
+	}
+
+	private RepositoryMonitor checkpointingMonitor(Path checkpoints) {
+		return new RepositoryMonitorBuilder(this.gitHub).repositories(this.repositoryOne, this.repositoryTwo)
+			.listeners(this.issueListenerOne)
+			.checkpoints(new FileCheckpointStore(checkpoints))
+			.build();
+	}
+
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import io.spring.issuebot.PassReport.RepositoryReport;
+import io.spring.issuebot.github.FakeGitHub;
+import io.spring.issuebot.github.GitHubTemplate;
+import io.spring.issuebot.github.HttpClientSettings;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.RegexLinkParser;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RequestAccounting}.
+ *
+ * @author Andy Wilkinson
+ */
+class RequestAccountingTests {
+
+	private static FakeGitHub fakeGitHub;
+
+	private final RequestAccounting accounting = new RequestAccounting(2, 1, Clock.systemUTC());
+
+	@BeforeAll
+	static void startFakeGitHub() {
+		fakeGitHub = FakeGitHub.start();
+		fakeGitHub.addRepository("test", "one", 45);
+		fakeGitHub.addRepository("test", "two", 10);
+	}
+
+	@AfterAll
+	static void stopFakeGitHub() {
+		fakeGitHub.close();
+	}
+
+	@Test
+	void requestsAreAccountedForByRepositoryAndEndpoint() {
+		GitHubTemplate gitHub = gitHub();
+		List<Issue> issues = gitHub.getIssues("test", "one").stream().toList();
+		gitHub.getIssues("test", "two");
+		gitHub.getComments(issues.get(0)).getContent();
+		gitHub.getEvents(issues.get(0)).getContent();
+		gitHub.getComments(issues.get(1)).getContent();
+		PassReport report = this.accounting.completePass(Duration.ofSeconds(1));
+		assertThat(report.getRequests()).isEqualTo(6);
+		assertThat(report.getQuotaConsumed()).isEqualTo(6);
+		assertThat(report.getRepositories()).extracting(RepositoryReport::getName).containsExactly("test/one",
+				"test/two");
+		RepositoryReport one = report.getRepositories().get(0);
+		assertThat(one.getRequests()).containsEntry("GET issues", 2L)
+			.containsEntry("GET issues/{number}/comments", 2L)
+			.containsEntry("GET issues/{number}/events", 1L);
+		assertThat(one.getPages()).isEqualTo(5);
+		String url = issues.get(0).getUrl();
+		assertThat(report.getTopIssues()).singleElement()
+			.satisfies((issue) -> assertThat(issue.getIssue())
+				.isEqualTo("test/one#" + url.substring(url.lastIndexOf('/') + 1)));
+	}
+
+	@Test
+	void monitoringTimeIsAccountedForByRepository() {
+		Repository repository = new Repository();
+		repository.setOrganization("test");
+		repository.setName("one");
+		this.accounting.repositoryMonitored(repository, Duration.ofMillis(1500));
+		PassReport report = this.accounting.completePass(Duration.ofSeconds(2));
+		assertThat(report.getRepositories()).singleElement()
+			.satisfies((repositoryReport) -> assertThat(repositoryReport.getElapsedMillis()).isEqualTo(1500));
+	}
+
+	@Test
+	void eachPassStartsFromZero() {
+		gitHub().getIssues("test", "two");
+		this.accounting.completePass(Duration.ofSeconds(1));
+		assertThat(this.accounting.completePass(Duration.ofSeconds(1)).getRequests()).isZero();
+	}
+
+	@Test
+	void mostRecentReportsAreRetained() {
+		this.accounting.completePass(Duration.ofSeconds(1));
+		this.accounting.completePass(Duration.ofSeconds(2));
+		this.accounting.completePass(Duration.ofSeconds(3));
+		assertThat(this.accounting.getReports()).extracting(PassReport::getDurationMillis).containsExactly(3000L,
+				2000L);
+	}
+
+	private GitHubTemplate gitHub() {
+		GitHubTemplate gitHub = new GitHubTemplate(fakeGitHub.getApiUrl(), "user", "password",
+				new HttpClientSettings(), new RegexLinkParser());
+		gitHub.addApiRequestListener(this.accounting);
+		return gitHub;
+	}
+
+}
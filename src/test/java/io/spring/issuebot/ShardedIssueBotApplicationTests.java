@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.spring.issuebot.sharding.RepositorySharding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link IssueBotApplication} with several sharded instances running in the
+ * same JVM.
+ *
+ * @author Andy Wilkinson
+ */
+class ShardedIssueBotApplicationTests {
+
+	private final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+	@TempDir
+	Path leases;
+
+	@AfterEach
+	void closeInstances() {
+		this.instances.forEach(ConfigurableApplicationContext::close);
+	}
+
+	@Test
+	void repositoriesAreSharedBetweenInstancesAndRebalancedWhenOneStops() {
+		startInstance("a");
+		startInstance("b");
+		startInstance("c");
+		List<Repository> repositories = this.instances.get(0).getBean(MonitoredRepositories.class).getRepositories();
+		assertThatRepositoriesArePartitioned(rebalance(repositories), repositories);
+		this.instances.remove(1).close();
+		assertThatRepositoriesArePartitioned(rebalance(repositories), repositories);
+	}
+
+	private void startInstance(String instanceId) {
+		this.instances.add(new SpringApplicationBuilder(IssueBotApplication.class).web(WebApplicationType.NONE)
+			.run("--issuebot.monitoring.enabled=false", "--issuebot.monitoring.sharding.enabled=true",
+					"--issuebot.monitoring.sharding.directory=" + this.leases,
+					"--issuebot.monitoring.sharding.instance-id=" + instanceId));
+	}
+
+	private List<List<Repository>> rebalance(List<Repository> repositories) {
+		List<List<Repository>> claimed = new ArrayList<>();
+		for (int round = 0; round < 3; round++) {
+			claimed.clear();
+			for (ConfigurableApplicationContext instance : this.instances) {
+				claimed.add(instance.getBean(RepositorySharding.class).claim(repositories));
+			}
+		}
+		return claimed;
+	}
+
+	private void assertThatRepositoriesArePartitioned(List<List<Repository>> claimed, List<Repository> repositories) {
+		Set<Repository> all = new HashSet<>();
+		for (List<Repository> instanceRepositories : claimed) {
+			assertThat(instanceRepositories).isNotEmpty();
+			for (Repository repository : instanceRepositories) {
+				assertThat(all.add(repository)).isTrue();
+			}
+		}
+		assertThat(all).containsExactlyInAnyOrderElementsOf(repositories);
+	}
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.issuebot.github.Issue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link StripedIssueDispatcher}.
+ *
+ * @author Andy Wilkinson
+ */
+class StripedIssueDispatcherTests {
+
+	private final Repository repository = new Repository();
+
+	private StripedIssueDispatcher dispatcher;
+
+	@AfterEach
+	void close() {
+		if (this.dispatcher != null) {
+			this.dispatcher.close();
+		}
+	}
+
+	@Test
+	void issueIsDispatchedToEveryListener() {
+		IssueListener one = mock(IssueListener.class);
+		IssueListener two = mock(IssueListener.class);
+		this.dispatcher = new StripedIssueDispatcher(Arrays.asList(one, two), 4, 8, 2, Duration.ofSeconds(5));
+		Issue issue = issue("issue-1");
+		assertThat(this.dispatcher.dispatch(this.repository, issue).join()).isTrue();
+		verify(one).onOpenIssue(this.repository, issue);
+		verify(two).onOpenIssue(this.repository, issue);
+	}
+
+	@Test
+	void listenerCallsForAnIssueHappenInOrderOnTheSameThread() {
+		List<String> calls = Collections.synchronizedList(new ArrayList<>());
+		IssueListener one = recording("one", calls);
+		IssueListener two = recording("two", calls);
+		this.dispatcher = new StripedIssueDispatcher(Arrays.asList(one, two), 4, 8, 4, Duration.ofSeconds(5));
+		Issue issue = issue("issue-1");
+		CompletableFuture.allOf(this.dispatcher.dispatch(this.repository, issue),
+				this.dispatcher.dispatch(this.repository, issue))
+			.join();
+		assertThat(calls).hasSize(4);
+		assertThat(calls).extracting((call) -> call.split(" ")[0]).containsExactly("one", "two", "one", "two");
+		assertThat(calls).extracting((call) -> call.split(" ")[1]).containsOnly(calls.get(0).split(" ")[1]);
+	}
+
+	@Test
+	void failureOfAListenerIsReported() {
+		IssueListener one = mock(IssueListener.class);
+		IssueListener two = mock(IssueListener.class);
+		Issue issue = issue("issue-1");
+		willThrow(new RuntimeException()).given(one).onOpenIssue(this.repository, issue);
+		this.dispatcher = new StripedIssueDispatcher(Arrays.asList(one, two), 4, 8, 2, Duration.ofSeconds(5));
+		assertThat(this.dispatcher.dispatch(this.repository, issue).join()).isFalse();
+		verify(two).onOpenIssue(this.repository, issue);
+	}
+
+	@Test
+	void saturatedListenerIsSkipped() throws InterruptedException {
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		IssueListener slow = new IssueListener() {
+
+			@Override
+			public void onOpenIssue(Repository repository, Issue issue) {
+				if ("slow".equals(issue.getUrl())) {
+					blocked.countDown();
+					await(release);
+				}
+			}
+
+		};
+		IssueListener other = mock(IssueListener.class);
+		this.dispatcher = new StripedIssueDispatcher(Arrays.asList(slow, other), 16, 8, 1, Duration.ofMillis(50));
+		Issue slowIssue = issue("slow");
+		Issue fastIssue = issueOnAnotherStripe("slow", 16);
+		CompletableFuture<Boolean> slowResult = this.dispatcher.dispatch(this.repository, slowIssue);
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.dispatcher.dispatch(this.repository, fastIssue).join()).isFalse();
+		verify(other).onOpenIssue(this.repository, fastIssue);
+		release.countDown();
+		assertThat(slowResult.join()).isTrue();
+	}
+
+	@Test
+	void issueWaitingForSaturatedListenerDoesNotBlockOtherIssuesOnItsStripe() throws InterruptedException {
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		IssueListener other = mock(IssueListener.class);
+		IssueListener slow = new IssueListener() {
+
+			@Override
+			public void onOpenIssue(Repository repository, Issue issue) {
+				if ("slow".equals(issue.getUrl())) {
+					blocked.countDown();
+					await(release);
+				}
+			}
+
+		};
+		this.dispatcher = new StripedIssueDispatcher(Arrays.asList(other, slow), 2, 8, 1, Duration.ofSeconds(30));
+		CompletableFuture<Boolean> slowResult = this.dispatcher.dispatch(this.repository, issue("slow"));
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		List<Issue> waiting = issuesOnStripe(1 - Math.floorMod("slow".hashCode(), 2), 2, 2);
+		CompletableFuture<Boolean> first = this.dispatcher.dispatch(this.repository, waiting.get(0));
+		CompletableFuture<Boolean> second = this.dispatcher.dispatch(this.repository, waiting.get(1));
+		verify(other, timeout(5000)).onOpenIssue(this.repository, waiting.get(1));
+		assertThat(first).isNotDone();
+		release.countDown();
+		assertThat(slowResult.join()).isTrue();
+		assertThat(first.join()).isTrue();
+		assertThat(second.join()).isTrue();
+	}
+
+	@Test
+	void laterDispatchOfAnIssueWaitsBehindItsNotificationsThatHaveBeenSetAside() throws InterruptedException {
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> calls = Collections.synchronizedList(new ArrayList<>());
+		IssueListener slow = new IssueListener() {
+
+			@Override
+			public void onOpenIssue(Repository repository, Issue issue) {
+				if ("slow".equals(issue.getUrl())) {
+					blocked.countDown();
+					await(release);
+				}
+				else {
+					calls.add("slow");
+				}
+			}
+
+		};
+		IssueListener other = recording("other", calls);
+		this.dispatcher = new StripedIssueDispatcher(Arrays.asList(slow, other), 2, 8, 1, Duration.ofSeconds(30));
+		CompletableFuture<Boolean> slowResult = this.dispatcher.dispatch(this.repository, issue("slow"));
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		Issue issue = issueOnAnotherStripe("slow", 2);
+		CompletableFuture<Boolean> first = this.dispatcher.dispatch(this.repository, issue);
+		CompletableFuture<Boolean> second = this.dispatcher.dispatch(this.repository, issue);
+		release.countDown();
+		CompletableFuture.allOf(slowResult, first, second).join();
+		assertThat(calls).extracting((call) -> call.split(" ")[0]).containsExactly("slow", "other", "slow", "other");
+	}
+
+	@Test
+	void closingWhileNotificationsAreSetAsideFailsTheIssuesWaitingBehindThem() throws InterruptedException {
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		IssueListener slow = new IssueListener() {
+
+			@Override
+			public void onOpenIssue(Repository repository, Issue issue) {
+				if ("slow".equals(issue.getUrl())) {
+					blocked.countDown();
+					await(release);
+				}
+			}
+
+		};
+		IssueListener other = mock(IssueListener.class);
+		this.dispatcher = new StripedIssueDispatcher(Arrays.asList(slow, other), 2, 8, 1, Duration.ofSeconds(30));
+		CompletableFuture<Boolean> slowResult = this.dispatcher.dispatch(this.repository, issue("slow"));
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		Issue issue = issueOnAnotherStripe("slow", 2);
+		CompletableFuture<Boolean> first = this.dispatcher.dispatch(this.repository, issue);
+		CompletableFuture<Boolean> second = this.dispatcher.dispatch(this.repository, issue);
+		this.dispatcher.close();
+		assertThat(first).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(RejectedExecutionException.class);
+		assertThat(second).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(RejectedExecutionException.class);
+		release.countDown();
+		assertThat(slowResult.join()).isTrue();
+		verify(other, never()).onOpenIssue(this.repository, issue);
+	}
+
+	private IssueListener recording(String name, List<String> calls) {
+		return new IssueListener() {
+
+			@Override
+			public void onOpenIssue(Repository repository, Issue issue) {
+				calls.add(name + " " + Thread.currentThread().getName());
+			}
+
+		};
+	}
+
+	private Issue issueOnAnotherStripe(String url, int stripes) {
+		int stripe = Math.floorMod(url.hashCode(), stripes);
+		for (int i = 0;; i++) {
+			String candidate = "issue-" + i;
+			if (Math.floorMod(candidate.hashCode(), stripes) != stripe) {
+				return issue(candidate);
+			}
+		}
+	}
+
+	private List<Issue> issuesOnStripe(int stripe, int stripes, int count) {
+		List<Issue> issues = new ArrayList<>();
+		for (int i = 0; issues.size() < count; i++) {
+			String candidate = "issue-" + i;
+			if (Math.floorMod(candidate.hashCode(), stripes) == stripe) {
+				issues.add(issue(candidate));
+			}
+		}
+		return issues;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Issue issue(String url) {
+		return new Issue(url, null, null, null, null, null, null, null);
+	}
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.issuebot.WorkPlanner.Candidate;
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.Label;
+import io.spring.issuebot.github.Milestone;
+import io.spring.issuebot.github.RateLimit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link WorkPlanner}.
+ *
+ * @author Andy Wilkinson
+ */
+class WorkPlannerTests {
+
+	private static final OffsetDateTime NOW = OffsetDateTime.of(2026, 2, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	private final MutableClock clock = new MutableClock(NOW.toInstant());
+
+	private final ChangeDetector changeDetector = new ChangeDetector(true, this.clock);
+
+	private final GitHubOperations gitHub = mock(GitHubOperations.class);
+
+	private final WorkPlanner planner = new WorkPlanner(this.gitHub, 500, 3);
+
+	private final Repository repository = repository("test");
+
+	@BeforeEach
+	void setUp() {
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(5000));
+	}
+
+	@Test
+	void isNotScarceWhenRateLimitIsUnknown() {
+		assertThat(this.planner.isScarce(List.of(repository("other")))).isFalse();
+	}
+
+	@Test
+	void isNotScarceWhenRemainingIsAtOrAboveThreshold() {
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(500));
+		assertThat(this.planner.isScarce(List.of(this.repository))).isFalse();
+	}
+
+	@Test
+	void isScarceWhenRemainingIsBelowThreshold() {
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(499));
+		assertThat(this.planner.isScarce(List.of(this.repository))).isTrue();
+	}
+
+	@Test
+	void isScarceWhenRemainingIsBelowRequestsExpectedFromPreviousPasses() {
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(1000));
+		Repository other = repository("test", "other");
+		this.planner.completed(this.repository, completedPass(this.repository, 200), 7);
+		assertThat(this.planner.isScarce(List.of(this.repository, other))).isFalse();
+		this.planner.completed(other, completedPass(other, 150), 5);
+		assertThat(this.planner.isScarce(List.of(this.repository, other))).isTrue();
+	}
+
+	@Test
+	void isScarceWhenRemainingIsBelowRequestsExpectedFromPagesListedByPreviousPass() {
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(600));
+		Repository other = repository("test", "other");
+		this.planner.completed(this.repository, completedPass(this.repository, 10), 570);
+		assertThat(this.planner.isScarce(List.of(this.repository))).isFalse();
+		this.planner.completed(other, completedPass(other, 10), 571);
+		assertThat(this.planner.isScarce(List.of(other))).isTrue();
+	}
+
+	@Test
+	void isNotScarceWhenPlanningIsDisabled() {
+		WorkPlanner planner = new WorkPlanner(this.gitHub, 0, 3);
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(10));
+		assertThat(planner.isScarce(List.of(this.repository))).isFalse();
+	}
+
+	@Test
+	void weightIsConfiguredOrDerivedFromIssueVolumeOfLastCompletePass() {
+		Repository weighted = repository("test", "weighted");
+		weighted.setWeight(5);
+		assertThat(this.planner.weight(weighted)).isEqualTo(5.0);
+		assertThat(this.planner.weight(this.repository)).isEqualTo(1.0);
+		this.planner.completed(this.repository, completedPass(this.repository, 40), 1);
+		assertThat(this.planner.weight(this.repository)).isEqualTo(40.0);
+	}
+
+	@Test
+	void remainingQuotaIsSharedInProportionToWeight() {
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(24));
+		Repository heavy = repository("test", "heavy");
+		heavy.setWeight(3);
+		Repository light = repository("test", "light");
+		light.setWeight(1);
+		List<Candidate> candidates = new ArrayList<>(candidates(heavy, 10));
+		candidates.addAll(candidates(light, 10));
+		assertThat(this.planner.plan(candidates)).extracting(Candidate::getRepository)
+			.filteredOn(heavy::equals)
+			.hasSize(6);
+		assertThat(this.planner.plan(candidates)).extracting(Candidate::getRepository)
+			.filteredOn(light::equals)
+			.hasSize(2);
+	}
+
+	@Test
+	void guaranteedShareOfRemainingQuotaIsSplitEquallyBetweenRepositories() {
+		WorkPlanner planner = new WorkPlanner(this.gitHub, 500, 3, 0.5);
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(24));
+		Repository heavy = repository("test", "heavy");
+		heavy.setWeight(100);
+		Repository light = repository("test", "light");
+		light.setWeight(1);
+		List<Candidate> candidates = new ArrayList<>(candidates(heavy, 10));
+		candidates.addAll(candidates(light, 10));
+		assertThat(this.planner.plan(candidates)).extracting(Candidate::getRepository)
+			.filteredOn(light::equals)
+			.isEmpty();
+		assertThat(planner.plan(candidates)).extracting(Candidate::getRepository)
+			.filteredOn(light::equals)
+			.hasSize(2);
+		assertThat(planner.plan(candidates)).hasSize(8);
+	}
+
+	@Test
+	void unusedShareOfRepositoryIsAvailableToOthers() {
+		WorkPlanner planner = new WorkPlanner(this.gitHub, 500, 3, 0.5);
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(24));
+		Repository busy = repository("test", "busy");
+		Repository quiet = repository("test", "quiet");
+		List<Candidate> candidates = new ArrayList<>(candidates(busy, 10));
+		candidates.addAll(candidates(quiet, 1));
+		assertThat(planner.plan(candidates)).extracting(Candidate::getRepository)
+			.filteredOn(busy::equals)
+			.hasSize(7);
+	}
+
+	@Test
+	void candidatesAreRankedByUrgency() {
+		Issue changed = issue("changed", NOW.minusDays(30), NOW.minusDays(1), "bug");
+		Issue newerUntriaged = issue("newer-untriaged", NOW.minusDays(2), NOW.minusDays(2));
+		Issue olderUntriaged = issue("older-untriaged", NOW.minusDays(20), NOW.minusDays(20));
+		Issue closeDue = issue("close-due", NOW.minusDays(60), NOW.minusDays(14), "waiting-for-feedback");
+		Issue reminderDue = issue("reminder-due", NOW.minusDays(60), NOW.minusDays(7), "waiting-for-feedback");
+		ChangeDetector.Pass previous = this.changeDetector.startPass(this.repository);
+		for (Issue issue : List.of(closeDue, reminderDue)) {
+			previous.requiresDispatch(issue);
+			previous.dispatched(issue, true);
+		}
+		this.changeDetector.revisitAt(this.repository, closeDue, NOW.minusDays(1));
+		this.changeDetector.revisitAt(this.repository, reminderDue, NOW.minusHours(1));
+		List<Candidate> planned = this.planner
+			.plan(candidates(changed, newerUntriaged, olderUntriaged, reminderDue, closeDue));
+		assertThat(planned).extracting(Candidate::getIssue)
+			.containsExactly(closeDue, reminderDue, olderUntriaged, newerUntriaged, changed);
+	}
+
+	@Test
+	void candidatesThatDoNotFitInRemainingQuotaAreNotPlanned() {
+		given(this.gitHub.getRateLimit("test")).willReturn(rateLimit(8));
+		Issue one = issue("one", NOW.minusDays(3), NOW.minusDays(3));
+		Issue two = issue("two", NOW.minusDays(2), NOW.minusDays(2));
+		Issue three = issue("three", NOW.minusDays(1), NOW.minusDays(1));
+		assertThat(this.planner.plan(candidates(three, two, one))).extracting(Candidate::getIssue)
+			.containsExactly(one, two);
+	}
+
+	@Test
+	void organizationsWithTheSameRateLimitShareItsRemainingQuota() {
+		RateLimit shared = rateLimit(6);
+		given(this.gitHub.getRateLimit("test")).willReturn(shared);
+		given(this.gitHub.getRateLimit("other")).willReturn(shared);
+		Repository other = repository("other");
+		ChangeDetector.Pass pass = this.changeDetector.startPass(other);
+		List<Candidate> candidates = new ArrayList<>(candidates(issue("one", NOW, NOW)));
+		Issue two = issue("two", NOW, NOW);
+		pass.requiresDispatch(two);
+		candidates.add(new Candidate(other, two, pass));
+		Issue three = issue("three", NOW, NOW);
+		pass.requiresDispatch(three);
+		candidates.add(new Candidate(other, three, pass));
+		assertThat(this.planner.plan(candidates)).hasSize(2);
+	}
+
+	@Test
+	void candidatesOfOrganizationWithUnknownRateLimitArePlanned() {
+		given(this.gitHub.getRateLimit("test")).willReturn(null);
+		assertThat(this.planner.plan(candidates(issue("one", NOW, NOW), issue("two", NOW, NOW)))).hasSize(2);
+	}
+
+	private List<Candidate> candidates(Issue... issues) {
+		ChangeDetector.Pass pass = this.changeDetector.startPass(this.repository);
+		return Arrays.stream(issues).map((issue) -> {
+			pass.requiresDispatch(issue);
+			return new Candidate(this.repository, issue, pass);
+		}).toList();
+	}
+
+	private List<Candidate> candidates(Repository repository, int count) {
+		ChangeDetector.Pass pass = this.changeDetector.startPass(repository);
+		List<Candidate> candidates = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Issue issue = issue(repository.getName() + "-" + i, NOW.minusDays(count - i), NOW.minusDays(count - i));
+			pass.requiresDispatch(issue);
+			candidates.add(new Candidate(repository, issue, pass));
+		}
+		return candidates;
+	}
+
+	private ChangeDetector.Pass completedPass(Repository repository, int issues) {
+		ChangeDetector.Pass pass = this.changeDetector.startPass(repository);
+		for (int i = 0; i < issues; i++) {
+			Issue issue = issue(repository.getName() + "-" + i, NOW, NOW);
+			pass.requiresDispatch(issue);
+			pass.dispatched(issue, true);
+		}
+		pass.complete();
+		return pass;
+	}
+
+	private Issue issue(String name, OffsetDateTime createdAt, OffsetDateTime updatedAt, String... labels) {
+		List<Label> labelList = Arrays.stream(labels).map(Label::new).toList();
+		return new Issue("https://api.github.com/repos/test/test/issues/" + name, null, null, null, null, labelList,
+				(labels.length > 0) ? new Milestone("1.0") : null, null, "open", updatedAt, name, createdAt);
+	}
+
+	private RateLimit rateLimit(int remaining) {
+		RateLimit rateLimit = mock(RateLimit.class);
+		given(rateLimit.getLimit()).willReturn(5000);
+		given(rateLimit.getRemaining()).willReturn(remaining);
+		given(rateLimit.getReset()).willReturn(Instant.now().plus(Duration.ofHours(1)).toEpochMilli());
+		return rateLimit;
+	}
+
+	private static Repository repository(String organization) {
+		return repository(organization, "test");
+	}
+
+	private static Repository repository(String organization, String name) {
+		Repository repository = new Repository();
+		repository.setOrganization(organization);
+		repository.setName(name);
+		repository.setCollaborators(Collections.emptyList());
+		return repository;
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.issuebot.github.FakeGitHub;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmark that measures how long the application takes to complete its first
+ * monitoring pass and its resident set size (RSS) at that time. The application is
+ * launched as an executable jar and as an AOT-processed application using a class data
+ * sharing archive. Each launch disables Azure Key Vault, passes stand-in credentials as
+ * arguments, and monitors a {@link FakeGitHub fake GitHub API} with a handful of
+ * repositories.
+ *
+ * @author Andy Wilkinson
+ */
+public final class StartupBenchmark {
+
+	private static final Logger log = LoggerFactory.getLogger(StartupBenchmark.class);
+
+	private static final String FIRST_PASS_COMPLETED = "Monitoring pass of";
+
+	private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+	private static final int REPOSITORIES = 5;
+
+	private static final int ISSUES = 100;
+
+	private static final List<String> LOCAL_SECRETS = List.of(
+			"--spring.cloud.azure.keyvault.secret.property-source-enabled=false",
+			"--issuebot.github.credentials.username=issue-bot", "--issuebot.github.credentials.password=local");
+
+	private final FakeGitHub gitHub;
+
+	private StartupBenchmark(FakeGitHub gitHub) {
+		this.gitHub = gitHub;
+	}
+
+	/**
+	 * Runs the benchmark.
+	 * @param args the path of the executable jar, the path of the extracted jar, the
+	 * path of the class data sharing archive, and the number of runs of each variant
+	 * @throws Exception if the benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+		try (FakeGitHub gitHub = FakeGitHub.start()) {
+			StartupBenchmark benchmark = new StartupBenchmark(gitHub);
+			int runs = Integer.parseInt(args[3]);
+			benchmark.report("Executable jar", runs, List.of("-jar", args[0]));
+			benchmark.report("AOT and CDS", runs, List.of("-XX:SharedArchiveFile=" + args[2],
+					"-Dspring.aot.enabled=true", "-cp", args[1], "io.spring.issuebot.IssueBotApplication"));
+		}
+	}
+
+	private void report(String variant, int runs, List<String> launch) throws Exception {
+		List<Result> results = new ArrayList<>();
+		for (int i = 0; i < runs; i++) {
+			results.add(run(launch));
+		}
+		results.sort(Comparator.comparing((result) -> result.timeToFirstPass));
+		Result fastest = results.get(0);
+		Result median = results.get(results.size() / 2);
+		log.info("{} time to first pass: median {}ms, min {}ms. RSS: median {}", variant,
+				median.timeToFirstPass.toMillis(), fastest.timeToFirstPass.toMillis(), formatRss(median.rss));
+	}
+
+	private Result run(List<String> launch) throws Exception {
+		for (int i = 0; i < REPOSITORIES; i++) {
+			this.gitHub.addRepository("benchmark", "repository-" + i, ISSUES);
+		}
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.addAll(launch);
+		command.addAll(LOCAL_SECRETS);
+		command.add("--issuebot.github.api-url=" + this.gitHub.getApiUrl());
+		command.add("--server.port=0");
+		for (int i = 0; i < REPOSITORIES; i++) {
+			command.add("--issuebot.monitoring.repositories[" + i + "].organization=benchmark");
+			command.add("--issuebot.monitoring.repositories[" + i + "].name=repository-" + i);
+			command.add("--issuebot.monitoring.repositories[" + i + "].collaborators[0]=" + FakeGitHub.COLLABORATOR);
+		}
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		CompletableFuture<Boolean> timeout = CompletableFuture.supplyAsync(process::destroyForcibly,
+				CompletableFuture.delayedExecutor(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.contains(FIRST_PASS_COMPLETED)) {
+					Duration timeToFirstPass = Duration.ofNanos(System.nanoTime() - start);
+					return new Result(timeToFirstPass, rss(process.pid()));
+				}
+			}
+			throw new IllegalStateException("Application exited before completing its first monitoring pass");
+		}
+		finally {
+			timeout.cancel(false);
+			process.destroy();
+			process.waitFor();
+		}
+	}
+
+	private static long rss(long pid) throws IOException {
+		Path status = Path.of("/proc", Long.toString(pid), "status");
+		if (!Files.isReadable(status)) {
+			return -1;
+		}
+		for (String line : Files.readAllLines(status)) {
+			if (line.startsWith("VmRSS:")) {
+				return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+			}
+		}
+		return -1;
+	}
+
+	private static String formatRss(long rss) {
+		return (rss < 0) ? "unknown" : (rss / (1024 * 1024)) + "MB";
+	}
+
+	private static final class Result {
+
+		private final Duration timeToFirstPass;
+
+		private final long rss;
+
+		private Result(Duration timeToFirstPass, long rss) {
+			this.timeToFirstPass = timeToFirstPass;
+			this.rss = rss;
+		}
+
+	}
+
+}
@@ -23,12 +23,12 @@ import java.util.List;
 
 import io.spring.issuebot.IssueListener;
 import io.spring.issuebot.Repository;
-import io.spring.issuebot.github.Comment;
-import io.spring.issuebot.github.Event;
 import io.spring.issuebot.github.GitHubOperations;
 import io.spring.issuebot.github.Issue;
 import io.spring.issuebot.github.Label;
+import io.spring.issuebot.github.Page;
 import io.spring.issuebot.github.StandardPage;
+import io.spring.issuebot.github.TimelineItem;
 import io.spring.issuebot.github.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -74,88 +74,129 @@ class FeedbackIssueListenerTests {
 
 	@Test
 	void feedbackRequiredForLabeledIssueWithEvent() {
-		Issue issue = new Issue(null, null, null, null, null, Collections.singletonList(new Label("required")), null,
-				null);
+		Issue issue = waitingIssue();
+		OffsetDateTime requestTime = OffsetDateTime.now();
+		given(this.gitHub.getTimelineNewestFirst(issue)).willReturn(timeline(labeled("required", requestTime)));
+		this.listener.onOpenIssue(this.repository, issue);
+		verify(this.feedbackListener).feedbackRequired(this.repository, issue, requestTime);
+	}
+
+	@Test
+	void olderItemsAreNotRetrievedOnceMostRecentLabeledEventHasBeenFound() {
+		Issue issue = waitingIssue();
 		OffsetDateTime requestTime = OffsetDateTime.now();
-		given(this.gitHub.getEvents(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Event("labeled", requestTime, new Label("required"))), () -> null));
+		given(this.gitHub.getTimelineNewestFirst(issue)).willReturn(new StandardPage<>(
+				Arrays.asList(labeled("required", requestTime), labeled("required", requestTime.minusDays(7))),
+				() -> {
+					throw new IllegalStateException("Older items should not be retrieved");
+				}));
 		this.listener.onOpenIssue(this.repository, issue);
 		verify(this.feedbackListener).feedbackRequired(this.repository, issue, requestTime);
 	}
 
 	@Test
 	void feedbackProvidedAfterCommentFromNonCollaborator() {
-		Issue issue = new Issue("issue_url", null, null, null, null, Collections.singletonList(new Label("required")),
-				null, null);
+		Issue issue = waitingIssue();
+		OffsetDateTime requestTime = OffsetDateTime.now().minusDays(1);
+		given(this.gitHub.getTimelineNewestFirst(issue))
+			.willReturn(timeline(commented("Charlie", OffsetDateTime.now()), labeled("required", requestTime)));
+		this.listener.onOpenIssue(this.repository, issue);
+		verify(this.feedbackListener).feedbackProvided(this.repository, issue);
+	}
+
+	@Test
+	void feedbackProvidedWhenLabelAndCommentAreOnDifferentPages() {
+		Issue issue = waitingIssue();
 		OffsetDateTime requestTime = OffsetDateTime.now().minusDays(1);
-		given(this.gitHub.getEvents(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Event("labeled", requestTime, new Label("required"))), () -> null));
-		given(this.gitHub.getComments(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Comment(new User("Charlie"), OffsetDateTime.now())), () -> null));
+		given(this.gitHub.getTimelineNewestFirst(issue))
+			.willReturn(new StandardPage<>(Collections.singletonList(commented("Charlie", OffsetDateTime.now())),
+					() -> timeline(labeled("required", requestTime))));
 		this.listener.onOpenIssue(this.repository, issue);
 		verify(this.feedbackListener).feedbackProvided(this.repository, issue);
 	}
 
 	@Test
 	void feedbackRequiredAfterCommentFromNonCollaboratorBeforeRequest() {
-		Issue issue = new Issue("issue_url", null, null, null, null, Collections.singletonList(new Label("required")),
-				null, null);
+		Issue issue = waitingIssue();
 		OffsetDateTime requestTime = OffsetDateTime.now().minusDays(1);
-		given(this.gitHub.getEvents(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Event("labeled", requestTime, new Label("required"))), () -> null));
-		given(this.gitHub.getComments(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Comment(new User("Charlie"), OffsetDateTime.now().minusDays(2))),
-				() -> null));
+		given(this.gitHub.getTimelineNewestFirst(issue)).willReturn(timeline(labeled("required", requestTime),
+				commented("Charlie", OffsetDateTime.now().minusDays(2))));
 		this.listener.onOpenIssue(this.repository, issue);
 		verify(this.feedbackListener).feedbackRequired(this.repository, issue, requestTime);
 	}
 
 	@Test
 	void feedbackRequiredAfterCommentFromCollaborator() {
-		Issue issue = new Issue(null, null, null, null, null, Collections.singletonList(new Label("required")), null,
-				null);
+		Issue issue = waitingIssue();
 		OffsetDateTime requestTime = OffsetDateTime.now().minusDays(1);
-		given(this.gitHub.getEvents(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Event("labeled", requestTime, new Label("required"))), () -> null));
-		given(this.gitHub.getComments(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Comment(new User("Amy"), OffsetDateTime.now())), () -> null));
+		given(this.gitHub.getTimelineNewestFirst(issue))
+			.willReturn(timeline(commented("Amy", OffsetDateTime.now()), labeled("required", requestTime)));
 		this.listener.onOpenIssue(this.repository, issue);
 		verify(this.feedbackListener).feedbackRequired(this.repository, issue, requestTime);
 	}
 
 	@Test
 	void feedbackRequiredAfterCommentFromIssueBot() {
-		Issue issue = new Issue(null, null, null, null, null, Collections.singletonList(new Label("required")), null,
-				null);
+		Issue issue = waitingIssue();
 		OffsetDateTime requestTime = OffsetDateTime.now().minusDays(1);
-		given(this.gitHub.getEvents(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Event("labeled", requestTime, new Label("required"))), () -> null));
-		given(this.gitHub.getComments(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Comment(new User("IssueBot"), OffsetDateTime.now())), () -> null));
+		given(this.gitHub.getTimelineNewestFirst(issue))
+			.willReturn(timeline(commented("IssueBot", OffsetDateTime.now()), labeled("required", requestTime)));
 		this.listener.onOpenIssue(this.repository, issue);
 		verify(this.feedbackListener).feedbackRequired(this.repository, issue, requestTime);
 	}
 
 	@Test
 	void issueWithNoMatchingLabeledEventIsIgnored() {
-		Issue issue = new Issue(null, null, null, null, null, Collections.singletonList(new Label("required")), null,
-				null);
-		OffsetDateTime requestTime = OffsetDateTime.now();
-		given(this.gitHub.getEvents(issue)).willReturn(new StandardPage<>(
-				Collections.singletonList(new Event("labeled", requestTime, new Label("something-else"))), () -> null));
+		Issue issue = waitingIssue();
+		given(this.gitHub.getTimelineNewestFirst(issue))
+			.willReturn(timeline(labeled("something-else", OffsetDateTime.now())));
 		this.listener.onOpenIssue(this.repository, issue);
 		verifyNoMoreInteractions(this.feedbackListener);
 	}
 
 	@Test
 	void eventsWithWrongTypeAreIgnored() {
-		Issue issue = new Issue(null, null, null, null, null, Collections.singletonList(new Label("required")), null,
-				null);
-		OffsetDateTime requestTime = OffsetDateTime.now();
-		given(this.gitHub.getEvents(issue)).willReturn(
-				new StandardPage<>(Collections.singletonList(new Event("milestoned", requestTime, null)), () -> null));
+		Issue issue = waitingIssue();
+		given(this.gitHub.getTimelineNewestFirst(issue))
+			.willReturn(timeline(new TimelineItem("milestoned", OffsetDateTime.now(), null, null, null)));
 		this.listener.onOpenIssue(this.repository, issue);
 		verifyNoMoreInteractions(this.feedbackListener);
 	}
 
+	@Test
+	void whenCandidatesAreNotFromListingOpenIssuesAreIgnored() {
+		FeedbackIssueListener listener = new FeedbackIssueListener(this.gitHub, "required",
+				Collections.singletonList(this.repository), "IssueBot", this.feedbackListener, false);
+		listener.onOpenIssue(this.repository, waitingIssue());
+		verifyNoMoreInteractions(this.gitHub, this.feedbackListener);
+	}
+
+	@Test
+	void whenCandidatesAreNotFromListingFeedbackCandidatesAreProcessed() {
+		FeedbackIssueListener listener = new FeedbackIssueListener(this.gitHub, "required",
+				Collections.singletonList(this.repository), "IssueBot", this.feedbackListener, false);
+		Issue issue = waitingIssue();
+		OffsetDateTime requestTime = OffsetDateTime.now();
+		given(this.gitHub.getTimelineNewestFirst(issue)).willReturn(timeline(labeled("required", requestTime)));
+		listener.onFeedbackCandidate(this.repository, issue);
+		verify(this.feedbackListener).feedbackRequired(this.repository, issue, requestTime);
+	}
+
+	private Issue waitingIssue() {
+		return new Issue("issue_url", null, null, null, null, Collections.singletonList(new Label("required")), null,
+				null);
+	}
+
+	private Page<TimelineItem> timeline(TimelineItem... items) {
+		return new StandardPage<>(Arrays.asList(items), () -> null);
+	}
+
+	private TimelineItem labeled(String label, OffsetDateTime time) {
+		return new TimelineItem("labeled", time, new Label(label), null, new User("Amy"));
+	}
+
+	private TimelineItem commented(String user, OffsetDateTime time) {
+		return new TimelineItem("commented", time, null, new User(user), null);
+	}
+
 }
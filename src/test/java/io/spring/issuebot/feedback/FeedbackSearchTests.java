@@ -0,0 +1,187 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.feedback;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.spring.issuebot.MonitoredRepositories;
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.RateLimit;
+import io.spring.issuebot.github.StandardPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Tests for {@link FeedbackSearch}.
+ *
+ * @author Andy Wilkinson
+ */
+class FeedbackSearchTests {
+
+	private final GitHubOperations gitHub = mock(GitHubOperations.class);
+
+	private final FeedbackIssueListener listener = mock(FeedbackIssueListener.class);
+
+	private final Repository repositoryOne = new Repository();
+
+	private final Repository repositoryTwo = new Repository();
+
+	private final Repository repositoryThree = new Repository();
+
+	@BeforeEach
+	void setUp() {
+		this.repositoryOne.setOrganization("test");
+		this.repositoryOne.setName("one");
+		this.repositoryTwo.setOrganization("test");
+		this.repositoryTwo.setName("two");
+		this.repositoryThree.setOrganization("other");
+		this.repositoryThree.setName("three");
+	}
+
+	@Test
+	void eachOrganizationIsSearchedOnce() {
+		search(true).search();
+		verify(this.gitHub).searchIssues("org:test label:\"waiting\" is:open");
+		verify(this.gitHub).searchIssues("org:other label:\"waiting\" is:open");
+	}
+
+	@Test
+	void matchingIssuesInMonitoredRepositoriesAreCandidates() {
+		Issue one = issue("test", "one", 1);
+		Issue two = issue("test", "two", 2);
+		Issue unmonitored = issue("test", "unmonitored", 3);
+		given(this.gitHub.searchIssues("org:test label:\"waiting\" is:open"))
+			.willReturn(new StandardPage<>(Arrays.asList(one, unmonitored),
+					() -> new StandardPage<>(Collections.singletonList(two), () -> null)));
+		search(true).search();
+		verify(this.listener).onFeedbackCandidate(this.repositoryOne, one);
+		verify(this.listener).onFeedbackCandidate(this.repositoryTwo, two);
+		verifyNoMoreInteractions(this.listener);
+	}
+
+	@Test
+	void failureOfListenerDoesNotPreventProcessingOfOtherCandidates() {
+		Issue one = issue("test", "one", 1);
+		Issue two = issue("test", "two", 2);
+		given(this.gitHub.searchIssues("org:test label:\"waiting\" is:open"))
+			.willReturn(new StandardPage<>(Arrays.asList(one, two), () -> null));
+		willThrow(new RuntimeException()).given(this.listener).onFeedbackCandidate(this.repositoryOne, one);
+		search(true).search();
+		verify(this.listener).onFeedbackCandidate(this.repositoryTwo, two);
+	}
+
+	@Test
+	void failureOfSearchDoesNotPreventSearchOfOtherOrganizations() {
+		given(this.gitHub.searchIssues("org:test label:\"waiting\" is:open")).willThrow(new RuntimeException());
+		search(true).search();
+		verify(this.gitHub).searchIssues("org:other label:\"waiting\" is:open");
+	}
+
+	@Test
+	void whenDisabledNoSearchesAreMade() {
+		search(false).search();
+		verify(this.gitHub, never()).searchIssues(any());
+		verifyNoInteractions(this.listener);
+	}
+
+	@Test
+	void organizationsOfRepositoriesAddedAfterCreationAreSearched() {
+		MonitoredRepositories repositories = new MonitoredRepositories(Arrays.asList(this.repositoryOne));
+		FeedbackSearch search = new FeedbackSearch(this.gitHub, () -> this.listener, "waiting", repositories, true,
+				Clock.systemUTC());
+		search.search();
+		verify(this.gitHub, never()).searchIssues("org:other label:\"waiting\" is:open");
+		repositories.update(Arrays.asList(this.repositoryOne, this.repositoryThree));
+		search.search();
+		verify(this.gitHub).searchIssues("org:other label:\"waiting\" is:open");
+	}
+
+	@Test
+	void searchIsResumedOnceExhaustedSearchRateLimitHasReset() {
+		Issue one = issue("test", "one", 1);
+		Issue two = issue("test", "two", 2);
+		given(this.gitHub.searchIssues("org:test label:\"waiting\" is:open"))
+			.willReturn(new StandardPage<>(Arrays.asList(one),
+					() -> new StandardPage<>(Collections.singletonList(two), () -> null)));
+		RateLimit exhausted = rateLimit(0, Instant.now().plusMillis(500));
+		given(this.gitHub.getSearchRateLimit("test")).willReturn(null, exhausted, null);
+		FeedbackSearch search = search(true);
+		search.start();
+		try {
+			verify(this.listener, timeout(5000)).onFeedbackCandidate(this.repositoryOne, one);
+			verify(this.gitHub, timeout(5000)).searchIssues("org:other label:\"waiting\" is:open");
+			verify(this.listener, never()).onFeedbackCandidate(this.repositoryTwo, two);
+			verify(this.listener, timeout(5000)).onFeedbackCandidate(this.repositoryTwo, two);
+			verify(this.gitHub).searchIssues("org:test label:\"waiting\" is:open");
+		}
+		finally {
+			search.stop();
+		}
+	}
+
+	@Test
+	void organizationWithSearchAwaitingRateLimitResetIsNotSearchedAgain() {
+		RateLimit exhausted = rateLimit(0, Instant.now().plus(Duration.ofHours(1)));
+		given(this.gitHub.getSearchRateLimit("test")).willReturn(exhausted);
+		FeedbackSearch search = search(true);
+		search.start();
+		try {
+			verify(this.gitHub, timeout(5000)).searchIssues("org:other label:\"waiting\" is:open");
+			search.search();
+			verify(this.gitHub, never()).searchIssues("org:test label:\"waiting\" is:open");
+			verify(this.gitHub, timeout(5000).times(2)).searchIssues("org:other label:\"waiting\" is:open");
+		}
+		finally {
+			search.stop();
+		}
+	}
+
+	private FeedbackSearch search(boolean enabled) {
+		return new FeedbackSearch(this.gitHub, () -> this.listener, "waiting",
+				new MonitoredRepositories(Arrays.asList(this.repositoryOne, this.repositoryTwo, this.repositoryThree)),
+				enabled, Clock.systemUTC());
+	}
+
+	private RateLimit rateLimit(int remaining, Instant reset) {
+		RateLimit rateLimit = mock(RateLimit.class);
+		given(rateLimit.getRemaining()).willReturn(remaining);
+		given(rateLimit.getReset()).willReturn(reset.toEpochMilli());
+		return rateLimit;
+	}
+
+	private Issue issue(String organization, String name, int number) {
+		return new Issue("https://api.github.com/repos/" + organization + "/" + name + "/issues/" + number, null, null,
+				null, null, null, null, null);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2023 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,15 @@
 
 package io.spring.issuebot.feedback;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 
 import io.spring.issuebot.IssueListener;
 import io.spring.issuebot.Repository;
+import io.spring.issuebot.RevisitRegistry;
 import io.spring.issuebot.github.GitHubOperations;
 import io.spring.issuebot.github.Issue;
 import io.spring.issuebot.github.Issue.ClosureReason;
@@ -46,7 +49,8 @@ class StandardFeedbackListenerTests {
 
 	private final FeedbackListener listener = new StandardFeedbackListener(this.gitHub, "feedback-provided",
 			"feedback-required", "feedback-reminder", "Please provide requested feedback",
-			"Closing due to lack of feedback", Collections.singletonList(this.issueListener));
+			"Closing due to lack of feedback", Collections.singletonList(this.issueListener), RevisitRegistry.NONE,
+			Clock.systemUTC());
 
 	private final Issue issue = new Issue(null, null, null, null, null, new ArrayList<>(), null, null);
 
@@ -124,10 +128,58 @@ class StandardFeedbackListenerTests {
 		verify(this.issueListener).onIssueClosure(this.repository, this.issue);
 	}
 
+	@Test
+	void revisitIsRegisteredForReminderWhenReminderIsNotYetDue() {
+		RevisitRegistry revisitRegistry = mock(RevisitRegistry.class);
+		OffsetDateTime requestTime = OffsetDateTime.now().minusDays(1);
+		listenerWithRevisits(revisitRegistry).feedbackRequired(this.repository, this.issue, requestTime);
+		verify(revisitRegistry).revisitAt(this.repository, this.issue, requestTime.plusDays(7));
+	}
+
+	@Test
+	void revisitIsRegisteredForClosureWhenReminderIsDue() {
+		RevisitRegistry revisitRegistry = mock(RevisitRegistry.class);
+		OffsetDateTime requestTime = OffsetDateTime.now().minusDays(8);
+		listenerWithRevisits(revisitRegistry).feedbackRequired(this.repository, this.issue, requestTime);
+		verify(revisitRegistry).revisitAt(this.repository, this.issue, requestTime.plusDays(14));
+	}
+
+	@Test
+	void revisitIsNotRegisteredWhenIssueIsClosed() {
+		RevisitRegistry revisitRegistry = mock(RevisitRegistry.class);
+		listenerWithRevisits(revisitRegistry).feedbackRequired(this.repository, this.issue,
+				OffsetDateTime.now().minusDays(15));
+		verifyNoMoreInteractions(revisitRegistry);
+	}
+
 	@Test
 	void pullRequestsAreIgnoredWhenFeedbackIsOverdue() {
 		this.listener.feedbackRequired(this.repository, this.pullRequest, OffsetDateTime.now().minusDays(15));
 		verifyNoMoreInteractions(this.gitHub, this.issueListener);
 	}
 
+	@Test
+	void reminderAndClosureAreDueRelativeToTheClock() {
+		OffsetDateTime requestTime = OffsetDateTime.parse("2026-01-01T00:00:00Z");
+		listenerAt(requestTime.plusDays(6)).feedbackRequired(this.repository, this.issue, requestTime);
+		verifyNoMoreInteractions(this.gitHub);
+		listenerAt(requestTime.plusDays(8)).feedbackRequired(this.repository, this.issue, requestTime);
+		verify(this.gitHub).addComment(this.issue, "Please provide requested feedback");
+		listenerAt(requestTime.plusDays(15)).feedbackRequired(this.repository, this.issue, requestTime);
+		verify(this.gitHub).close(this.issue, ClosureReason.NOT_PLANNED);
+	}
+
+	private FeedbackListener listenerAt(OffsetDateTime now) {
+		return new StandardFeedbackListener(this.gitHub, "feedback-provided", "feedback-required",
+				"feedback-reminder", "Please provide requested feedback", "Closing due to lack of feedback",
+				Collections.singletonList(this.issueListener), RevisitRegistry.NONE,
+				Clock.fixed(now.toInstant(), ZoneOffset.UTC));
+	}
+
+	private FeedbackListener listenerWithRevisits(RevisitRegistry revisitRegistry) {
+		return new StandardFeedbackListener(this.gitHub, "feedback-provided", "feedback-required",
+				"feedback-reminder", "Please provide requested feedback", "Closing due to lack of feedback",
+				Collections.singletonList(this.issueListener), revisitRegistry, Clock.systemUTC());
+	}
+
 }
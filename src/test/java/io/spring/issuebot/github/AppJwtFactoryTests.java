@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import io.spring.issuebot.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AppJwtFactory}.
+ *
+ * @author Andy Wilkinson
+ */
+class AppJwtFactoryTests {
+
+	private final KeyPair keyPair = generateKeyPair();
+
+	private final MutableClock clock = new MutableClock(Instant.ofEpochSecond(1000000));
+
+	@Test
+	void jwtIsSignedUsingPkcs8PrivateKey() throws Exception {
+		String privateKey = pem("PRIVATE KEY", this.keyPair.getPrivate().getEncoded());
+		String jwt = new AppJwtFactory("1234", privateKey, this.clock).getJwt();
+		String[] parts = jwt.split("\\.");
+		assertThat(parts).hasSize(3);
+		assertThat(decode(parts[0])).isEqualTo("{\"alg\":\"RS256\",\"typ\":\"JWT\"}");
+		assertThat(decode(parts[1])).isEqualTo("{\"iat\":999940,\"exp\":1000540,\"iss\":\"1234\"}");
+		assertThat(verify(parts)).isTrue();
+	}
+
+	@Test
+	void jwtIsSignedUsingPkcs1PrivateKey() throws Exception {
+		String privateKey = pem("RSA PRIVATE KEY", toPkcs1(this.keyPair.getPrivate().getEncoded()));
+		String jwt = new AppJwtFactory("1234", privateKey, this.clock).getJwt();
+		assertThat(verify(jwt.split("\\."))).isTrue();
+	}
+
+	@Test
+	void jwtIsReusedUntilShortlyBeforeItExpires() {
+		String privateKey = pem("PRIVATE KEY", this.keyPair.getPrivate().getEncoded());
+		AppJwtFactory factory = new AppJwtFactory("1234", privateKey, this.clock);
+		String jwt = factory.getJwt();
+		this.clock.advance(Duration.ofMinutes(7));
+		assertThat(factory.getJwt()).isEqualTo(jwt);
+		this.clock.advance(Duration.ofMinutes(1));
+		assertThat(factory.getJwt()).isNotEqualTo(jwt);
+	}
+
+	private boolean verify(String[] parts) throws Exception {
+		Signature signature = Signature.getInstance("SHA256withRSA");
+		signature.initVerify(this.keyPair.getPublic());
+		signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+		return signature.verify(Base64.getUrlDecoder().decode(parts[2]));
+	}
+
+	private String decode(String part) {
+		return new String(Base64.getUrlDecoder().decode(part), StandardCharsets.UTF_8);
+	}
+
+	private String pem(String type, byte[] der) {
+		return "-----BEGIN " + type + "-----\n" + Base64.getMimeEncoder().encodeToString(der) + "\n-----END " + type
+				+ "-----\n";
+	}
+
+	private byte[] toPkcs1(byte[] pkcs8) {
+		int index = skipHeader(pkcs8, 0);
+		index += 3;
+		index += 15;
+		index = skipHeader(pkcs8, index);
+		return Arrays.copyOfRange(pkcs8, index, pkcs8.length);
+	}
+
+	private int skipHeader(byte[] der, int index) {
+		int length = der[index + 1] & 0xff;
+		return index + 2 + (((length & 0x80) != 0) ? (length & 0x7f) : 0);
+	}
+
+	private static KeyPair generateKeyPair() {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return generator.generateKeyPair();
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
@@ -0,0 +1,782 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An in-process fake of the parts of GitHub's REST API that are used by Issue Bot. It
+ * serves synthetic repositories with paginated issues, comments, events, timelines and
+ * issue searches, returns {@code Link} and {@code X-RateLimit-*} headers, and can inject
+ * latency and errors. The requests that it handles and the time taken to handle them are
+ * recorded.
+ *
+ * @author Andy Wilkinson
+ */
+public final class FakeGitHub implements AutoCloseable {
+
+	/**
+	 * Login of the user that opens some of the synthetic issues and that should be
+	 * configured as a collaborator of the synthetic repositories.
+	 */
+	public static final String COLLABORATOR = "collaborator";
+
+	/**
+	 * Label applied to synthetic issues that are waiting for feedback.
+	 */
+	public static final String WAITING_FOR_FEEDBACK = "status: waiting-for-feedback";
+
+	private static final Pattern ISSUES = Pattern.compile("/repos/([^/]+)/([^/]+)/issues");
+
+	private static final Pattern ISSUE = Pattern.compile("/repos/([^/]+)/([^/]+)/issues/(\\d+)");
+
+	private static final Pattern ISSUE_RESOURCE = Pattern
+		.compile("/repos/([^/]+)/([^/]+)/issues/(\\d+)/(comments|events|labels|timeline)(?:/(.+))?");
+
+	private static final Pattern SEARCH_ORG = Pattern.compile("org:(\\S+)");
+
+	private static final Pattern SEARCH_LABEL = Pattern.compile("label:\"([^\"]+)\"");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Map<String, FakeRepository> repositories = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+	private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+	private final Clock clock;
+
+	private final ExecutorService executor;
+
+	private final HttpServer server;
+
+	private final String apiUrl;
+
+	private volatile Duration latency = Duration.ZERO;
+
+	private volatile Duration jitter = Duration.ZERO;
+
+	private volatile double errorRate;
+
+	private final Quota core = new Quota(5000, Duration.ofHours(1));
+
+	private final Quota search = new Quota(30, Duration.ofMinutes(1));
+
+	private FakeGitHub(Clock clock) {
+		this.clock = clock;
+		this.executor = Executors.newCachedThreadPool();
+		try {
+			this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(this.executor);
+		this.server.start();
+		this.apiUrl = "http://localhost:" + this.server.getAddress().getPort();
+	}
+
+	/**
+	 * Starts a new fake that uses the system clock.
+	 * @return the fake
+	 */
+	public static FakeGitHub start() {
+		return start(Clock.systemUTC());
+	}
+
+	/**
+	 * Starts a new fake that uses the given {@code clock} for the timestamps of the
+	 * synthetic data and for its rate limit windows.
+	 * @param clock the clock
+	 * @return the fake
+	 */
+	public static FakeGitHub start(Clock clock) {
+		return new FakeGitHub(clock);
+	}
+
+	/**
+	 * Returns the URL of the fake's API.
+	 * @return the API URL
+	 */
+	public String getApiUrl() {
+		return this.apiUrl;
+	}
+
+	/**
+	 * Adds a repository with the given number of synthetic open issues. The issues are
+	 * generated deterministically from the repository's organization and name. Some are
+	 * opened by the {@link #COLLABORATOR collaborator}, some are labelled, some are
+	 * {@link #WAITING_FOR_FEEDBACK waiting for feedback}, and each has comments and
+	 * events.
+	 * @param organization the organization that owns the repository
+	 * @param name the name of the repository
+	 * @param issues the number of issues
+	 */
+	public void addRepository(String organization, String name, int issues) {
+		FakeRepository repository = new FakeRepository();
+		Random random = new Random((organization + "/" + name).hashCode());
+		Instant now = this.clock.instant().truncatedTo(ChronoUnit.SECONDS);
+		for (int number = 1; number <= issues; number++) {
+			repository.issues.put(number, FakeIssue.generate(number, random, now));
+		}
+		this.repositories.put(organization + "/" + name, repository);
+	}
+
+	/**
+	 * Opens a new issue in the given repository, created now by the given {@code user}.
+	 * @param organization the organization that owns the repository
+	 * @param name the name of the repository
+	 * @param user the login of the user that opened the issue
+	 * @return the number of the new issue
+	 */
+	public int openIssue(String organization, String name, String user) {
+		FakeRepository repository = repository(organization, name);
+		synchronized (repository) {
+			int number = repository.issues.keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+			repository.issues.put(number, new FakeIssue(number, user, this.clock.instant()));
+			return number;
+		}
+	}
+
+	/**
+	 * Adds a comment, made now by the given {@code user}, to an issue.
+	 * @param organization the organization that owns the repository
+	 * @param name the name of the repository
+	 * @param number the number of the issue
+	 * @param user the login of the user that made the comment
+	 */
+	public void comment(String organization, String name, int number, String user) {
+		FakeIssue issue = repository(organization, name).issues.get(number);
+		Instant now = this.clock.instant();
+		issue.comments.add(new FakeComment(user, now));
+		issue.updatedAt = now;
+	}
+
+	/**
+	 * Adds a label to an issue.
+	 * @param organization the organization that owns the repository
+	 * @param name the name of the repository
+	 * @param number the number of the issue
+	 * @param label the label
+	 */
+	public void label(String organization, String name, int number, String label) {
+		repository(organization, name).issues.get(number).addLabel(label, this.clock.instant());
+	}
+
+	/**
+	 * Closes an issue.
+	 * @param organization the organization that owns the repository
+	 * @param name the name of the repository
+	 * @param number the number of the issue
+	 */
+	public void closeIssue(String organization, String name, int number) {
+		repository(organization, name).issues.get(number).update("closed", this.clock.instant());
+	}
+
+	/**
+	 * Returns the numbers of the open issues in the given repository, newest first.
+	 * @param organization the organization that owns the repository
+	 * @param name the name of the repository
+	 * @return the numbers of the open issues
+	 */
+	public List<Integer> getOpenIssues(String organization, String name) {
+		return repository(organization, name).openIssues().stream().map((issue) -> issue.number).toList();
+	}
+
+	/**
+	 * Returns the labels of an issue.
+	 * @param organization the organization that owns the repository
+	 * @param name the name of the repository
+	 * @param number the number of the issue
+	 * @return the labels
+	 */
+	public List<String> getLabels(String organization, String name, int number) {
+		return List.copyOf(repository(organization, name).issues.get(number).labels);
+	}
+
+	/**
+	 * Sets the latency that is added to every request.
+	 * @param latency the fixed latency
+	 * @param jitter the maximum random latency that is added to the fixed latency
+	 */
+	public void setLatency(Duration latency, Duration jitter) {
+		this.latency = latency;
+		this.jitter = jitter;
+	}
+
+	/**
+	 * Sets the proportion of requests, between 0 and 1, that fail with a
+	 * {@code 502 Bad Gateway} response.
+	 * @param errorRate the error rate
+	 */
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	/**
+	 * Sets the number of requests that are permitted in each hour-long rate limit
+	 * window. Once the limit is exhausted, requests fail with a {@code 403 Forbidden}
+	 * response until the window resets.
+	 * @param rateLimit the rate limit
+	 */
+	public void setRateLimit(int rateLimit) {
+		this.core.setLimit(rateLimit);
+	}
+
+	/**
+	 * Sets the number of searches that are permitted in each minute-long search rate
+	 * limit window. Once the limit is exhausted, searches fail with a
+	 * {@code 403 Forbidden} response until the window resets.
+	 * @param rateLimit the search rate limit
+	 */
+	public void setSearchRateLimit(int rateLimit) {
+		this.search.setLimit(rateLimit);
+	}
+
+	/**
+	 * Returns the total number of requests that have been received.
+	 * @return the number of requests
+	 */
+	public long getRequestCount() {
+		return this.requests.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	/**
+	 * Returns the number of requests that have been received, keyed by method and
+	 * endpoint. For example, {@code GET /repos/{owner}/{repo}/issues}.
+	 * @return the number of requests by endpoint
+	 */
+	public Map<String, Long> getRequestCounts() {
+		return this.requests.entrySet()
+			.stream()
+			.collect(Collectors.toMap(Map.Entry::getKey, (entry) -> entry.getValue().sum(), Long::sum, TreeMap::new));
+	}
+
+	/**
+	 * Returns the given percentile of the time taken to handle the requests that have
+	 * been received, including any injected latency.
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the latency
+	 */
+	public Duration getLatencyPercentile(double percentile) {
+		long[] sorted = this.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+		if (sorted.length == 0) {
+			return Duration.ZERO;
+		}
+		int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+		return Duration.ofNanos(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+	}
+
+	/**
+	 * Clears the record of the requests that have been received.
+	 */
+	public void resetStatistics() {
+		this.requests.clear();
+		this.latencies.clear();
+	}
+
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		long start = System.nanoTime();
+		try {
+			delay();
+			URI uri = exchange.getRequestURI();
+			String method = exchange.getRequestMethod();
+			this.requests.computeIfAbsent(method + " " + endpoint(uri.getPath()), (key) -> new LongAdder())
+				.increment();
+			Response response;
+			Quota quota = (uri.getPath().startsWith("/search/")) ? this.search : this.core;
+			int remaining = quota.consume(this.clock.instant());
+			if (remaining < 0) {
+				response = Response.error(403, "API rate limit exceeded");
+			}
+			else if (ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+				response = Response.error(502, "Server Error");
+			}
+			else {
+				response = route(method, uri, exchange.getRequestBody().readAllBytes());
+			}
+			respond(exchange, response, quota, Math.max(0, remaining));
+		}
+		catch (Exception ex) {
+			respond(exchange, Response.error(500, ex.getMessage()), this.core, 0);
+		}
+		finally {
+			exchange.close();
+			this.latencies.add(System.nanoTime() - start);
+		}
+	}
+
+	private void delay() throws InterruptedException {
+		long millis = this.latency.toMillis();
+		long jitter = this.jitter.toMillis();
+		if (jitter > 0) {
+			millis += ThreadLocalRandom.current().nextLong(jitter + 1);
+		}
+		if (millis > 0) {
+			Thread.sleep(millis);
+		}
+	}
+
+	private static String endpoint(String path) {
+		return path.replaceFirst("^/repos/[^/]+/[^/]+", "/repos/{owner}/{repo}")
+			.replaceFirst("/issues/\\d+", "/issues/{number}")
+			.replaceFirst("/labels/.+$", "/labels/{name}");
+	}
+
+	private Response route(String method, URI uri, byte[] body) throws IOException {
+		String path = uri.getPath();
+		if ("/search/issues".equals(path) && "GET".equals(method)) {
+			return searchIssues(uri);
+		}
+		Matcher matcher = ISSUES.matcher(path);
+		if (matcher.matches() && "GET".equals(method)) {
+			FakeRepository repository = this.repositories.get(matcher.group(1) + "/" + matcher.group(2));
+			if (repository == null) {
+				return Response.error(404, "Not Found");
+			}
+			List<Map<String, Object>> issues = repository.openIssues()
+				.stream()
+				.map((issue) -> issue.toJson(issueUrl(matcher.group(1), matcher.group(2), issue.number)))
+				.toList();
+			return page(uri, issues);
+		}
+		matcher = ISSUE.matcher(path);
+		if (matcher.matches()) {
+			FakeIssue issue = issue(matcher);
+			if (issue == null) {
+				return Response.error(404, "Not Found");
+			}
+			if ("PATCH".equals(method)) {
+				Map<?, ?> update = this.objectMapper.readValue(body, Map.class);
+				issue.update((String) update.get("state"), this.clock.instant());
+			}
+			return Response.ok(issue.toJson(issueUrl(matcher.group(1), matcher.group(2), issue.number)));
+		}
+		matcher = ISSUE_RESOURCE.matcher(path);
+		if (matcher.matches()) {
+			FakeIssue issue = issue(matcher);
+			if (issue == null) {
+				return Response.error(404, "Not Found");
+			}
+			return routeIssueResource(method, uri, body, issue, matcher.group(4), matcher.group(5));
+		}
+		return Response.error(404, "Not Found");
+	}
+
+	private Response searchIssues(URI uri) {
+		String query = URLDecoder.decode(query(uri).getOrDefault("q", ""), StandardCharsets.UTF_8);
+		Matcher organization = SEARCH_ORG.matcher(query);
+		Matcher label = SEARCH_LABEL.matcher(query);
+		boolean open = query.contains("is:open");
+		List<Map<String, Object>> items = new ArrayList<>();
+		this.repositories.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach((entry) -> {
+			String[] owner = entry.getKey().split("/");
+			if (organization.find(0) && !owner[0].equals(organization.group(1))) {
+				return;
+			}
+			Collection<FakeIssue> issues = (open) ? entry.getValue().openIssues() : entry.getValue().issues.values();
+			for (FakeIssue issue : issues) {
+				if (!label.find(0) || issue.labels.contains(label.group(1))) {
+					items.add(issue.toJson(issueUrl(owner[0], owner[1], issue.number)));
+				}
+			}
+		});
+		Response page = page(uri, items);
+		Response response = Response.ok(Map.of("total_count", items.size(), "items", page.body));
+		response.headers.putAll(page.headers);
+		return response;
+	}
+
+	private Response routeIssueResource(String method, URI uri, byte[] body, FakeIssue issue, String resource,
+			String name) throws IOException {
+		Instant now = this.clock.instant();
+		if ("comments".equals(resource)) {
+			if ("POST".equals(method)) {
+				FakeComment comment = new FakeComment("issue-bot", now);
+				issue.comments.add(comment);
+				issue.updatedAt = now;
+				return Response.ok(comment.toJson());
+			}
+			return page(uri, issue.comments.stream().map(FakeComment::toJson).toList());
+		}
+		if ("events".equals(resource)) {
+			return page(uri, issue.events.stream().map(FakeEvent::toJson).toList());
+		}
+		if ("timeline".equals(resource)) {
+			return page(uri, issue.timeline());
+		}
+		if ("POST".equals(method)) {
+			for (Object label : this.objectMapper.readValue(body, List.class)) {
+				issue.addLabel((String) label, now);
+			}
+		}
+		else if ("DELETE".equals(method)) {
+			issue.removeLabel(URLDecoder.decode(name, StandardCharsets.UTF_8), now);
+		}
+		return Response.ok(issue.labelsJson());
+	}
+
+	private FakeRepository repository(String organization, String name) {
+		FakeRepository repository = this.repositories.get(organization + "/" + name);
+		if (repository == null) {
+			throw new IllegalArgumentException("Unknown repository " + organization + "/" + name);
+		}
+		return repository;
+	}
+
+	private FakeIssue issue(Matcher matcher) {
+		FakeRepository repository = this.repositories.get(matcher.group(1) + "/" + matcher.group(2));
+		return (repository != null) ? repository.issues.get(Integer.parseInt(matcher.group(3))) : null;
+	}
+
+	private String issueUrl(String organization, String name, int number) {
+		return this.apiUrl + "/repos/" + organization + "/" + name + "/issues/" + number;
+	}
+
+	private Response page(URI uri, List<?> items) {
+		Map<String, String> query = query(uri);
+		int perPage = Math.min(100, Integer.parseInt(query.getOrDefault("per_page", "30")));
+		int page = Math.max(1, Integer.parseInt(query.getOrDefault("page", "1")));
+		int last = Math.max(1, (items.size() + perPage - 1) / perPage);
+		List<?> content = items.subList(Math.min((page - 1) * perPage, items.size()),
+				Math.min(page * perPage, items.size()));
+		List<String> links = new ArrayList<>();
+		if (page < last) {
+			links.add(link(uri, query, page + 1, "next"));
+			links.add(link(uri, query, last, "last"));
+		}
+		if (page > 1) {
+			links.add(link(uri, query, 1, "first"));
+			links.add(link(uri, query, page - 1, "prev"));
+		}
+		Response response = Response.ok(content);
+		if (!links.isEmpty()) {
+			response.headers.put("Link", String.join(", ", links));
+		}
+		return response;
+	}
+
+	private String link(URI uri, Map<String, String> query, int page, String rel) {
+		Map<String, String> linkQuery = new LinkedHashMap<>(query);
+		linkQuery.put("page", Integer.toString(page));
+		String queryString = linkQuery.entrySet()
+			.stream()
+			.map((entry) -> entry.getKey() + "=" + entry.getValue())
+			.collect(Collectors.joining("&"));
+		return "<" + this.apiUrl + uri.getRawPath() + "?" + queryString + ">; rel=\"" + rel + "\"";
+	}
+
+	private static Map<String, String> query(URI uri) {
+		Map<String, String> query = new LinkedHashMap<>();
+		if (uri.getRawQuery() != null) {
+			for (String parameter : uri.getRawQuery().split("&")) {
+				int separator = parameter.indexOf('=');
+				if (separator > 0) {
+					query.put(parameter.substring(0, separator), parameter.substring(separator + 1));
+				}
+			}
+		}
+		return query;
+	}
+
+	private void respond(HttpExchange exchange, Response response, Quota quota, int remaining) throws IOException {
+		byte[] body = this.objectMapper.writeValueAsBytes(response.body);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.getResponseHeaders().set("X-RateLimit-Limit", Integer.toString(quota.limit()));
+		exchange.getResponseHeaders().set("X-RateLimit-Remaining", Integer.toString(remaining));
+		exchange.getResponseHeaders().set("X-RateLimit-Reset",
+				Long.toString(quota.resetEpochSecond(this.clock.instant())));
+		exchange.getResponseHeaders().set("X-RateLimit-Resource", (quota == this.search) ? "search" : "core");
+		response.headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+		exchange.sendResponseHeaders(response.status, body.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+
+	private static final class Quota {
+
+		private final Duration window;
+
+		private int limit;
+
+		private int remaining;
+
+		private Instant reset;
+
+		private Quota(int limit, Duration window) {
+			this.limit = limit;
+			this.window = window;
+		}
+
+		private synchronized void setLimit(int limit) {
+			this.limit = limit;
+			this.reset = null;
+		}
+
+		private synchronized int limit() {
+			return this.limit;
+		}
+
+		private synchronized int consume(Instant now) {
+			if (this.reset == null || !now.isBefore(this.reset)) {
+				this.reset = now.plus(this.window).truncatedTo(ChronoUnit.SECONDS);
+				this.remaining = this.limit;
+			}
+			if (this.remaining == 0) {
+				return -1;
+			}
+			return --this.remaining;
+		}
+
+		private synchronized long resetEpochSecond(Instant now) {
+			return (this.reset != null) ? this.reset.getEpochSecond() : now.getEpochSecond();
+		}
+
+	}
+
+	private static final class Response {
+
+		private final int status;
+
+		private final Object body;
+
+		private final Map<String, String> headers = new LinkedHashMap<>();
+
+		private Response(int status, Object body) {
+			this.status = status;
+			this.body = body;
+		}
+
+		private static Response ok(Object body) {
+			return new Response(200, body);
+		}
+
+		private static Response error(int status, String message) {
+			return new Response(status, Map.of("message", String.valueOf(message)));
+		}
+
+	}
+
+	private static final class FakeRepository {
+
+		private final Map<Integer, FakeIssue> issues = new ConcurrentHashMap<>();
+
+		private List<FakeIssue> openIssues() {
+			return this.issues.values()
+				.stream()
+				.filter((issue) -> "open".equals(issue.state))
+				.sorted(Comparator.comparingInt((FakeIssue issue) -> issue.number).reversed())
+				.toList();
+		}
+
+	}
+
+	private static final class FakeIssue {
+
+		private final int number;
+
+		private final String user;
+
+		private final Instant createdAt;
+
+		private final List<String> labels = new CopyOnWriteArrayList<>();
+
+		private final List<FakeComment> comments = new CopyOnWriteArrayList<>();
+
+		private final List<FakeEvent> events = new CopyOnWriteArrayList<>();
+
+		private volatile String state = "open";
+
+		private volatile Instant updatedAt;
+
+		private FakeIssue(int number, String user, Instant createdAt) {
+			this.number = number;
+			this.user = user;
+			this.createdAt = createdAt;
+			this.updatedAt = createdAt;
+		}
+
+		private static FakeIssue generate(int number, Random random, Instant now) {
+			Instant createdAt = now.minus(Duration.ofMinutes(random.nextInt(365 * 24 * 60) + 60));
+			String user = (random.nextInt(4) == 0) ? COLLABORATOR : "user-" + random.nextInt(100);
+			FakeIssue issue = new FakeIssue(number, user, createdAt);
+			Duration age = Duration.between(createdAt, now);
+			int labels = random.nextInt(10);
+			if (labels >= 4) {
+				String label = (labels < 7) ? "type: bug" : (labels < 8) ? "type: enhancement" : WAITING_FOR_FEEDBACK;
+				Instant labelledAt = createdAt.plus(age.multipliedBy(random.nextInt(100)).dividedBy(100));
+				issue.addLabel(label, labelledAt);
+			}
+			int comments = random.nextInt(6);
+			for (int i = 0; i < comments; i++) {
+				Instant commentedAt = createdAt.plus(age.multipliedBy(random.nextInt(100)).dividedBy(100));
+				issue.comments.add(new FakeComment((random.nextBoolean()) ? COLLABORATOR : user, commentedAt));
+				if (commentedAt.isAfter(issue.updatedAt)) {
+					issue.updatedAt = commentedAt;
+				}
+			}
+			issue.comments.sort(Comparator.comparing((FakeComment comment) -> comment.createdAt));
+			return issue;
+		}
+
+		private void addLabel(String label, Instant time) {
+			if (!this.labels.contains(label)) {
+				this.labels.add(label);
+				this.events.add(new FakeEvent("labeled", label, time));
+				this.updatedAt = time;
+			}
+		}
+
+		private void removeLabel(String label, Instant time) {
+			if (this.labels.remove(label)) {
+				this.events.add(new FakeEvent("unlabeled", label, time));
+				this.updatedAt = time;
+			}
+		}
+
+		private void update(String state, Instant time) {
+			if (state != null && !state.equals(this.state)) {
+				this.state = state;
+				this.events.add(new FakeEvent(("closed".equals(state)) ? "closed" : "reopened", null, time));
+				this.updatedAt = time;
+			}
+		}
+
+		private List<Map<String, Object>> timeline() {
+			List<Map.Entry<Instant, Map<String, Object>>> items = new ArrayList<>();
+			this.events.forEach((event) -> items.add(Map.entry(event.createdAt, event.toJson())));
+			this.comments.forEach((comment) -> {
+				Map<String, Object> json = new LinkedHashMap<>(comment.toJson());
+				json.put("event", "commented");
+				items.add(Map.entry(comment.createdAt, json));
+			});
+			items.sort(Map.Entry.comparingByKey());
+			return items.stream().map(Map.Entry::getValue).toList();
+		}
+
+		private List<Map<String, Object>> labelsJson() {
+			return this.labels.stream().map((label) -> Map.<String, Object>of("name", label)).toList();
+		}
+
+		private Map<String, Object> toJson(String url) {
+			Map<String, Object> json = new LinkedHashMap<>();
+			json.put("url", url);
+			json.put("number", this.number);
+			json.put("title", "Issue " + this.number);
+			json.put("user", Map.of("login", this.user));
+			json.put("labels", labelsJson());
+			json.put("state", this.state);
+			json.put("comments", this.comments.size());
+			json.put("created_at", this.createdAt.toString());
+			json.put("updated_at", this.updatedAt.toString());
+			json.put("comments_url", url + "/comments");
+			json.put("events_url", url + "/events");
+			json.put("labels_url", url + "/labels{/name}");
+			json.put("milestone", null);
+			return json;
+		}
+
+	}
+
+	private static final class FakeComment {
+
+		private final String user;
+
+		private final Instant createdAt;
+
+		private FakeComment(String user, Instant createdAt) {
+			this.user = user;
+			this.createdAt = createdAt;
+		}
+
+		private Map<String, Object> toJson() {
+			return Map.of("user", Map.of("login", this.user), "created_at", this.createdAt.toString(), "body",
+					"Comment");
+		}
+
+	}
+
+	private static final class FakeEvent {
+
+		private final String type;
+
+		private final String label;
+
+		private final Instant createdAt;
+
+		private FakeEvent(String type, String label, Instant createdAt) {
+			this.type = type;
+			this.label = label;
+			this.createdAt = createdAt;
+		}
+
+		private Map<String, Object> toJson() {
+			Map<String, Object> json = new LinkedHashMap<>();
+			json.put("event", this.type);
+			json.put("created_at", this.createdAt.toString());
+			if (this.label != null) {
+				json.put("label", Map.of("name", this.label));
+			}
+			return json;
+		}
+
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link FakeGitHub}, using {@link GitHubTemplate} as the client.
+ *
+ * @author Andy Wilkinson
+ */
+class FakeGitHubTests {
+
+	private final FakeGitHub fake = FakeGitHub.start();
+
+	private final GitHubTemplate gitHub = new GitHubTemplate(this.fake.getApiUrl(), "user", "password",
+			new HttpClientSettings(), new RegexLinkParser());
+
+	@AfterEach
+	void close() {
+		this.fake.close();
+	}
+
+	@Test
+	void issuesArePaginated() {
+		this.fake.addRepository("test", "one", 75);
+		List<Issue> issues = new ArrayList<>();
+		int pages = 0;
+		Page<Issue> page = this.gitHub.getIssues("test", "one");
+		while (page != null) {
+			issues.addAll(page.getContent());
+			pages++;
+			page = page.next();
+		}
+		assertThat(issues).hasSize(75);
+		assertThat(pages).isEqualTo(3);
+		assertThat(this.fake.getRequestCounts()).containsEntry("GET /repos/{owner}/{repo}/issues", 3L);
+	}
+
+	@Test
+	void rateLimitHeadersAreProvided() {
+		this.fake.addRepository("test", "one", 1);
+		this.fake.setRateLimit(100);
+		this.gitHub.getIssues("test", "one");
+		assertThat(this.gitHub.getRateLimit().getLimit()).isEqualTo(100);
+		assertThat(this.gitHub.getRateLimit().getRemaining()).isEqualTo(99);
+	}
+
+	@Test
+	void exhaustedRateLimitIsEnforced() {
+		this.fake.addRepository("test", "one", 1);
+		this.fake.setRateLimit(1);
+		this.gitHub.getIssues("test", "one");
+		assertThatIllegalStateException().isThrownBy(() -> this.gitHub.getIssues("test", "one"))
+			.withMessageContaining("Rate limit exceeded");
+	}
+
+	@Test
+	void labelsCanBeAddedAndRemoved() {
+		this.fake.addRepository("test", "one", 1);
+		Issue issue = this.gitHub.getIssues("test", "one").getContent().get(0);
+		Issue labelled = this.gitHub.addLabel(issue, "status: on hold");
+		assertThat(labelled.getLabels()).extracting(Label::getName).contains("status: on hold");
+		Issue unlabelled = this.gitHub.removeLabel(labelled, "status: on hold");
+		assertThat(unlabelled.getLabels()).extracting(Label::getName).doesNotContain("status: on hold");
+	}
+
+	@Test
+	void timelineCombinesEventsAndComments() {
+		this.fake.addRepository("test", "one", 1);
+		Issue issue = this.gitHub.getIssues("test", "one").getContent().get(0);
+		this.gitHub.addLabel(issue, "status: on hold");
+		this.gitHub.addComment(issue, "Thanks");
+		List<TimelineItem> timeline = this.gitHub.getTimelineNewestFirst(issue).stream().limit(2).toList();
+		assertThat(timeline).extracting(TimelineItem::getType)
+			.containsExactly(TimelineItem.Type.COMMENTED, TimelineItem.Type.LABELED);
+	}
+
+	@Test
+	void issuesCanBeSearchedForByOrganizationAndLabel() {
+		this.fake.addRepository("test", "one", 100);
+		this.fake.addRepository("other", "two", 100);
+		List<Issue> waiting = this.gitHub
+			.searchIssues("org:test label:\"" + FakeGitHub.WAITING_FOR_FEEDBACK + "\" is:open")
+			.stream()
+			.toList();
+		assertThat(waiting).isNotEmpty()
+			.allSatisfy((issue) -> assertThat(issue.getUrl()).contains("/repos/test/one/issues/"))
+			.allSatisfy((issue) -> assertThat(issue.getLabels()).extracting(Label::getName)
+				.contains(FakeGitHub.WAITING_FOR_FEEDBACK));
+	}
+
+	@Test
+	void searchRateLimitIsSeparateFromCoreRateLimit() {
+		this.fake.addRepository("test", "one", 1);
+		this.fake.setSearchRateLimit(10);
+		this.gitHub.getIssues("test", "one");
+		this.gitHub.searchIssues("org:test is:open");
+		assertThat(this.gitHub.getSearchRateLimit("test").getLimit()).isEqualTo(10);
+		assertThat(this.gitHub.getSearchRateLimit("test").getRemaining()).isEqualTo(9);
+		assertThat(this.gitHub.getRateLimit("test").getLimit()).isEqualTo(5000);
+	}
+
+	@Test
+	void closedIssueIsNoLongerListed() {
+		this.fake.addRepository("test", "one", 2);
+		Issue issue = this.gitHub.getIssues("test", "one").getContent().get(0);
+		this.gitHub.close(issue, Issue.ClosureReason.NOT_PLANNED);
+		assertThat(this.gitHub.getIssues("test", "one").getContent()).hasSize(1);
+	}
+
+	@Test
+	void latencyIsInjected() {
+		this.fake.addRepository("test", "one", 1);
+		this.fake.setLatency(Duration.ofMillis(50), Duration.ZERO);
+		this.gitHub.getIssues("test", "one");
+		assertThat(this.fake.getLatencyPercentile(50)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,11 +17,20 @@
 package io.spring.issuebot.github;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import io.spring.issuebot.github.Issue.ClosureReason;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
@@ -35,6 +44,7 @@ import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
@@ -76,6 +86,17 @@ class GitHubTemplateTests {
 		assertThat(issues.next()).isNull();
 	}
 
+	@Test
+	void newestIssuesAreRequestedSortedByCreationTimeDescending() {
+		this.server.expect(requestTo("https://api.github.com/repos/org/repo/issues?sort=created&direction=desc"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(basicAuth())
+			.andRespond(withResource("issues-page-one.json"));
+		Page<Issue> issues = this.gitHub.getNewestIssues("org", "repo");
+		assertThat(issues.getContent()).hasSize(15);
+		assertThat(issues.next()).isNull();
+	}
+
 	@Test
 	void multiplePagesOfIssues() {
 		this.server.expect(requestTo("https://api.github.com/repos/org/repo/issues"))
@@ -110,6 +131,22 @@ class GitHubTemplateTests {
 		assertThat(pageTwo.getContent()).hasSize(15);
 	}
 
+	@Test
+	void largeListingOfIssuesIsRequestedWithLargerPagesNextTime() {
+		this.server.expect(requestTo("https://api.github.com/repos/org/repo/issues"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withResource("issues-page-one.json",
+					"Link:<https://api.github.com/repos/org/repo/issues?page=2>; rel=\"next\", "
+							+ "<https://api.github.com/repos/org/repo/issues?page=4>; rel=\"last\""));
+		this.server.expect(requestTo("https://api.github.com/repos/org/repo/issues?per_page=60"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withResource("issues-page-one.json"));
+		this.gitHub.getIssues("org", "repo");
+		Page<Issue> issues = this.gitHub.getIssues("org", "repo");
+		assertThat(issues.getUrl()).isEqualTo("https://api.github.com/repos/org/repo/issues?per_page=60");
+		this.server.verify();
+	}
+
 	@Test
 	void rateLimited() {
 		long reset = System.currentTimeMillis();
@@ -203,6 +240,12 @@ class GitHubTemplateTests {
 		assertThat(modifiedIssue.getLabels()).isEmpty();
 	}
 
+	@Test
+	void objectMapperRegistersBlackbirdModule() {
+		assertThat(GitHubTemplate.createObjectMapper().getRegisteredModuleIds())
+			.contains(new BlackbirdModule().getTypeId());
+	}
+
 	@Test
 	void addCommentToIssue() {
 		this.server.expect(requestTo("/commentsUrl"))
@@ -215,6 +258,65 @@ class GitHubTemplateTests {
 		assertThat(comment).isNotNull();
 	}
 
+	@Test
+	void apiRequestListenersAreNotifiedOfRequests() {
+		this.server.expect(requestTo("https://api.github.com/repos/org/repo/issues/123/comments"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+		this.server.expect(requestTo("https://api.github.com/repos/org/repo/issues/123/labels/test"))
+			.andExpect(method(HttpMethod.DELETE))
+			.andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+		List<ApiRequest> requests = new ArrayList<>();
+		this.gitHub.addApiRequestListener(requests::add);
+		Issue issue = new Issue("https://api.github.com/repos/org/repo/issues/123",
+				"https://api.github.com/repos/org/repo/issues/123/comments", null,
+				"https://api.github.com/repos/org/repo/issues/123/labels{/name}", null, null, null, null);
+		this.gitHub.getComments(issue);
+		this.gitHub.removeLabel(issue, "test");
+		assertThat(requests).hasSize(2);
+		ApiRequest comments = requests.get(0);
+		assertThat(comments.getMethod()).isEqualTo("GET");
+		assertThat(comments.getOrganization()).isEqualTo("org");
+		assertThat(comments.getRepository()).isEqualTo("repo");
+		assertThat(comments.getIssueNumber()).isEqualTo(123);
+		assertThat(comments.getEndpoint()).isEqualTo("issues/{number}/comments");
+		assertThat(comments.isPage()).isTrue();
+		assertThat(comments.isQuotaConsumed()).isTrue();
+		ApiRequest removeLabel = requests.get(1);
+		assertThat(removeLabel.getMethod()).isEqualTo("DELETE");
+		assertThat(removeLabel.getEndpoint()).isEqualTo("issues/{number}/labels/{name}");
+		assertThat(removeLabel.isPage()).isFalse();
+	}
+
+	@Test
+	void requestsAndPagesAreRecordedAsFlightRecorderEvents(@TempDir Path temp) throws Exception {
+		this.server.expect(requestTo("https://api.github.com/repos/org/repo/issues"))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withResource("issues-page-one.json", "X-RateLimit-Limit:5000", "X-RateLimit-Remaining:4321",
+					"X-RateLimit-Reset:0"));
+		Path file = temp.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("io.spring.issuebot.github.Request");
+			recording.enable("io.spring.issuebot.github.PageParse");
+			recording.start();
+			this.gitHub.getIssues("org", "repo");
+			recording.stop();
+			recording.dump(file);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(eventsNamed(events, "io.spring.issuebot.github.Request"))
+			.extracting((event) -> event.getString("method"), (event) -> event.getString("endpoint"),
+					(event) -> event.getString("organization"), (event) -> event.getInt("status"),
+					(event) -> event.getInt("rateLimitRemaining"))
+			.containsExactly(tuple("GET", "issues", "org", 200, 4321));
+		assertThat(eventsNamed(events, "io.spring.issuebot.github.PageParse"))
+			.singleElement()
+			.satisfies((event) -> {
+				assertThat(event.getInt("items")).isEqualTo(15);
+				assertThat(event.getLong("bytes")).isPositive();
+			});
+	}
+
 	@Test
 	void singlePageOfEvents() {
 		this.server.expect(requestTo("/eventsUrl"))
@@ -243,6 +345,79 @@ class GitHubTemplateTests {
 		assertThat(pageTwo.getContent()).hasSize(4);
 	}
 
+	@Test
+	void timeline() {
+		this.server.expect(requestTo("issueUrl/timeline"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(basicAuth())
+			.andRespond(withResource("timeline.json"));
+		Page<TimelineItem> timeline = this.gitHub
+			.getTimeline(new Issue("issueUrl", null, null, null, null, null, null, null));
+		assertThat(timeline.getContent()).extracting(TimelineItem::getType)
+			.containsExactly(TimelineItem.Type.LABELED, TimelineItem.Type.COMMENTED, TimelineItem.Type.UNLABELED,
+					TimelineItem.Type.OTHER);
+		TimelineItem labeled = timeline.getContent().get(0);
+		assertThat(labeled.getLabel().getName()).isEqualTo("status: waiting-for-feedback");
+		assertThat(labeled.getUser().getLogin()).isEqualTo("wilkinsona");
+		TimelineItem commented = timeline.getContent().get(1);
+		assertThat(commented.getUser().getLogin()).isEqualTo("reporter");
+		assertThat(commented.getCreationTime()).isEqualTo(OffsetDateTime.parse("2022-04-15T08:12:07Z"));
+		assertThat(timeline.next()).isNull();
+	}
+
+	@Test
+	void timelineNewestFirst() {
+		this.server.expect(requestTo("issueUrl/timeline"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(basicAuth())
+			.andRespond(withResource("timeline.json"));
+		Page<TimelineItem> timeline = this.gitHub
+			.getTimelineNewestFirst(new Issue("issueUrl", null, null, null, null, null, null, null));
+		assertThat(timeline.getContent()).extracting(TimelineItem::getType)
+			.containsExactly(TimelineItem.Type.OTHER, TimelineItem.Type.UNLABELED, TimelineItem.Type.COMMENTED,
+					TimelineItem.Type.LABELED);
+		assertThat(timeline.next()).isNull();
+	}
+
+	@Test
+	void multiplePagesOfTimelineNewestFirst() {
+		this.server.expect(requestTo("issueUrl/timeline"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(basicAuth())
+			.andRespond(withResource("timeline.json", "Link:</page-two>; rel=\"next\", </page-two>; rel=\"last\""));
+		this.server.expect(requestTo("/page-two"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(basicAuth())
+			.andRespond(withResource("timeline.json",
+					"Link:<issueUrl/timeline>; rel=\"prev\", <issueUrl/timeline>; rel=\"first\""));
+		Page<TimelineItem> newest = this.gitHub
+			.getTimelineNewestFirst(new Issue("issueUrl", null, null, null, null, null, null, null));
+		assertThat(newest.getContent()).extracting(TimelineItem::getType)
+			.containsExactly(TimelineItem.Type.OTHER, TimelineItem.Type.UNLABELED, TimelineItem.Type.COMMENTED,
+					TimelineItem.Type.LABELED);
+		Page<TimelineItem> oldest = newest.next();
+		assertThat(oldest).isNotNull();
+		assertThat(oldest.getContent()).hasSize(4);
+		assertThat(oldest.next()).isNull();
+		this.server.verify();
+	}
+
+	@Test
+	void searchIssues() {
+		this.server
+			.expect(requestTo("https://api.github.com/search/issues?q=org:test%20label:%22waiting%22%20is:open"
+					+ "&per_page=100"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(basicAuth())
+			.andRespond(withSuccess(
+					"{\"total_count\":1,\"items\":[{\"url\":\"https://api.github.com/repos/test/one/issues/1\"}]}",
+					MediaType.APPLICATION_JSON));
+		Page<Issue> issues = this.gitHub.searchIssues("org:test label:\"waiting\" is:open");
+		assertThat(issues.getContent()).extracting(Issue::getUrl)
+			.containsExactly("https://api.github.com/repos/test/one/issues/1");
+		assertThat(issues.next()).isNull();
+	}
+
 	@Test
 	void closeIssueAsCompleted() {
 		this.server.expect(requestTo("issueUrl"))
@@ -267,6 +442,20 @@ class GitHubTemplateTests {
 		assertThat(closedIssue.getUrl()).isEqualTo("updatedIssueUrl");
 	}
 
+	@Test
+	void connectionPoolIsConfiguredUsingHttpClientSettings() {
+		HttpClientSettings settings = new HttpClientSettings();
+		settings.setMaxConnectionsPerRoute(7);
+		settings.setMaxConnections(21);
+		GitHubTemplate gitHub = new GitHubTemplate("username", "password", settings, new RegexLinkParser());
+		assertThat(gitHub.getConnectionPool().getDefaultMaxPerRoute()).isEqualTo(7);
+		assertThat(gitHub.getConnectionPool().getMaxTotal()).isEqualTo(21);
+	}
+
+	private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+		return events.stream().filter((event) -> event.getEventType().getName().equals(name)).toList();
+	}
+
 	private DefaultResponseCreator withResource(String resource, String... headers) {
 		HttpHeaders httpHeaders = new HttpHeaders();
 		for (String header : headers) {
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.issuebot.MutableClock;
+import io.spring.issuebot.github.InstallationTokens.Installation;
+import io.spring.issuebot.github.InstallationTokens.InstallationToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Tests for {@link InstallationTokens}.
+ *
+ * @author Andy Wilkinson
+ */
+class InstallationTokensTests {
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+	private final AppJwtFactory jwtFactory = mock(AppJwtFactory.class);
+
+	private final RestTemplate rest = new RestTemplate();
+
+	private final MockRestServiceServer server = MockRestServiceServer.bindTo(this.rest).build();
+
+	private final InstallationTokens tokens = new InstallationTokens("https://api.example.com", this.jwtFactory,
+			Duration.ofMinutes(5), this.rest, this.clock);
+
+	@BeforeEach
+	void setUp() {
+		given(this.jwtFactory.getJwt()).willReturn("app-jwt");
+	}
+
+	@Test
+	void tokenIsCreatedUsingOrganizationsInstallation() {
+		expectInstallation("org", 42);
+		expectToken(42, "token-one", "2026-01-01T01:00:00Z");
+		assertThat(this.tokens.getToken("org")).isEqualTo("token-one");
+		this.server.verify();
+	}
+
+	@Test
+	void tokenIsCachedUntilItIsDueToBeRefreshed() {
+		expectInstallation("org", 42);
+		expectToken(42, "token-one", "2026-01-01T01:00:00Z");
+		expectToken(42, "token-two", "2026-01-01T02:00:00Z");
+		assertThat(this.tokens.getToken("org")).isEqualTo("token-one");
+		this.clock.advance(Duration.ofMinutes(54));
+		assertThat(this.tokens.getToken("org")).isEqualTo("token-one");
+		this.clock.advance(Duration.ofMinutes(2));
+		assertThat(this.tokens.getToken("org")).isEqualTo("token-two");
+		this.server.verify();
+	}
+
+	@Test
+	void tokensAreCachedPerOrganization() {
+		expectInstallation("one", 1);
+		expectToken(1, "token-one", "2026-01-01T01:00:00Z");
+		expectInstallation("two", 2);
+		expectToken(2, "token-two", "2026-01-01T01:00:00Z");
+		assertThat(this.tokens.getToken("one")).isEqualTo("token-one");
+		assertThat(this.tokens.getToken("two")).isEqualTo("token-two");
+		assertThat(this.tokens.getToken("one")).isEqualTo("token-one");
+		assertThat(this.tokens.size()).isEqualTo(2);
+		this.server.verify();
+	}
+
+	@Test
+	void creatingATokenDoesNotBlockTheCreationOfAnotherOrganizationsToken() throws Exception {
+		RestOperations rest = mock(RestOperations.class);
+		CountDownLatch slowRequestStarted = new CountDownLatch(1);
+		CountDownLatch slowRequestReleased = new CountDownLatch(1);
+		given(rest.exchange(any(RequestEntity.class), eq(Installation.class))).willAnswer((invocation) -> {
+			RequestEntity<?> request = invocation.getArgument(0);
+			if (request.getUrl().getPath().equals("/orgs/slow/installation")) {
+				slowRequestStarted.countDown();
+				slowRequestReleased.await();
+				return ResponseEntity.ok(new Installation(1));
+			}
+			return ResponseEntity.ok(new Installation(2));
+		});
+		given(rest.exchange(any(RequestEntity.class), eq(InstallationToken.class))).willAnswer((invocation) -> {
+			RequestEntity<?> request = invocation.getArgument(0);
+			String token = "token-" + request.getUrl().getPath().split("/")[3];
+			return ResponseEntity.ok(new InstallationToken(token, Instant.parse("2026-01-01T01:00:00Z")));
+		});
+		InstallationTokens tokens = new InstallationTokens("https://api.example.com", this.jwtFactory,
+				Duration.ofMinutes(5), rest, this.clock);
+		CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> tokens.getToken("slow"));
+		assertThat(slowRequestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(CompletableFuture.supplyAsync(() -> tokens.getToken("fast")).get(5, TimeUnit.SECONDS))
+			.isEqualTo("token-2");
+		slowRequestReleased.countDown();
+		assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+	}
+
+	private void expectInstallation(String organization, long id) {
+		this.server.expect(requestTo("https://api.example.com/orgs/" + organization + "/installation"))
+			.andExpect(method(HttpMethod.GET))
+			.andExpect(header("Authorization", "Bearer app-jwt"))
+			.andRespond(withSuccess("{\"id\":" + id + "}", MediaType.APPLICATION_JSON));
+	}
+
+	private void expectToken(long installationId, String token, String expiresAt) {
+		this.server.expect(requestTo("https://api.example.com/app/installations/" + installationId + "/access_tokens"))
+			.andExpect(method(HttpMethod.POST))
+			.andExpect(header("Authorization", "Bearer app-jwt"))
+			.andRespond(withSuccess("{\"token\":\"" + token + "\",\"expires_at\":\"" + expiresAt + "\"}",
+					MediaType.APPLICATION_JSON));
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Issue}.
+ *
+ * @author Andy Wilkinson
+ */
+class IssueTests {
+
+	private final List<Label> labels = List.of(new Label("type: bug"));
+
+	private final Milestone milestone = new Milestone("1.0.0");
+
+	private final OffsetDateTime createdAt = OffsetDateTime.parse("2026-01-01T00:00:00Z");
+
+	private final OffsetDateTime updatedAt = OffsetDateTime.parse("2026-01-02T00:00:00Z");
+
+	private final Issue issue = new Issue("url", "comments", "events", "labels", new User("alice"), this.labels,
+			this.milestone, null, "open", this.updatedAt, "Title", this.createdAt);
+
+	@Test
+	void withLabelsCopiesIssueWithNewLabels() {
+		List<Label> labels = List.of(new Label("type: enhancement"));
+		Issue copy = this.issue.withLabels(labels);
+		assertThat(copy.getLabels()).isSameAs(labels);
+		assertThat(copy.getMilestone()).isSameAs(this.milestone);
+		assertThatOtherPropertiesAreCopied(copy);
+	}
+
+	@Test
+	void withSameLabelsReturnsIssue() {
+		assertThat(this.issue.withLabels(this.labels)).isSameAs(this.issue);
+	}
+
+	@Test
+	void withMilestoneCopiesIssueWithNewMilestone() {
+		Milestone milestone = new Milestone("2.0.0");
+		Issue copy = this.issue.withMilestone(milestone);
+		assertThat(copy.getMilestone()).isSameAs(milestone);
+		assertThat(copy.getLabels()).isSameAs(this.labels);
+		assertThatOtherPropertiesAreCopied(copy);
+	}
+
+	@Test
+	void withSameMilestoneReturnsIssue() {
+		assertThat(this.issue.withMilestone(this.milestone)).isSameAs(this.issue);
+	}
+
+	@Test
+	void withStateCopiesIssueWithNewState() {
+		Issue copy = this.issue.withState("closed");
+		assertThat(copy.getState()).isEqualTo("closed");
+		assertThat(copy.getLabels()).isSameAs(this.labels);
+	}
+
+	@Test
+	void withEqualStateReturnsIssue() {
+		assertThat(this.issue.withState(new String("open"))).isSameAs(this.issue);
+	}
+
+	private void assertThatOtherPropertiesAreCopied(Issue copy) {
+		assertThat(copy.getUrl()).isEqualTo("url");
+		assertThat(copy.getCommentsUrl()).isEqualTo("comments");
+		assertThat(copy.getEventsUrl()).isEqualTo("events");
+		assertThat(copy.getLabelsUrl()).isEqualTo("labels");
+		assertThat(copy.getUser().getLogin()).isEqualTo("alice");
+		assertThat(copy.getState()).isEqualTo("open");
+		assertThat(copy.getUpdatedAt()).isEqualTo(this.updatedAt);
+		assertThat(copy.getTitle()).isEqualTo("Title");
+		assertThat(copy.getCreatedAt()).isEqualTo(this.createdAt);
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PageSizing}.
+ *
+ * @author Andy Wilkinson
+ */
+class PageSizingTests {
+
+	private static final String ISSUES_URL = "https://api.github.com/repos/org/repo/issues";
+
+	private static final Duration FAST = Duration.ofMillis(100);
+
+	private static final Duration SLOW = Duration.ofSeconds(5);
+
+	private final PageSizing pageSizing = new PageSizing(true, Duration.ofSeconds(2));
+
+	@Test
+	void listingWithNoHistoryUsesDefaultPageSize() {
+		assertThat(this.pageSizing.size(ISSUES_URL)).isEqualTo(ISSUES_URL);
+	}
+
+	@Test
+	void listingThatFitsInDefaultPageSizeUsesDefaultPageSize() {
+		this.pageSizing.record(ISSUES_URL, 12, Collections.emptyMap(), FAST, null);
+		assertThat(this.pageSizing.size(ISSUES_URL)).isEqualTo(ISSUES_URL);
+		assertThat(this.pageSizing.getExpectedItems("issues")).isEqualTo(12.0);
+	}
+
+	@Test
+	void largeListingUsesFewestBalancedPages() {
+		this.pageSizing.record(ISSUES_URL, 30, lastPage(5), FAST, null);
+		assertThat(this.pageSizing.size(ISSUES_URL)).isEqualTo(ISSUES_URL + "?per_page=80");
+	}
+
+	@Test
+	void pageSizeIsAppendedToExistingQuery() {
+		this.pageSizing.record(ISSUES_URL, 30, lastPage(5), FAST, null);
+		assertThat(this.pageSizing.size(ISSUES_URL + "?since=2026-01-01T00:00:00Z"))
+			.isEqualTo(ISSUES_URL + "?since=2026-01-01T00:00:00Z&per_page=80");
+	}
+
+	@Test
+	void pageSizeOfRecordedRequestIsUsedToEstimateListingSize() {
+		this.pageSizing.record(ISSUES_URL + "?per_page=100", 100, lastPage(4), FAST, null);
+		assertThat(this.pageSizing.getExpectedItems("issues")).isEqualTo(400.0);
+		assertThat(this.pageSizing.getPageSize("issues")).isEqualTo(100);
+	}
+
+	@Test
+	void pageSizesAreChosenPerEndpoint() {
+		this.pageSizing.record(ISSUES_URL, 30, lastPage(10), FAST, null);
+		this.pageSizing.record(ISSUES_URL + "/1/comments", 3, Collections.emptyMap(), FAST, null);
+		assertThat(this.pageSizing.getPageSize("issues")).isEqualTo(100);
+		assertThat(this.pageSizing.getPageSize("issues/{number}/comments")).isEqualTo(30);
+	}
+
+	@Test
+	void slowFirstPagesReducePageSize() {
+		this.pageSizing.record(ISSUES_URL, 30, lastPage(34), SLOW, null);
+		assertThat(this.pageSizing.getPageSize("issues")).isEqualTo(50);
+		this.pageSizing.record(ISSUES_URL + "?per_page=50", 50, lastPage(20), SLOW, null);
+		assertThat(this.pageSizing.getPageSize("issues")).isEqualTo(30);
+	}
+
+	@Test
+	void scarceQuotaUsesLargestPageSizeRegardlessOfLatency() {
+		this.pageSizing.record(ISSUES_URL, 30, lastPage(34), SLOW, rateLimit(5000, 100));
+		assertThat(this.pageSizing.getPageSize("issues")).isEqualTo(100);
+	}
+
+	@Test
+	void whenDisabledDefaultPageSizeIsAlwaysUsed() {
+		PageSizing pageSizing = new PageSizing(false, Duration.ofSeconds(2));
+		pageSizing.record(ISSUES_URL, 30, lastPage(10), FAST, null);
+		assertThat(pageSizing.size(ISSUES_URL)).isEqualTo(ISSUES_URL);
+	}
+
+	@Test
+	void pageSizeIsRoundedUpAndLimited() {
+		assertThat(PageSizing.pageSize(31, 100)).isEqualTo(40);
+		assertThat(PageSizing.pageSize(101, 100)).isEqualTo(60);
+		assertThat(PageSizing.pageSize(1000, 50)).isEqualTo(50);
+	}
+
+	private static Map<String, String> lastPage(int page) {
+		return Map.of("next", ISSUES_URL + "?page=2", "last", ISSUES_URL + "?page=" + page);
+	}
+
+	private static RateLimit rateLimit(int limit, int remaining) {
+		MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+		response.getHeaders().set("X-RateLimit-Limit", Integer.toString(limit));
+		response.getHeaders().set("X-RateLimit-Remaining", Integer.toString(remaining));
+		response.getHeaders().set("X-RateLimit-Reset", "0");
+		return RateLimit.from(response);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Page} and {@link PageSpliterator}.
+ *
+ * @author Andy Wilkinson
+ */
+class PageTests {
+
+	private final AtomicInteger retrievals = new AtomicInteger();
+
+	@Test
+	void streamIncludesContentsOfAllPages() {
+		Page<String> page = pages(Arrays.asList("a", "b"), Arrays.asList("c"), Arrays.asList("d", "e"));
+		assertThat(page.stream().collect(Collectors.toList())).containsExactly("a", "b", "c", "d", "e");
+		assertThat(this.retrievals).hasValue(3);
+	}
+
+	@Test
+	void streamSkipsEmptyPages() {
+		Page<String> page = pages(Collections.emptyList(), Arrays.asList("a"), Collections.emptyList());
+		assertThat(page.stream().collect(Collectors.toList())).containsExactly("a");
+	}
+
+	@Test
+	void shortCircuitingOperationStopsRetrievingPages() {
+		Page<String> page = pages(Arrays.asList("a", "b"), Arrays.asList("c", "d"), Arrays.asList("e"));
+		assertThat(page.stream().anyMatch("c"::equals)).isTrue();
+		assertThat(this.retrievals).hasValue(1);
+	}
+
+	@Test
+	void pagesAreNotRetrievedUntilStreamIsConsumed() {
+		Page<String> page = pages(Arrays.asList("a"), Arrays.asList("b"));
+		page.stream().map(String::toUpperCase);
+		assertThat(this.retrievals).hasValue(0);
+	}
+
+	@Test
+	void allIteratesOverContentsOfAllPages() {
+		Page<String> page = pages(Arrays.asList("a", "b"), Arrays.asList("c"));
+		List<String> contents = new ArrayList<>();
+		for (String item : page.all()) {
+			contents.add(item);
+		}
+		assertThat(contents).containsExactly("a", "b", "c");
+	}
+
+	@Test
+	void eachIterationOfAllStartsFromTheFirstPage() {
+		Page<String> page = pages(Arrays.asList("a"), Arrays.asList("b"));
+		Iterable<String> all = page.all();
+		assertThat(all).containsExactly("a", "b");
+		assertThat(all).containsExactly("a", "b");
+	}
+
+	@Test
+	void trySplitHandsOffRemainingContentsOfCurrentPage() {
+		Spliterator<String> spliterator = pages(Arrays.asList("a", "b"), Arrays.asList("c")).spliterator();
+		spliterator.tryAdvance((item) -> assertThat(item).isEqualTo("a"));
+		Spliterator<String> prefix = spliterator.trySplit();
+		assertThat(this.retrievals).hasValue(0);
+		List<String> prefixContents = new ArrayList<>();
+		prefix.forEachRemaining(prefixContents::add);
+		assertThat(prefixContents).containsExactly("b");
+		List<String> remainingContents = new ArrayList<>();
+		spliterator.forEachRemaining(remainingContents::add);
+		assertThat(remainingContents).containsExactly("c");
+	}
+
+	@Test
+	void trySplitReturnsNullWhenExhausted() {
+		Spliterator<String> spliterator = pages(Arrays.asList("a")).spliterator();
+		spliterator.forEachRemaining((item) -> {
+		});
+		assertThat(spliterator.trySplit()).isNull();
+	}
+
+	@Test
+	void estimateSizeAssumesAFurtherPageUntilTheLastPageIsReached() {
+		Spliterator<String> spliterator = pages(Arrays.asList("a", "b"), Arrays.asList("c")).spliterator();
+		assertThat(spliterator.estimateSize()).isEqualTo(4);
+		spliterator.forEachRemaining((item) -> {
+		});
+		assertThat(spliterator.estimateSize()).isZero();
+	}
+
+	@Test
+	void parallelStreamIncludesContentsOfAllPagesInOrder() {
+		Page<String> page = pages(Arrays.asList("a", "b"), Arrays.asList("c", "d"), Arrays.asList("e"));
+		List<String> contents = page.stream().parallel().map(String::toUpperCase).collect(Collectors.toList());
+		assertThat(contents).containsExactly("A", "B", "C", "D", "E");
+	}
+
+	@SafeVarargs
+	private Page<String> pages(List<String>... contents) {
+		return page(contents, 0);
+	}
+
+	private Page<String> page(List<String>[] contents, int index) {
+		if (index >= contents.length) {
+			return null;
+		}
+		return new StandardPage<>("page-" + index, contents[index], () -> {
+			this.retrievals.incrementAndGet();
+			return page(contents, index + 1);
+		});
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.github;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link SingleFlight}.
+ *
+ * @author Andy Wilkinson
+ */
+class SingleFlightTests {
+
+	private final SingleFlight singleFlight = new SingleFlight();
+
+	@Test
+	void concurrentCallsWithTheSameKeyShareTheResultOfOneCall() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> this.singleFlight.execute("key", () -> {
+			calls.incrementAndGet();
+			started.countDown();
+			await(release);
+			return new Object();
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Object> follower = CompletableFuture
+			.supplyAsync(() -> this.singleFlight.execute("key", () -> {
+				calls.incrementAndGet();
+				return new Object();
+			}));
+		awaitCoalesced(1);
+		release.countDown();
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void failureOfLeaderIsSharedWithFollowers() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> this.singleFlight.execute("key", () -> {
+			started.countDown();
+			await(release);
+			throw new IllegalStateException("Failed");
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Exception> follower = CompletableFuture.supplyAsync(() -> {
+			try {
+				this.singleFlight.execute("key", () -> {
+					throw new AssertionError("Follower should not be called");
+				});
+				return null;
+			}
+			catch (RuntimeException ex) {
+				return ex;
+			}
+		});
+		awaitCoalesced(1);
+		release.countDown();
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isInstanceOf(IllegalStateException.class).hasMessage("Failed");
+		assertThat(leader).isCompletedExceptionally();
+	}
+
+	@Test
+	void sequentialCallsWithTheSameKeyAreNotCoalesced() {
+		AtomicInteger calls = new AtomicInteger();
+		this.singleFlight.execute("key", calls::incrementAndGet);
+		this.singleFlight.execute("key", calls::incrementAndGet);
+		assertThat(calls).hasValue(2);
+		assertThat(this.singleFlight.getCoalesced()).isZero();
+	}
+
+	@Test
+	void failedCallIsNotRememberedForLaterCalls() {
+		assertThatIllegalStateException().isThrownBy(() -> this.singleFlight.execute("key", () -> {
+			throw new IllegalStateException();
+		}));
+		assertThat(this.singleFlight.execute("key", () -> "success")).isEqualTo("success");
+	}
+
+	private void awaitCoalesced(long expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (this.singleFlight.getCoalesced() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(this.singleFlight.getCoalesced()).isEqualTo(expected);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
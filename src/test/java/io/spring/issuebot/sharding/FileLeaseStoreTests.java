@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FileLeaseStore}.
+ *
+ * @author Andy Wilkinson
+ */
+class FileLeaseStoreTests extends LeaseStoreTests {
+
+	@TempDir
+	Path directory;
+
+	@Override
+	LeaseStore createStore() {
+		return new FileLeaseStore(this.directory, this.clock);
+	}
+
+	@Test
+	void leaseIsAcquiredByExactlyOneOfManyConcurrentOwners() throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger acquired = new AtomicInteger();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			String owner = "owner-" + i;
+			LeaseStore store = createStore();
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+					if (store.tryAcquire("repository/test/one", owner, Duration.ofMinutes(10))) {
+						acquired.incrementAndGet();
+					}
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertThat(acquired).hasValue(1);
+	}
+
+}
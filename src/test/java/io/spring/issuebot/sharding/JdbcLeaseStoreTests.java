@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.util.UUID;
+
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * Tests for {@link JdbcLeaseStore}.
+ *
+ * @author Andy Wilkinson
+ */
+class JdbcLeaseStoreTests extends LeaseStoreTests {
+
+	@Override
+	LeaseStore createStore() {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		JdbcLeaseStore store = new JdbcLeaseStore(dataSource, "issuebot_lease", this.clock);
+		store.createTableIfNecessary();
+		return store;
+	}
+
+}
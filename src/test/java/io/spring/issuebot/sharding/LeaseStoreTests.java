@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import io.spring.issuebot.MutableClock;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for implementations of {@link LeaseStore}.
+ *
+ * @author Andy Wilkinson
+ */
+abstract class LeaseStoreTests {
+
+	private static final Duration DURATION = Duration.ofMinutes(10);
+
+	final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+	abstract LeaseStore createStore();
+
+	@Test
+	void leaseThatDoesNotExistCanBeAcquired() {
+		LeaseStore store = createStore();
+		assertThat(store.tryAcquire("repository/test/one", "a", DURATION)).isTrue();
+		assertThat(store.getLeases()).singleElement().satisfies((lease) -> {
+			assertThat(lease.getName()).isEqualTo("repository/test/one");
+			assertThat(lease.getOwner()).isEqualTo("a");
+			assertThat(lease.getExpiresAt()).isEqualTo(this.clock.instant().plus(DURATION));
+		});
+	}
+
+	@Test
+	void leaseHeldByAnotherOwnerCannotBeAcquired() {
+		LeaseStore store = createStore();
+		assertThat(store.tryAcquire("repository/test/one", "a", DURATION)).isTrue();
+		assertThat(store.tryAcquire("repository/test/one", "b", DURATION)).isFalse();
+		assertThat(store.getLeases()).singleElement().extracting(Lease::getOwner).isEqualTo("a");
+	}
+
+	@Test
+	void leaseHeldByTheSameOwnerIsRenewed() {
+		LeaseStore store = createStore();
+		assertThat(store.tryAcquire("repository/test/one", "a", DURATION)).isTrue();
+		this.clock.advance(Duration.ofMinutes(5));
+		assertThat(store.tryAcquire("repository/test/one", "a", DURATION)).isTrue();
+		assertThat(store.getLeases()).singleElement()
+			.extracting(Lease::getExpiresAt)
+			.isEqualTo(this.clock.instant().plus(DURATION));
+	}
+
+	@Test
+	void expiredLeaseCanBeAcquiredByAnotherOwner() {
+		LeaseStore store = createStore();
+		assertThat(store.tryAcquire("repository/test/one", "a", DURATION)).isTrue();
+		this.clock.advance(DURATION);
+		assertThat(store.tryAcquire("repository/test/one", "b", DURATION)).isTrue();
+		assertThat(store.getLeases()).singleElement().extracting(Lease::getOwner).isEqualTo("b");
+	}
+
+	@Test
+	void releasedLeaseCanBeAcquiredByAnotherOwner() {
+		LeaseStore store = createStore();
+		assertThat(store.tryAcquire("repository/test/one", "a", DURATION)).isTrue();
+		store.release("repository/test/one", "a");
+		assertThat(store.getLeases()).isEmpty();
+		assertThat(store.tryAcquire("repository/test/one", "b", DURATION)).isTrue();
+	}
+
+	@Test
+	void leaseCannotBeReleasedByAnotherOwner() {
+		LeaseStore store = createStore();
+		assertThat(store.tryAcquire("repository/test/one", "a", DURATION)).isTrue();
+		store.release("repository/test/one", "b");
+		assertThat(store.getLeases()).singleElement().extracting(Lease::getOwner).isEqualTo("a");
+	}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.sharding;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.spring.issuebot.MutableClock;
+import io.spring.issuebot.Repository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RepositorySharding}.
+ *
+ * @author Andy Wilkinson
+ */
+class RepositoryShardingTests {
+
+	private static final Duration LEASE_DURATION = Duration.ofMinutes(10);
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+	private final List<Repository> repositories = repositories(20);
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void unshardedOwnsEveryRepository() {
+		RepositorySharding sharding = RepositorySharding.unsharded(this.clock);
+		assertThat(sharding.claim(this.repositories)).isEqualTo(this.repositories);
+		assertThat(sharding.runIfHeld(this.repositories.get(0), () -> {
+		})).isTrue();
+	}
+
+	@Test
+	void repositoriesAreSharedWithoutOverlap() {
+		List<RepositorySharding> members = List.of(sharding("a"), sharding("b"), sharding("c"));
+		List<List<Repository>> claimed = rebalance(members);
+		assertThat(claimed).allSatisfy((repositories) -> assertThat(repositories).isNotEmpty());
+		assertThatRepositoriesArePartitioned(claimed);
+	}
+
+	@Test
+	void repositoriesAreRebalancedWhenAMemberLeaves() {
+		RepositorySharding a = sharding("a");
+		RepositorySharding b = sharding("b");
+		RepositorySharding c = sharding("c");
+		List<Repository> heldByB = rebalance(List.of(a, b, c)).get(1);
+		b.close();
+		List<List<Repository>> claimed = rebalance(List.of(a, c));
+		assertThatRepositoriesArePartitioned(claimed);
+		assertThat(heldByB).allSatisfy((repository) -> assertThat(b.runIfHeld(repository, () -> {
+		})).isFalse());
+	}
+
+	@Test
+	void repositoriesOfAMemberThatStopsRenewingAreClaimedOnceItsLeasesExpire() {
+		RepositorySharding a = sharding("a");
+		RepositorySharding b = sharding("b");
+		rebalance(List.of(a, b));
+		this.clock.advance(LEASE_DURATION);
+		assertThat(a.claim(this.repositories)).containsExactlyElementsOf(this.repositories);
+	}
+
+	@Test
+	void onlyRepositoriesThatArePreferredAreMovedWhenAMemberJoins() {
+		RepositorySharding a = sharding("a");
+		RepositorySharding b = sharding("b");
+		List<Repository> heldByA = rebalance(List.of(a, b)).get(0);
+		List<Repository> heldByAAfterJoin = rebalance(List.of(a, b, sharding("c"))).get(0);
+		assertThat(heldByA).containsAll(heldByAAfterJoin);
+	}
+
+	@Test
+	void workIsNotPerformedForARepositoryThatIsHeldByAnotherMember() {
+		RepositorySharding a = sharding("a");
+		RepositorySharding b = sharding("b");
+		List<List<Repository>> claimed = rebalance(List.of(a, b));
+		Repository heldByB = claimed.get(1).get(0);
+		assertThat(a.runIfHeld(heldByB, () -> {
+		})).isFalse();
+		assertThat(b.runIfHeld(heldByB, () -> {
+		})).isTrue();
+	}
+
+	@Test
+	void leaseIsRenewedWhenLessThanHalfOfItsDurationRemains() {
+		RepositorySharding a = sharding("a");
+		Repository repository = a.claim(this.repositories).get(0);
+		this.clock.advance(LEASE_DURATION.dividedBy(2).plusSeconds(1));
+		assertThat(a.runIfHeld(repository, () -> {
+		})).isTrue();
+		this.clock.advance(LEASE_DURATION.dividedBy(2));
+		RepositorySharding b = sharding("b");
+		assertThat(b.claim(List.of(repository))).isEmpty();
+	}
+
+	@Test
+	void leaseIsRenewedDuringWorkThatOutlastsIt() {
+		RepositorySharding a = sharding("a");
+		Repository repository = a.claim(this.repositories).get(0);
+		assertThat(a.runIfHeld(repository, () -> {
+			this.clock.advance(LEASE_DURATION.dividedBy(2).plusSeconds(1));
+			assertThat(a.isHeld(repository)).isTrue();
+			this.clock.advance(LEASE_DURATION.dividedBy(2).plusSeconds(1));
+			assertThat(a.isHeld(repository)).isTrue();
+		})).isTrue();
+		RepositorySharding b = sharding("b");
+		assertThat(b.claim(List.of(repository))).isEmpty();
+	}
+
+	@Test
+	void leaseThatExpiresDuringWorkIsNoLongerHeldOnceClaimedByAnotherMember() {
+		RepositorySharding a = sharding("a");
+		Repository repository = a.claim(this.repositories).get(0);
+		assertThat(a.runIfHeld(repository, () -> {
+			this.clock.advance(LEASE_DURATION.plusSeconds(1));
+			assertThat(sharding("b").claim(List.of(repository))).containsExactly(repository);
+			assertThat(a.isHeld(repository)).isFalse();
+		})).isTrue();
+	}
+
+	private RepositorySharding sharding(String instanceId) {
+		return new RepositorySharding(new FileLeaseStore(this.directory, this.clock), instanceId, LEASE_DURATION,
+				this.clock);
+	}
+
+	private List<List<Repository>> rebalance(List<RepositorySharding> members) {
+		List<List<Repository>> claimed = new ArrayList<>();
+		for (int round = 0; round < 3; round++) {
+			claimed.clear();
+			for (RepositorySharding member : members) {
+				claimed.add(member.claim(this.repositories));
+			}
+		}
+		return claimed;
+	}
+
+	private void assertThatRepositoriesArePartitioned(List<List<Repository>> claimed) {
+		Set<Repository> all = new HashSet<>();
+		for (List<Repository> repositories : claimed) {
+			for (Repository repository : repositories) {
+				assertThat(all.add(repository)).isTrue();
+			}
+		}
+		assertThat(all).containsExactlyInAnyOrderElementsOf(this.repositories);
+	}
+
+	private static List<Repository> repositories(int count) {
+		List<Repository> repositories = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Repository repository = new Repository();
+			repository.setOrganization("test");
+			repository.setName("repository-" + i);
+			repositories.add(repository);
+		}
+		return repositories;
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.triage;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import io.spring.issuebot.IssueDispatcher;
+import io.spring.issuebot.MonitoredRepositories;
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.GitHubOperations;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.StandardPage;
+import io.spring.issuebot.sharding.FileLeaseStore;
+import io.spring.issuebot.sharding.RepositorySharding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Tests for {@link NewIssueTriage}.
+ *
+ * @author Andy Wilkinson
+ */
+class NewIssueTriageTests {
+
+	private final OffsetDateTime now = OffsetDateTime.parse("2026-01-01T12:00:00Z");
+
+	private final GitHubOperations gitHub = mock(GitHubOperations.class);
+
+	private final IssueDispatcher issueDispatcher = mock(IssueDispatcher.class);
+
+	private final Repository repository = new Repository();
+
+	private NewIssueTriage newIssueTriage;
+
+	@BeforeEach
+	void setUp() {
+		this.repository.setOrganization("test");
+		this.repository.setName("one");
+		given(this.issueDispatcher.dispatch(any(), any())).willReturn(CompletableFuture.completedFuture(true));
+		this.newIssueTriage = newIssueTriage(RepositorySharding.unsharded(Clock.systemUTC()));
+	}
+
+	@Test
+	void firstRunRecordsTheNewestIssueWithoutTriagingExistingIssues() {
+		given(this.gitHub.getNewestIssues("test", "one"))
+			.willReturn(new StandardPage<>(Arrays.asList(issue(1, 0), issue(2, 5)), () -> null));
+		this.newIssueTriage.triage();
+		verifyNoInteractions(this.issueDispatcher);
+	}
+
+	@Test
+	void issuesCreatedSinceTheNewestIssueSeenAreTriagedWithoutListingOlderPages() {
+		Issue existing = issue(1, 0);
+		given(this.gitHub.getNewestIssues("test", "one"))
+			.willReturn(new StandardPage<>(Collections.singletonList(existing), () -> null));
+		this.newIssueTriage.triage();
+		Issue newer = issue(3, 2);
+		Issue newest = issue(4, 3);
+		given(this.gitHub.getNewestIssues("test", "one"))
+			.willReturn(new StandardPage<>(Arrays.asList(newest, newer), () -> new StandardPage<>(
+					Arrays.asList(existing, issue(2, -1)), () -> fail("Listing should have stopped"))));
+		this.newIssueTriage.triage();
+		verify(this.issueDispatcher).dispatch(this.repository, newest);
+		verify(this.issueDispatcher).dispatch(this.repository, newer);
+		verifyNoMoreInteractions(this.issueDispatcher);
+	}
+
+	@Test
+	void issuesAreNotTriagedAgainByTheNextRun() {
+		given(this.gitHub.getNewestIssues("test", "one"))
+			.willReturn(new StandardPage<>(Collections.singletonList(issue(1, 0)), () -> null));
+		this.newIssueTriage.triage();
+		Issue newer = issue(2, 1);
+		given(this.gitHub.getNewestIssues("test", "one"))
+			.willReturn(new StandardPage<>(Arrays.asList(newer, issue(1, 0)), () -> null));
+		this.newIssueTriage.triage();
+		this.newIssueTriage.triage();
+		verify(this.issueDispatcher).dispatch(this.repository, newer);
+		verifyNoMoreInteractions(this.issueDispatcher);
+	}
+
+	@Test
+	void issuesCreatedInTheSameSecondAsTheNewestIssueSeenAreTriaged() {
+		given(this.gitHub.getNewestIssues("test", "one"))
+			.willReturn(new StandardPage<>(Collections.singletonList(issue(1, 0)), () -> null));
+		this.newIssueTriage.triage();
+		Issue sameSecond = issue(2, 0);
+		given(this.gitHub.getNewestIssues("test", "one"))
+			.willReturn(new StandardPage<>(Arrays.asList(sameSecond, issue(1, 0)), () -> null));
+		this.newIssueTriage.triage();
+		verify(this.issueDispatcher).dispatch(this.repository, sameSecond);
+		verifyNoMoreInteractions(this.issueDispatcher);
+	}
+
+	@Test
+	void repositoriesWhoseLeaseIsNotHeldAreNotListed(@TempDir Path leases) {
+		RepositorySharding sharding = new RepositorySharding(new FileLeaseStore(leases, Clock.systemUTC()), "this",
+				Duration.ofMinutes(10), Clock.systemUTC());
+		newIssueTriage(sharding).triage();
+		verify(this.gitHub, never()).getNewestIssues("test", "one");
+	}
+
+	private NewIssueTriage newIssueTriage(RepositorySharding sharding) {
+		return new NewIssueTriage(this.gitHub, () -> this.issueDispatcher,
+				new MonitoredRepositories(Collections.singletonList(this.repository)), sharding, Duration.ofMinutes(1),
+				true);
+	}
+
+	private Issue issue(int number, int minutesAfterNow) {
+		OffsetDateTime createdAt = this.now.plusMinutes(minutesAfterNow);
+		return new Issue("https://api.github.com/repos/test/one/issues/" + number, null, null, null, null, null, null,
+				null, "open", createdAt, "Issue " + number, createdAt);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2025 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.spring.issuebot.triage;
 import java.util.Arrays;
 import java.util.Collections;
 
+import io.spring.issuebot.MonitoredRepositories;
 import io.spring.issuebot.Repository;
 import io.spring.issuebot.github.Issue;
 import io.spring.issuebot.github.User;
@@ -58,4 +59,16 @@ class OpenedByCollaboratorTriageFilterTests {
 			.isFalse();
 	}
 
+	@Test
+	void openedByCollaboratorAddedByUpdate() {
+		MonitoredRepositories repositories = new MonitoredRepositories(Collections.singletonList(this.repository));
+		TriageFilter filter = new OpenedByCollaboratorTriageFilter(repositories);
+		Issue issue = new Issue(null, null, null, null, new User("Debbie"), null, null, null);
+		assertThat(filter.triaged(this.repository, issue)).isFalse();
+		Repository updated = new Repository();
+		updated.setCollaborators(Arrays.asList("Alice", "Debbie"));
+		repositories.update(Collections.singletonList(updated));
+		assertThat(filter.triaged(this.repository, issue)).isTrue();
+	}
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.triage;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.triage.ShortCircuitingTriageFilter.Mode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link ShortCircuitingTriageFilter}.
+ *
+ * @author Andy Wilkinson
+ */
+class ShortCircuitingTriageFilterTests {
+
+	private final Repository repository = new Repository();
+
+	private final Issue issue = new Issue(null, null, null, null, null, null, null, null);
+
+	@Test
+	void allStopsAtFirstFilterThatDoesNotMatch() {
+		AtomicInteger evaluations = new AtomicInteger();
+		ShortCircuitingTriageFilter filter = new ShortCircuitingTriageFilter(Mode.ALL,
+				Arrays.asList(filter("no", false), filter("counting", (repository, issue) -> {
+					evaluations.incrementAndGet();
+					return true;
+				})), 128);
+		assertThat(filter.triaged(this.repository, this.issue)).isFalse();
+		assertThat(evaluations).hasValue(0);
+	}
+
+	@Test
+	void allMatchesWhenEveryFilterMatches() {
+		ShortCircuitingTriageFilter filter = new ShortCircuitingTriageFilter(Mode.ALL,
+				Arrays.asList(filter("one", true), filter("two", true)), 128);
+		assertThat(filter.triaged(this.repository, this.issue)).isTrue();
+	}
+
+	@Test
+	void anyStopsAtFirstFilterThatMatches() {
+		AtomicInteger evaluations = new AtomicInteger();
+		ShortCircuitingTriageFilter filter = new ShortCircuitingTriageFilter(Mode.ANY,
+				Arrays.asList(filter("yes", true), filter("counting", (repository, issue) -> {
+					evaluations.incrementAndGet();
+					return false;
+				})), 128);
+		assertThat(filter.triaged(this.repository, this.issue)).isTrue();
+		assertThat(evaluations).hasValue(0);
+	}
+
+	@Test
+	void anyDoesNotMatchWhenNoFilterMatches() {
+		ShortCircuitingTriageFilter filter = new ShortCircuitingTriageFilter(Mode.ANY,
+				Arrays.asList(filter("one", false), filter("two", false)), 128);
+		assertThat(filter.triaged(this.repository, this.issue)).isFalse();
+	}
+
+	@Test
+	void decisiveFilterIsMovedAheadOfIndecisiveFilter() {
+		ShortCircuitingTriageFilter filter = new ShortCircuitingTriageFilter(Mode.ALL,
+				Arrays.asList(filter("indecisive", true), filter("decisive", false)), 16);
+		for (int i = 0; i < 16; i++) {
+			filter.triaged(this.repository, this.issue);
+		}
+		assertThat(filter.getFilters()).extracting(MeasuredTriageFilter::getName)
+			.containsExactly("decisive", "indecisive");
+	}
+
+	@Test
+	void filterThatHasNotBeenEvaluatedIsMovedToTheFront() {
+		ShortCircuitingTriageFilter filter = new ShortCircuitingTriageFilter(Mode.ANY,
+				Arrays.asList(filter("first", true), filter("unevaluated", true)), 4);
+		for (int i = 0; i < 4; i++) {
+			filter.triaged(this.repository, this.issue);
+		}
+		assertThat(filter.getFilters()).extracting(MeasuredTriageFilter::getName)
+			.containsExactly("unevaluated", "first");
+	}
+
+	@Test
+	void reorderIntervalMustBeAtLeastOne() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ShortCircuitingTriageFilter(Mode.ALL,
+				Arrays.asList(filter("one", true), filter("two", true)), 0));
+	}
+
+	private MeasuredTriageFilter filter(String name, boolean result) {
+		return filter(name, (repository, issue) -> result);
+	}
+
+	private MeasuredTriageFilter filter(String name, TriageFilter filter) {
+		return new MeasuredTriageFilter(name, filter);
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.issuebot.triage;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.issuebot.Repository;
+import io.spring.issuebot.github.Issue;
+import io.spring.issuebot.github.Label;
+import io.spring.issuebot.github.Milestone;
+import io.spring.issuebot.github.PullRequest;
+import io.spring.issuebot.github.User;
+import io.spring.issuebot.triage.TriageProperties.Rule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link TriageRules}.
+ *
+ * @author Andy Wilkinson
+ */
+class TriageRulesTests {
+
+	private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+
+	private final Repository repository = new Repository();
+
+	private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+	@BeforeEach
+	void setUp() {
+		this.repository.setCollaborators(Arrays.asList("Alice", "Brenda"));
+	}
+
+	@Test
+	void defaultRulesConsiderIssueOpenedByCollaboratorAsTriaged() {
+		assertThat(compile().triaged(this.repository, issue("Alice", null, null, null, null, null))).isTrue();
+	}
+
+	@Test
+	void defaultRulesConsiderLabelledIssueAsTriaged() {
+		assertThat(compile().triaged(this.repository,
+				issue("Debbie", Collections.singletonList(new Label("bug")), null, null, null, null)))
+			.isTrue();
+	}
+
+	@Test
+	void defaultRulesConsiderIssueWithMilestoneAsTriaged() {
+		assertThat(compile().triaged(this.repository,
+				issue("Debbie", Collections.emptyList(), new Milestone("1.0"), null, null, null)))
+			.isTrue();
+	}
+
+	@Test
+	void defaultRulesConsiderIssueOpenedByAnotherUserWithoutLabelsOrMilestoneAsNotTriaged() {
+		TriageRules rules = compile();
+		assertThat(rules.triaged(this.repository, issue("Debbie", Collections.emptyList(), null, null, null, null)))
+			.isFalse();
+		assertThat(rules.getRules()).extracting(MeasuredTriageFilter::getName)
+			.containsExactlyInAnyOrder("opened-by-collaborator", "labelled", "milestoned");
+	}
+
+	@Test
+	void ruleMatchesWhenAllOfItsConditionsAreMet() {
+		Rule rule = rule("dependency-upgrades");
+		rule.setPullRequest(true);
+		rule.setTitle("^Upgrade to ");
+		TriageRules rules = compile(rule);
+		assertThat(rules.triaged(this.repository,
+				issue("Debbie", null, null, new PullRequest("url"), "Upgrade to Jackson 2.19", null)))
+			.isTrue();
+		assertThat(rules.triaged(this.repository, issue("Debbie", null, null, null, "Upgrade to Jackson 2.19", null)))
+			.isFalse();
+		assertThat(rules.triaged(this.repository,
+				issue("Debbie", null, null, new PullRequest("url"), "Polish javadoc", null)))
+			.isFalse();
+	}
+
+	@Test
+	void conditionCanBeNegated() {
+		Rule rule = rule("not-a-pull-request");
+		rule.setPullRequest(false);
+		TriageRules rules = compile(rule);
+		assertThat(rules.triaged(this.repository, issue("Debbie", null, null, null, null, null))).isTrue();
+		assertThat(rules.triaged(this.repository, issue("Debbie", null, null, new PullRequest("url"), null, null)))
+			.isFalse();
+		assertThat(rules.getConditions("not-a-pull-request")).extracting(MeasuredTriageFilter::getName)
+			.containsExactly("not-pull-request");
+	}
+
+	@Test
+	void anyLabelMatchesIssueWithOneOfTheLabels() {
+		Rule rule = rule("typed");
+		rule.setAnyLabel(Arrays.asList("type: bug", "type: enhancement"));
+		TriageRules rules = compile(rule);
+		assertThat(rules.triaged(this.repository, issue("Debbie",
+				Arrays.asList(new Label("status: blocked"), new Label("type: bug")), null, null, null, null)))
+			.isTrue();
+		assertThat(rules.triaged(this.repository,
+				issue("Debbie", Collections.singletonList(new Label("status: blocked")), null, null, null, null)))
+			.isFalse();
+	}
+
+	@Test
+	void ageIsDeterminedUsingTheCreationTimeOfTheIssue() {
+		Rule rule = rule("stale");
+		rule.setMinimumAge(Duration.ofDays(30));
+		TriageRules rules = compile(rule);
+		OffsetDateTime now = OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC);
+		assertThat(rules.triaged(this.repository, issue("Debbie", null, null, null, null, now.minusDays(31))))
+			.isTrue();
+		assertThat(rules.triaged(this.repository, issue("Debbie", null, null, null, null, now.minusDays(29))))
+			.isFalse();
+		assertThat(rules.triaged(this.repository, issue("Debbie", null, null, null, null, null))).isFalse();
+	}
+
+	@Test
+	void statisticsAreRecordedForRulesAndConditions() {
+		Rule rule = rule("collaborator-pull-request");
+		rule.setOpenedByCollaborator(true);
+		rule.setPullRequest(true);
+		TriageRules rules = compile(rule);
+		rules.triaged(this.repository, issue("Alice", null, null, new PullRequest("url"), null, null));
+		rules.triaged(this.repository, issue("Alice", null, null, null, null, null));
+		MeasuredTriageFilter compiledRule = rules.getRules().get(0);
+		assertThat(compiledRule.getEvaluations()).isEqualTo(2);
+		assertThat(compiledRule.getMatches()).isEqualTo(1);
+		assertThat(rules.getConditions("collaborator-pull-request")).extracting(MeasuredTriageFilter::getName)
+			.containsExactly("opened-by-collaborator", "pull-request");
+	}
+
+	@Test
+	void ruleWithoutConditionsIsRejected() {
+		assertThatIllegalStateException().isThrownBy(() -> compile(rule("empty")))
+			.withMessage("Triage rule 'empty' has no conditions");
+	}
+
+	@Test
+	void ruleWithDuplicateNameIsRejected() {
+		Rule one = rule("labelled");
+		one.setLabelled(true);
+		Rule two = rule("labelled");
+		two.setMilestoned(true);
+		assertThatIllegalStateException().isThrownBy(() -> compile(one, two))
+			.withMessage("Triage rule 'labelled' is defined more than once");
+	}
+
+	private TriageRules compile(Rule... rules) {
+		return TriageRules.compile(Arrays.asList(rules), Collections.singletonList(this.repository), 128,
+				this.clock);
+	}
+
+	private Rule rule(String name) {
+		Rule rule = new Rule();
+		rule.setName(name);
+		return rule;
+	}
+
+	private Issue issue(String login, List<Label> labels, Milestone milestone, PullRequest pullRequest, String title,
+			OffsetDateTime createdAt) {
+		return new Issue(null, null, null, null, new User(login), labels, milestone, pullRequest, "open", null, title,
+				createdAt);
+	}
+
+}